@@ -0,0 +1,72 @@
+package poseidon;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+
+import poseidon.exception.PoseidonStorageReadWriteException;
+
+/**
+ * Represents a {@code BatchRunner} object that runs a script of user commands without the GUI, one command per line,
+ * and writes the response to every command to a stream.
+ *
+ * <p>The {@code Poseidon} running the commands is expected to queue its changes rather than write each of them, see
+ * {@link poseidon.storage.WriteBehindStorage}, so that the storage is committed in a single batch every given number
+ * of commands and once more at the end. A "bye" command ends the script early.</p>
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class BatchRunner {
+
+    /** Number of commands run between storage commits when none is given, which leaves a single commit at the end */
+    public static final int COMMIT_AT_END = 0;
+
+    private final Poseidon poseidon;
+    private final int commitInterval;
+
+    /**
+     * Constructs a new {@code BatchRunner} that runs commands with the given {@code Poseidon}.
+     *
+     * @param poseidon {@code Poseidon} running the commands.
+     * @param commitInterval Number of commands run between storage commits, or {@code COMMIT_AT_END}.
+     */
+    public BatchRunner(Poseidon poseidon, int commitInterval) {
+        this.poseidon = poseidon;
+        this.commitInterval = commitInterval;
+    }
+
+    /**
+     * Runs every command read from the given script and writes the responses to the given {@code Writer}, committing
+     * the storage along the way and at the end. Blank lines are skipped.
+     *
+     * @param commands Script of commands, one per line.
+     * @param responses {@code Writer} that the responses are written to, each followed by a blank line.
+     * @return Number of commands run.
+     * @throws IOException If the script couldn't be read or the responses couldn't be written.
+     * @throws PoseidonStorageReadWriteException If the storage couldn't be committed.
+     */
+    public int run(BufferedReader commands, Writer responses) throws IOException, PoseidonStorageReadWriteException {
+        int commandCount = 0;
+        String newCommand;
+        while ((newCommand = commands.readLine()) != null) {
+            if (newCommand.isBlank()) {
+                continue;
+            }
+
+            responses.write(poseidon.run(newCommand));
+            responses.write("\n\n");
+            commandCount++;
+            if (poseidon.isBye(newCommand)) {
+                break;
+            } else if (commitInterval > 0 && commandCount % commitInterval == 0) {
+                poseidon.flush();
+                responses.flush();
+            }
+        }
+
+        poseidon.flush();
+        responses.flush();
+        return commandCount;
+    }
+}
@@ -1,19 +1,66 @@
 package poseidon;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
 import javafx.application.Application;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.storage.WriteBehindStorage;
 
 /**
- * Represents a launcher class to workaround classpath issues.
+ * Represents a launcher class to workaround classpath issues. Also runs a script of commands without the GUI when
+ * given {@code --batch <file> [--commit-every <N>]}.
  *
  * @author Yeluri Ketan
  * @version CS2103T AY21/22 Sem 1 iP
  */
 public class Launcher {
 
+    // Private constants dictating the arguments of the batch mode and the size of its output buffer.
+    private static final String BATCH_OPTION = "--batch";
+    private static final String COMMIT_EVERY_OPTION = "--commit-every";
+    private static final String BATCH_USAGE = "Usage: " + BATCH_OPTION + " <file> [" + COMMIT_EVERY_OPTION + " <N>]";
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
     /**
      * @param args Arguments for the launch of the Application.
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(BATCH_OPTION)) {
+            System.exit(runBatch(args));
+        }
         Application.launch(Main.class, args);
     }
+
+    private static int runBatch(String[] args) {
+        int commitInterval = BatchRunner.COMMIT_AT_END;
+        if (args.length == 4 && args[2].equals(COMMIT_EVERY_OPTION) && args[3].matches("\\d{1,9}")) {
+            commitInterval = Integer.parseInt(args[3]);
+        } else if (args.length != 2) {
+            System.err.println(BATCH_USAGE);
+            return 2;
+        }
+
+        Poseidon poseidon = new Poseidon(WriteBehindStorage.DURABILITY_ON_EXIT, System.err);
+        if (!poseidon.isStorageLoaded()) {
+            return 1;
+        }
+
+        Writer responses = new BufferedWriter(new OutputStreamWriter(System.out, Charset.defaultCharset()),
+                OUTPUT_BUFFER_SIZE);
+        try (BufferedReader commands = Files.newBufferedReader(Paths.get(args[1]), Charset.defaultCharset())) {
+            int commandCount = new BatchRunner(poseidon, commitInterval).run(commands, responses);
+            System.err.println("Ran " + commandCount + " commands from " + args[1] + ".");
+            return 0;
+        } catch (IOException | PoseidonStorageReadWriteException ex) {
+            System.err.println("Batch stopped: " + ex.getMessage());
+            return 1;
+        }
+    }
 }
@@ -1,11 +1,21 @@
 package poseidon;
 
+import java.io.PrintStream;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import poseidon.command.Command;
 import poseidon.exception.PoseidonException;
 import poseidon.exception.PoseidonStorageException;
 import poseidon.exception.PoseidonStorageReadWriteException;
 import poseidon.parser.Parser;
-import poseidon.storage.Storage;
+import poseidon.storage.StorageBackend;
+import poseidon.storage.StorageBatch;
+import poseidon.storage.StorageFactory;
+import poseidon.storage.WriteBehindStorage;
+import poseidon.task.Task;
+import poseidon.tasklist.ConcurrentTaskList;
 import poseidon.tasklist.TaskList;
 import poseidon.ui.Ui;
 
@@ -18,11 +28,30 @@ import poseidon.ui.Ui;
  */
 public class Poseidon {
 
-    /** {@code Storage} object that reads from and writes onto the hard disk  */
-    private Storage storage;
+    /** System property used to select the storage engine, e.g. {@code -Dposeidon.storage=journal} */
+    public static final String STORAGE_PROPERTY = "poseidon.storage";
+
+    /** System property used to select how soon changes reach the disk, e.g. {@code -Dposeidon.durability=on-exit} */
+    public static final String DURABILITY_PROPERTY = "poseidon.durability";
+
+    /** System property used to select whether tasks are built at startup, e.g. {@code -Dposeidon.load=lazy} */
+    public static final String LOAD_PROPERTY = "poseidon.load";
+
+    /** System property used to select the index used by finds, e.g. {@code -Dposeidon.find=trigram-64} */
+    public static final String FIND_PROPERTY = "poseidon.find";
+
+    // Private constants dictating the find index settings, with the cap of the trigram index in MiB.
+    private static final String FIND_TOKEN = "token";
+    private static final Pattern FIND_TRIGRAM_FORMAT = Pattern.compile("(?i)trigram(?:-(\\d{1,6}))?");
+    private static final long DEFAULT_TRIGRAM_INDEX_MEBIBYTES = 64;
+
+    /** {@code StorageBackend} object that reads from and writes onto the hard disk  */
+    private StorageBackend storage;
 
     private String storageLoadExceptionMsg = "";
 
+    private String storageLoadWarningMsg = "";
+
     /** {@code TaskList} object that maintains and updates the list of tasks */
     private TaskList taskList;
 
@@ -33,25 +62,59 @@ public class Poseidon {
      * Constructs a {@code Poseidon} object and initialises the class members.
      */
     public Poseidon() {
+        this(System.getProperty(DURABILITY_PROPERTY, WriteBehindStorage.DURABILITY_SYNC));
+    }
+
+    /**
+     * Constructs a {@code Poseidon} object that writes its changes with the given durability, see
+     * {@link WriteBehindStorage#withDurability}, and initialises the class members.
+     *
+     * @param durability Durability setting.
+     */
+    public Poseidon(String durability) {
+        this(durability, System.out);
+    }
+
+    /**
+     * Constructs a {@code Poseidon} object that writes its changes with the given durability and prints storage load
+     * errors and warnings and find index messages to the given {@code PrintStream}, such as {@code System.err} when
+     * the responses are written to {@code System.out}.
+     *
+     * @param durability Durability setting.
+     * @param diagnostics {@code PrintStream} that diagnostic messages are printed to.
+     */
+    public Poseidon(String durability, PrintStream diagnostics) {
         ui = new Ui();
         try {
-            storage = new Storage();
-            taskList = new TaskList(storage.load());
+            storage = StorageFactory.create(System.getProperty(STORAGE_PROPERTY, StorageFactory.ENGINE_TEXT),
+                    durability);
+            List<Task> tasks = StorageFactory.load(storage,
+                    System.getProperty(LOAD_PROPERTY, StorageFactory.LOAD_EAGER));
+            taskList = new ConcurrentTaskList(tasks, storage.getIdHighWaterMark());
+            storageLoadWarningMsg = storage.takeLoadWarning();
+            if (!storageLoadWarningMsg.isEmpty()) {
+                diagnostics.println(storageLoadWarningMsg);
+            }
+            saveNewIds();
+            configureFindIndex(System.getProperty(FIND_PROPERTY, FIND_TOKEN), diagnostics);
         } catch (PoseidonStorageException | PoseidonStorageReadWriteException ex) {
             storageLoadExceptionMsg = ex.getMessage();
-            System.out.println(storageLoadExceptionMsg);
+            diagnostics.println(storageLoadExceptionMsg);
             storage = null;
-            taskList = new TaskList();
+            taskList = new ConcurrentTaskList();
         }
     }
 
     /**
-     * Returns a {@code String} representation of a welcome message as prepared by {@code Ui} class.
+     * Returns a {@code String} representation of a welcome message as prepared by {@code Ui} class, followed by the
+     * warning about any records skipped while loading the storage.
      *
      * @return {@code String} welcome message.
      */
     public String runWelcome() {
-        return ui.getWelcomeMessage();
+        return storageLoadWarningMsg.isEmpty()
+                ? ui.getWelcomeMessage()
+                : ui.getWelcomeMessage() + "\n\n" + storageLoadWarningMsg;
     }
 
     /**
@@ -85,4 +148,47 @@ public class Poseidon {
     public boolean isBye(String newCommand) {
         return Parser.isParsedBye(newCommand);
     }
+
+    /**
+     * Returns true if the storage was loaded, so that commands can be run.
+     *
+     * @return {@code Boolean} - true if the storage was loaded.
+     */
+    public boolean isStorageLoaded() {
+        return storage != null;
+    }
+
+    /**
+     * Writes every change that is still queued by the storage to the local hard disk.
+     *
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    public void flush() throws PoseidonStorageReadWriteException {
+        if (storage != null) {
+            storage.flush();
+        }
+    }
+
+    private void saveNewIds() throws PoseidonStorageReadWriteException {
+        StorageBatch batch = new StorageBatch();
+        for (int index : taskList.takeUnsavedIdIndexes()) {
+            batch.modify(index, taskList.getTaskStorage(index));
+        }
+        storage.storeBatch(batch);
+    }
+
+    private void configureFindIndex(String findIndex, PrintStream diagnostics) {
+        Matcher trigramMatcher = FIND_TRIGRAM_FORMAT.matcher(findIndex.trim());
+        if (trigramMatcher.matches()) {
+            long maxIndexMebibytes = trigramMatcher.group(1) == null
+                    ? DEFAULT_TRIGRAM_INDEX_MEBIBYTES
+                    : Long.parseLong(trigramMatcher.group(1));
+            taskList.enableTrigramIndex(maxIndexMebibytes << 20);
+            diagnostics.println(taskList.describeFindIndex());
+        } else if (!findIndex.trim().equalsIgnoreCase(FIND_TOKEN)) {
+            diagnostics.println("Unknown find index '" + findIndex + "', using " + FIND_TOKEN + ".\n"
+                    + "Use " + FIND_TOKEN + ", trigram or trigram-N.");
+        }
+    }
 }
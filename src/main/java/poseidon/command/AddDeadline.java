@@ -6,7 +6,7 @@ import java.util.regex.Pattern;
 import poseidon.exception.PoseidonException;
 import poseidon.exception.PoseidonIncorrectCommandFormatException;
 import poseidon.parser.Parser;
-import poseidon.storage.Storage;
+import poseidon.storage.StorageBackend;
 import poseidon.task.Deadline;
 import poseidon.tasklist.TaskList;
 import poseidon.ui.Ui;
@@ -23,8 +23,10 @@ public class AddDeadline extends Command {
     public static final String CMD_USER_FORMAT = "deadline 'description' /by 'yyyy mm dd hhmm'";
 
     // Private constants dictating format of the command represented by this class.
-    private static final String CMD_FORMAT = "(?i)deadline.*";
-    private static final String CMD_VALID_FORMAT = "(?i)(deadline ).*\\S+.*( /by )\\d{4}\\s\\d{2}\\s\\d{2}\\s\\d{4}";
+    private static final Pattern CMD_FORMAT = Pattern.compile("(?i)deadline.*");
+    private static final Pattern CMD_VALID_FORMAT = Pattern.compile(
+            "(?i)(deadline ).*\\S+.*( /by )\\d{4}\\s\\d{2}\\s\\d{2}\\s\\d{4}");
+    private static final Pattern BY_SEPARATOR = Pattern.compile(" /by ", Pattern.LITERAL);
 
     /**
      * Constructs a new {@code AddDeadline} object with the given {@code String}.
@@ -43,19 +45,20 @@ public class AddDeadline extends Command {
      * @return {@code Boolean} - true if the {@code String} matches the command format of this class, else false.
      */
     public static boolean isThisCmd(String cmdContent) {
-        return Pattern.compile(CMD_FORMAT).matcher(cmdContent).matches();
+        return CMD_FORMAT.matcher(cmdContent).matches();
     }
 
     @Override
-    public String execute(Storage storage, TaskList taskList, Ui ui) throws PoseidonException {
-        if (!Pattern.compile(CMD_VALID_FORMAT).matcher(cmdContent).matches()) {
+    public String execute(StorageBackend storage, TaskList taskList, Ui ui) throws PoseidonException {
+        if (!CMD_VALID_FORMAT.matcher(cmdContent).matches()) {
             throw new PoseidonIncorrectCommandFormatException("DEADLINE", CMD_USER_FORMAT);
         }
 
-        String[] strArr = cmdContent.substring(8).split(" /by ", 2);
+        String[] strArr = BY_SEPARATOR.split(cmdContent.substring(8), 2);
         LocalDateTime byDateTime = Parser.parseDateTime(strArr[1]);
         Deadline newDeadline = new Deadline(strArr[0].trim(), byDateTime);
 
+        taskList.assignId(newDeadline);
         storage.storeAdd(newDeadline.toStorage());
         String message = taskList.addTask(newDeadline);
         return ui.showMessage(message);
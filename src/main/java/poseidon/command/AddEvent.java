@@ -6,7 +6,7 @@ import java.util.regex.Pattern;
 import poseidon.exception.PoseidonException;
 import poseidon.exception.PoseidonIncorrectCommandFormatException;
 import poseidon.parser.Parser;
-import poseidon.storage.Storage;
+import poseidon.storage.StorageBackend;
 import poseidon.task.Event;
 import poseidon.tasklist.TaskList;
 import poseidon.ui.Ui;
@@ -23,9 +23,12 @@ public class AddEvent extends Command {
     public static final String CMD_USER_FORMAT = "event 'description' /from 'yyyy mm dd hhmm' to 'yyyy mm dd hhmm'";
 
     // Private constants dictating format of the command represented by this class.
-    private static final String CMD_FORMAT = "(?i)event.*";
-    private static final String CMD_VALID_FORMAT = "(?i)(event ).*\\S+.*( /from )\\d{4}\\s\\d{2}\\s\\d{2}\\s\\d{4}"
-            + "( to )\\d{4}\\s\\d{2}\\s\\d{2}\\s\\d{4}";
+    private static final Pattern CMD_FORMAT = Pattern.compile("(?i)event.*");
+    private static final Pattern CMD_VALID_FORMAT = Pattern.compile(
+            "(?i)(event ).*\\S+.*( /from )\\d{4}\\s\\d{2}\\s\\d{2}\\s\\d{4}"
+            + "( to )\\d{4}\\s\\d{2}\\s\\d{2}\\s\\d{4}");
+    private static final Pattern FROM_SEPARATOR = Pattern.compile(" /from ", Pattern.LITERAL);
+    private static final Pattern TO_SEPARATOR = Pattern.compile(" to ", Pattern.LITERAL);
 
     /**
      * Constructs a new {@code AddEvent} object with the given {@code String}.
@@ -44,17 +47,17 @@ public class AddEvent extends Command {
      * @return {@code Boolean} - true if the {@code String} matches the command format of this class, else false.
      */
     public static boolean isThisCmd(String cmdContent) {
-        return Pattern.compile(CMD_FORMAT).matcher(cmdContent).matches();
+        return CMD_FORMAT.matcher(cmdContent).matches();
     }
 
     @Override
-    public String execute(Storage storage, TaskList taskList, Ui ui) throws PoseidonException {
-        if (!Pattern.compile(CMD_VALID_FORMAT).matcher(cmdContent).matches()) {
+    public String execute(StorageBackend storage, TaskList taskList, Ui ui) throws PoseidonException {
+        if (!CMD_VALID_FORMAT.matcher(cmdContent).matches()) {
             throw new PoseidonIncorrectCommandFormatException("EVENT", CMD_USER_FORMAT);
         }
 
-        String[] strArr = cmdContent.substring(5).split(" /from ", 2);
-        String[] dateTimeArr = strArr[1].split(" to ", 2);
+        String[] strArr = FROM_SEPARATOR.split(cmdContent.substring(5), 2);
+        String[] dateTimeArr = TO_SEPARATOR.split(strArr[1], 2);
 
         LocalDateTime fromDateTime = Parser.parseDateTime(dateTimeArr[0]);
         LocalDateTime toDateTime = Parser.parseDateTime(dateTimeArr[1]);
@@ -68,6 +71,7 @@ public class AddEvent extends Command {
 
         Event newEvent = new Event(strArr[0].trim(), fromDateTime, toDateTime);
 
+        taskList.assignId(newEvent);
         storage.storeAdd(newEvent.toStorage());
         String message = taskList.addTask(newEvent);
         return ui.showMessage(message);
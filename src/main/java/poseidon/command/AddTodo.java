@@ -4,7 +4,7 @@ import java.util.regex.Pattern;
 
 import poseidon.exception.PoseidonException;
 import poseidon.exception.PoseidonIncorrectCommandFormatException;
-import poseidon.storage.Storage;
+import poseidon.storage.StorageBackend;
 import poseidon.task.Todo;
 import poseidon.tasklist.TaskList;
 import poseidon.ui.Ui;
@@ -21,8 +21,8 @@ public class AddTodo extends Command {
     public static final String CMD_USER_FORMAT = "todo 'description'";
 
     // Private constants dictating format of the command represented by this class.
-    private static final String CMD_FORMAT = "(?i)todo.*";
-    private static final String CMD_VALID_FORMAT = "(?i)todo\\s+\\S+.*";
+    private static final Pattern CMD_FORMAT = Pattern.compile("(?i)todo.*");
+    private static final Pattern CMD_VALID_FORMAT = Pattern.compile("(?i)todo\\s+\\S+.*");
 
     /**
      * Constructs a new {@code AddTodo} object with the given {@code String}.
@@ -41,18 +41,19 @@ public class AddTodo extends Command {
      * @return {@code Boolean} - true if the {@code String} matches the command format of this class, else false.
      */
     public static boolean isThisCmd(String cmdContent) {
-        return Pattern.compile(CMD_FORMAT).matcher(cmdContent).matches();
+        return CMD_FORMAT.matcher(cmdContent).matches();
     }
 
     @Override
-    public String execute(Storage storage, TaskList taskList, Ui ui) throws PoseidonException {
-        if (!Pattern.compile(CMD_VALID_FORMAT).matcher(cmdContent).matches()) {
+    public String execute(StorageBackend storage, TaskList taskList, Ui ui) throws PoseidonException {
+        if (!CMD_VALID_FORMAT.matcher(cmdContent).matches()) {
             throw new PoseidonIncorrectCommandFormatException("TODO", CMD_USER_FORMAT);
         }
 
         String todoDescription = cmdContent.substring(4).trim();
         Todo newTodo = new Todo(todoDescription);
 
+        taskList.assignId(newTodo);
         storage.storeAdd(newTodo.toStorage());
         String message = taskList.addTask(newTodo);
         return ui.showMessage(message);
@@ -0,0 +1,57 @@
+package poseidon.command;
+
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
+
+import poseidon.exception.PoseidonException;
+import poseidon.exception.PoseidonIncorrectCommandFormatException;
+import poseidon.parser.Parser;
+import poseidon.storage.StorageBackend;
+import poseidon.tasklist.TaskList;
+import poseidon.ui.Ui;
+
+/**
+ * Represents an {@code At} object that contains all the functionality of a command for finding the {@code Event}s
+ * taking place at a given time.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class At extends Command {
+
+    public static final String CMD_USER_FORMAT = "at 'yyyy mm dd hhmm'";
+
+    // Private constants dictating format of the command represented by this class.
+    private static final Pattern CMD_FORMAT = Pattern.compile("(?i)at(\\s.*)?");
+    private static final Pattern CMD_VALID_FORMAT = Pattern.compile("(?i)at\\s+\\d{4}\\s\\d{2}\\s\\d{2}\\s\\d{4}\\s*");
+
+    /**
+     * Constructs a new {@code At} object with the given {@code String}.
+     *
+     * @param cmdContent {@code String} that contains the content of the command.
+     */
+    public At(String cmdContent) {
+        super(cmdContent);
+    }
+
+    /**
+     * Returns whether the given {@code String} is in the format of the command represented by the class
+     * {@code At} or not.
+     *
+     * @param cmdContent {@code String} that contains the content of the command to be checked.
+     * @return {@code Boolean} - true if the {@code String} matches the command format of this class, else false.
+     */
+    public static boolean isThisCmd(String cmdContent) {
+        return CMD_FORMAT.matcher(cmdContent).matches();
+    }
+
+    @Override
+    public String execute(StorageBackend storage, TaskList taskList, Ui ui) throws PoseidonException {
+        if (!CMD_VALID_FORMAT.matcher(cmdContent).matches()) {
+            throw new PoseidonIncorrectCommandFormatException("AT", CMD_USER_FORMAT);
+        }
+
+        LocalDateTime atDateTime = Parser.parseDateTime(cmdContent.substring(2).trim());
+        return ui.showEventList(taskList.findEventsBetween(atDateTime, atDateTime));
+    }
+}
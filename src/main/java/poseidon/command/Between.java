@@ -0,0 +1,67 @@
+package poseidon.command;
+
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
+
+import poseidon.exception.PoseidonException;
+import poseidon.exception.PoseidonIncorrectCommandFormatException;
+import poseidon.parser.Parser;
+import poseidon.storage.StorageBackend;
+import poseidon.tasklist.TaskList;
+import poseidon.ui.Ui;
+
+/**
+ * Represents a {@code Between} object that contains all the functionality of a command for finding the {@code Event}s
+ * taking place at any time within a given period.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class Between extends Command {
+
+    public static final String CMD_USER_FORMAT = "between 'yyyy mm dd hhmm' and 'yyyy mm dd hhmm'";
+
+    // Private constants dictating format of the command represented by this class.
+    private static final Pattern CMD_FORMAT = Pattern.compile("(?i)between(\\s.*)?");
+    private static final Pattern CMD_VALID_FORMAT = Pattern.compile("(?i)between\\s+\\d{4}\\s\\d{2}\\s\\d{2}\\s\\d{4}"
+            + "( and )\\d{4}\\s\\d{2}\\s\\d{2}\\s\\d{4}\\s*");
+    private static final Pattern AND_SEPARATOR = Pattern.compile(" and ", Pattern.LITERAL);
+
+    /**
+     * Constructs a new {@code Between} object with the given {@code String}.
+     *
+     * @param cmdContent {@code String} that contains the content of the command.
+     */
+    public Between(String cmdContent) {
+        super(cmdContent);
+    }
+
+    /**
+     * Returns whether the given {@code String} is in the format of the command represented by the class
+     * {@code Between} or not.
+     *
+     * @param cmdContent {@code String} that contains the content of the command to be checked.
+     * @return {@code Boolean} - true if the {@code String} matches the command format of this class, else false.
+     */
+    public static boolean isThisCmd(String cmdContent) {
+        return CMD_FORMAT.matcher(cmdContent).matches();
+    }
+
+    @Override
+    public String execute(StorageBackend storage, TaskList taskList, Ui ui) throws PoseidonException {
+        if (!CMD_VALID_FORMAT.matcher(cmdContent).matches()) {
+            throw new PoseidonIncorrectCommandFormatException("BETWEEN", CMD_USER_FORMAT);
+        }
+
+        String[] dateTimeArr = AND_SEPARATOR.split(cmdContent.substring(7).trim(), 2);
+        LocalDateTime fromDateTime = Parser.parseDateTime(dateTimeArr[0]);
+        LocalDateTime toDateTime = Parser.parseDateTime(dateTimeArr[1].trim());
+
+        if (fromDateTime.isAfter(toDateTime)) {
+            throw new PoseidonIncorrectCommandFormatException("BETWEEN", CMD_USER_FORMAT + "\n"
+                    + "The start of the period is after its end.");
+        }
+
+        return ui.showEventList(taskList.findEventsBetween(fromDateTime, toDateTime));
+    }
+}
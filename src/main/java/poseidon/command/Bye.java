@@ -2,7 +2,8 @@ package poseidon.command;
 
 import java.util.regex.Pattern;
 
-import poseidon.storage.Storage;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.storage.StorageBackend;
 import poseidon.tasklist.TaskList;
 import poseidon.ui.Ui;
 
@@ -17,7 +18,7 @@ public class Bye extends Command {
     public static final String CMD_USER_FORMAT = "bye";
 
     // Private constants dictating format of the command represented by this class.
-    private static final String CMD_FORMAT = "(?i)bye\\s*";
+    private static final Pattern CMD_FORMAT = Pattern.compile("(?i)bye\\s*");
 
     /**
      * Constructs a new {@code Bye} object with the given {@code String}.
@@ -36,11 +37,16 @@ public class Bye extends Command {
      * @return {@code Boolean} - true if the {@code String} matches the command format of this class, else false.
      */
     public static boolean isThisCmd(String cmdContent) {
-        return Pattern.compile(CMD_FORMAT).matcher(cmdContent).matches();
+        return CMD_FORMAT.matcher(cmdContent).matches();
     }
 
     @Override
-    public String execute(Storage storage, TaskList taskList, Ui ui) {
+    public String execute(StorageBackend storage, TaskList taskList, Ui ui) {
+        try {
+            storage.flush();
+        } catch (PoseidonStorageReadWriteException ex) {
+            return ui.showException(ex.getMessage());
+        }
         return ui.showGoodbye();
     }
 }
@@ -1,7 +1,7 @@
 package poseidon.command;
 
 import poseidon.exception.PoseidonException;
-import poseidon.storage.Storage;
+import poseidon.storage.StorageBackend;
 import poseidon.tasklist.TaskList;
 import poseidon.ui.Ui;
 
@@ -34,13 +34,13 @@ public abstract class Command {
 
     /**
      * Returns a {@code String} representation of the Bot's response as a result of executing a User command represented
-     * by this class, by making use of the given {@code Storage}, {@code TaskList} and {@code Ui} objects.
+     * by this class, by making use of the given {@code StorageBackend}, {@code TaskList} and {@code Ui} objects.
      *
-     * @param storage {@code Storage} object to be used for writing to a file on the local hard disk.
+     * @param storage {@code StorageBackend} object to be used for saving the {@code Task}s.
      * @param taskList {@code TaskList} object to be used for task list related operations (if any).
      * @param ui {@code Ui} object to be used for crafting messages from the Bot to the User.
      * @return {@code String} reponse message.
      * @throws PoseidonException Exceptions thrown during the execution of the command.
      */
-    public abstract String execute(Storage storage, TaskList taskList, Ui ui) throws PoseidonException;
+    public abstract String execute(StorageBackend storage, TaskList taskList, Ui ui) throws PoseidonException;
 }
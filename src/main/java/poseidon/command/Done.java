@@ -4,26 +4,28 @@ import java.util.regex.Pattern;
 
 import poseidon.exception.PoseidonException;
 import poseidon.exception.PoseidonIncorrectCommandFormatException;
-import poseidon.exception.PoseidonNonExistentTaskException;
 import poseidon.parser.Parser;
-import poseidon.storage.Storage;
+import poseidon.storage.StorageBackend;
+import poseidon.storage.StorageBatch;
 import poseidon.tasklist.TaskList;
 import poseidon.ui.Ui;
 
 /**
- * Represents an {@code Done} object that contains all the functionality of a command for marking a {@code Task} as
- * done in the {@code TaskList}.
+ * Represents an {@code Done} object that contains all the functionality of a command for marking one or many
+ * {@code Task}s as done in the {@code TaskList}, with a single storage write.
  *
  * @author Yeluri Ketan
  * @version CS2103T AY21/22 Sem 1 iP
  */
 public class Done extends Command {
 
-    public static final String CMD_USER_FORMAT = "done 'index'";
+    public static final String CMD_USER_FORMAT = "done 'index' or done #'id', "
+            + "many at once as in done 3,#7,9-20 or done /find 'content'";
 
     // Private constants dictating format of the command represented by this class.
-    private static final String CMD_FORMAT = "(?i)done.*";
-    private static final String CMD_VALID_FORMAT = "(?i)done\\s+\\d+\\s*";
+    private static final Pattern CMD_FORMAT = Pattern.compile("(?i)done.*");
+    private static final Pattern CMD_VALID_FORMAT = Pattern.compile(
+            "(?i)done\\s+" + Parser.TASK_TARGETS_FORMAT + "\\s*");
 
     /**
      * Constructs a new {@code Done} object with the given {@code String}.
@@ -42,25 +44,22 @@ public class Done extends Command {
      * @return {@code Boolean} - true if the {@code String} matches the command format of this class, else false.
      */
     public static boolean isThisCmd(String cmdContent) {
-        return Pattern.compile(CMD_FORMAT).matcher(cmdContent).matches();
+        return CMD_FORMAT.matcher(cmdContent).matches();
     }
 
     @Override
-    public String execute(Storage storage, TaskList taskList, Ui ui) throws PoseidonException {
-        if (!Pattern.compile(CMD_VALID_FORMAT).matcher(cmdContent).matches()) {
+    public String execute(StorageBackend storage, TaskList taskList, Ui ui) throws PoseidonException {
+        if (!CMD_VALID_FORMAT.matcher(cmdContent).matches()) {
             throw new PoseidonIncorrectCommandFormatException("DONE", CMD_USER_FORMAT);
         }
 
-        String indexString = cmdContent.substring(4).trim();
-        int indexInt = Parser.parseIndex(indexString);
-
-        if (!taskList.isIndexValid(indexInt)) {
-            throw new PoseidonNonExistentTaskException();
+        int[] taskIndexes = Parser.parseTaskIndexes(cmdContent.substring(4), taskList);
+        String message = taskList.markTasksDone(taskIndexes);
+        StorageBatch batch = new StorageBatch();
+        for (int taskIndex : taskIndexes) {
+            batch.modify(taskIndex, taskList.getTaskStorage(taskIndex));
         }
-
-        String message = taskList.markTaskDone(indexInt);
-        String taskStorage = taskList.getTaskStorage(indexInt);
-        storage.storeModify(indexInt, taskStorage);
+        storage.storeBatch(batch);
         return ui.showMessage(message);
     }
 }
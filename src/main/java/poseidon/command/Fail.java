@@ -1,6 +1,6 @@
 package poseidon.command;
 
-import poseidon.storage.Storage;
+import poseidon.storage.StorageBackend;
 import poseidon.tasklist.TaskList;
 import poseidon.ui.Ui;
 
@@ -35,7 +35,7 @@ public class Fail extends Command {
     }
 
     @Override
-    public String execute(Storage storage, TaskList taskList, Ui ui) {
+    public String execute(StorageBackend storage, TaskList taskList, Ui ui) {
         return ui.showCommandFail();
     }
 }
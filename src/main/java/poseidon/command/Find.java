@@ -3,7 +3,7 @@ package poseidon.command;
 import java.util.regex.Pattern;
 
 import poseidon.exception.PoseidonIncorrectCommandFormatException;
-import poseidon.storage.Storage;
+import poseidon.storage.StorageBackend;
 import poseidon.tasklist.TaskList;
 import poseidon.ui.Ui;
 
@@ -19,8 +19,8 @@ public class Find extends Command {
     public static final String CMD_USER_FORMAT = "find 'content'";
 
     // Private constants dictating format of the command represented by this class.
-    private static final String CMD_FORMAT = "(?i)find.*";
-    private static final String CMD_VALID_FORMAT = "(?i)find\\s+\\S+.*";
+    private static final Pattern CMD_FORMAT = Pattern.compile("(?i)find.*");
+    private static final Pattern CMD_VALID_FORMAT = Pattern.compile("(?i)find\\s+\\S+.*");
 
     /**
      * Constructs a new {@code Find} object with the given {@code String}.
@@ -39,12 +39,13 @@ public class Find extends Command {
      * @return {@code Boolean} - true if the {@code String} matches the command format of this class, else false.
      */
     public static boolean isThisCmd(String cmdContent) {
-        return Pattern.compile(CMD_FORMAT).matcher(cmdContent).matches();
+        return CMD_FORMAT.matcher(cmdContent).matches();
     }
 
     @Override
-    public String execute(Storage storage, TaskList taskList, Ui ui) throws PoseidonIncorrectCommandFormatException {
-        if (!Pattern.compile(CMD_VALID_FORMAT).matcher(cmdContent).matches()) {
+    public String execute(StorageBackend storage, TaskList taskList, Ui ui)
+            throws PoseidonIncorrectCommandFormatException {
+        if (!CMD_VALID_FORMAT.matcher(cmdContent).matches()) {
             throw new PoseidonIncorrectCommandFormatException("FIND", CMD_USER_FORMAT);
         }
 
@@ -2,7 +2,7 @@ package poseidon.command;
 
 import java.util.regex.Pattern;
 
-import poseidon.storage.Storage;
+import poseidon.storage.StorageBackend;
 import poseidon.tasklist.TaskList;
 import poseidon.ui.Ui;
 
@@ -18,7 +18,7 @@ public class List extends Command {
     public static final String CMD_USER_FORMAT = "list";
 
     // Private constants dictating format of the command represented by this class.
-    private static final String CMD_FORMAT = "(?i)list\\s*";
+    private static final Pattern CMD_FORMAT = Pattern.compile("(?i)list\\s*");
 
     /**
      * Constructs a new {@code List} object with the given {@code String}.
@@ -37,11 +37,11 @@ public class List extends Command {
      * @return {@code Boolean} - true if the {@code String} matches the command format of this class, else false.
      */
     public static boolean isThisCmd(String cmdContent) {
-        return Pattern.compile(CMD_FORMAT).matcher(cmdContent).matches();
+        return CMD_FORMAT.matcher(cmdContent).matches();
     }
 
     @Override
-    public String execute(Storage storage, TaskList taskList, Ui ui) {
+    public String execute(StorageBackend storage, TaskList taskList, Ui ui) {
         return ui.getListMessage(taskList.getList());
     }
 }
@@ -0,0 +1,47 @@
+package poseidon.command;
+
+import java.util.regex.Pattern;
+
+import poseidon.storage.StorageBackend;
+import poseidon.tasklist.TaskList;
+import poseidon.ui.Ui;
+
+/**
+ * Represents a {@code ListPending} object that contains all the functionality of a command for listing the
+ * {@code Task}s in the {@code TaskList} that are not done yet.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class ListPending extends Command {
+
+    public static final String CMD_USER_FORMAT = "list -p";
+
+    // Private constants dictating format of the command represented by this class.
+    private static final Pattern CMD_FORMAT = Pattern.compile("(?i)list\\s*-p\\s*");
+
+    /**
+     * Constructs a new {@code ListPending} object with the given {@code String}.
+     *
+     * @param cmdContent {@code String} that contains the content of the command.
+     */
+    public ListPending(String cmdContent) {
+        super(cmdContent);
+    }
+
+    /**
+     * Returns whether the given {@code String} is in the format of the command represented by the class
+     * {@code ListPending} or not.
+     *
+     * @param cmdContent {@code String} that contains the content of the command to be checked.
+     * @return {@code Boolean} - true if the {@code String} matches the command format of this class, else false.
+     */
+    public static boolean isThisCmd(String cmdContent) {
+        return CMD_FORMAT.matcher(cmdContent).matches();
+    }
+
+    @Override
+    public String execute(StorageBackend storage, TaskList taskList, Ui ui) {
+        return ui.showStatusList(taskList.listTasksByStatus(false), false);
+    }
+}
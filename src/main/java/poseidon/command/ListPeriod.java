@@ -0,0 +1,69 @@
+package poseidon.command;
+
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
+
+import poseidon.exception.PoseidonException;
+import poseidon.exception.PoseidonIncorrectCommandFormatException;
+import poseidon.parser.Parser;
+import poseidon.storage.StorageBackend;
+import poseidon.tasklist.TaskList;
+import poseidon.ui.Ui;
+
+/**
+ * Represents a {@code ListPeriod} object that contains all the functionality of a command for listing the
+ * {@code Deadline}s due and the {@code Event}s starting within a given period, in chronological order.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class ListPeriod extends Command {
+
+    public static final String CMD_USER_FORMAT = "list /from 'yyyy mm dd hhmm' /to 'yyyy mm dd hhmm'";
+
+    // Private constants dictating format of the command represented by this class.
+    private static final Pattern CMD_FORMAT = Pattern.compile("(?i)list\\s+/from(\\s.*)?");
+    private static final Pattern CMD_VALID_FORMAT = Pattern.compile(
+            "(?i)list\\s+/from\\s+\\d{4}\\s\\d{2}\\s\\d{2}\\s\\d{4}"
+            + "(\\s+/to\\s+)\\d{4}\\s\\d{2}\\s\\d{2}\\s\\d{4}\\s*");
+    private static final Pattern TO_SEPARATOR = Pattern.compile("/(?i)to");
+
+    /**
+     * Constructs a new {@code ListPeriod} object with the given {@code String}.
+     *
+     * @param cmdContent {@code String} that contains the content of the command.
+     */
+    public ListPeriod(String cmdContent) {
+        super(cmdContent);
+    }
+
+    /**
+     * Returns whether the given {@code String} is in the format of the command represented by the class
+     * {@code ListPeriod} or not.
+     *
+     * @param cmdContent {@code String} that contains the content of the command to be checked.
+     * @return {@code Boolean} - true if the {@code String} matches the command format of this class, else false.
+     */
+    public static boolean isThisCmd(String cmdContent) {
+        return CMD_FORMAT.matcher(cmdContent).matches();
+    }
+
+    @Override
+    public String execute(StorageBackend storage, TaskList taskList, Ui ui) throws PoseidonException {
+        if (!CMD_VALID_FORMAT.matcher(cmdContent).matches()) {
+            throw new PoseidonIncorrectCommandFormatException("LIST", CMD_USER_FORMAT);
+        }
+
+        String periodString = cmdContent.trim().substring(4).trim().substring(5);
+        String[] dateTimeArr = TO_SEPARATOR.split(periodString, 2);
+        LocalDateTime fromDateTime = Parser.parseDateTime(dateTimeArr[0].trim());
+        LocalDateTime toDateTime = Parser.parseDateTime(dateTimeArr[1].trim());
+
+        if (fromDateTime.isAfter(toDateTime)) {
+            throw new PoseidonIncorrectCommandFormatException("LIST", CMD_USER_FORMAT + "\n"
+                    + "The start of the period is after its end.");
+        }
+
+        return ui.showPeriodList(taskList.listTasksBetween(fromDateTime, toDateTime));
+    }
+}
@@ -0,0 +1,57 @@
+package poseidon.command;
+
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
+
+import poseidon.exception.PoseidonException;
+import poseidon.exception.PoseidonIncorrectCommandFormatException;
+import poseidon.parser.Parser;
+import poseidon.storage.StorageBackend;
+import poseidon.tasklist.TaskList;
+import poseidon.ui.Ui;
+
+/**
+ * Represents a {@code Next} object that contains all the functionality of a command for listing the earliest pending
+ * {@code Deadline}s and {@code Event}s that are due or start from now on.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class Next extends Command {
+
+    public static final String CMD_USER_FORMAT = "next 'count'";
+
+    // Private constants dictating format of the command represented by this class.
+    private static final Pattern CMD_FORMAT = Pattern.compile("(?i)next(\\s.*)?");
+    private static final Pattern CMD_VALID_FORMAT = Pattern.compile("(?i)next\\s+\\d{1,9}\\s*");
+
+    /**
+     * Constructs a new {@code Next} object with the given {@code String}.
+     *
+     * @param cmdContent {@code String} that contains the content of the command.
+     */
+    public Next(String cmdContent) {
+        super(cmdContent);
+    }
+
+    /**
+     * Returns whether the given {@code String} is in the format of the command represented by the class
+     * {@code Next} or not.
+     *
+     * @param cmdContent {@code String} that contains the content of the command to be checked.
+     * @return {@code Boolean} - true if the {@code String} matches the command format of this class, else false.
+     */
+    public static boolean isThisCmd(String cmdContent) {
+        return CMD_FORMAT.matcher(cmdContent).matches();
+    }
+
+    @Override
+    public String execute(StorageBackend storage, TaskList taskList, Ui ui) throws PoseidonException {
+        if (!CMD_VALID_FORMAT.matcher(cmdContent).matches()) {
+            throw new PoseidonIncorrectCommandFormatException("NEXT", CMD_USER_FORMAT);
+        }
+
+        int count = Parser.parseIndex(cmdContent.substring(4));
+        return ui.showNextList(taskList.findNextTasks(LocalDateTime.now(), count));
+    }
+}
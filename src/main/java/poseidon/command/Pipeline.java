@@ -0,0 +1,97 @@
+package poseidon.command;
+
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import poseidon.exception.PoseidonIncorrectCommandFormatException;
+import poseidon.storage.StorageBackend;
+import poseidon.task.Task;
+import poseidon.tasklist.TaskList;
+import poseidon.ui.Ui;
+
+/**
+ * Represents a {@code Pipeline} object that contains all the functionality of a command for listing {@code Task}s
+ * through stages separated by " | ", such as "find report | list -s | first 10".
+ *
+ * <p>Every stage passes a lazy {@code Stream} of {@code Task}s on to the next, and the {@code Task}s are only
+ * rendered once they come out of the last stage, so no list or message is built in between. The first stage reads
+ * from the {@code TaskList}, see {@link TaskList#streamTasks()}, which walks its indexes or, for a
+ * {@code ConcurrentTaskList}, its current snapshot. A "first" stage stops the stages before it early.</p>
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class Pipeline extends Command {
+
+    public static final String CMD_USER_FORMAT = "find 'content' | list -s | first 'count', "
+            + "with any stages of list, list -d, list -p, list -s, find 'content' and first 'count'";
+
+    // Private constants dictating format of the command represented by this class. A '|' only separates stages if
+    // it has spaces on both sides or the keyword of a stage right after it, so "find a|b" is still a plain find.
+    private static final Pattern STAGE_SEPARATOR =
+            Pattern.compile("[ \\t]+\\|[ \\t]+|[ \\t]*\\|[ \\t]*(?=(?i:list|find|first)(?!\\S))");
+    private static final Pattern CMD_FORMAT = Pattern.compile("(?i)(find|list).*(" + STAGE_SEPARATOR + ").*");
+
+    // Private constants dictating format of the stages of the command represented by this class.
+    private static final Pattern LIST_STAGE_FORMAT = Pattern.compile("(?i)list");
+    private static final Pattern LIST_DONE_STAGE_FORMAT = Pattern.compile("(?i)list\\s*-d");
+    private static final Pattern LIST_PENDING_STAGE_FORMAT = Pattern.compile("(?i)list\\s*-p");
+    private static final Pattern SORT_STAGE_FORMAT = Pattern.compile("(?i)list\\s*-s");
+    private static final Pattern FIND_STAGE_FORMAT = Pattern.compile("(?i)find\\s+\\S+.*");
+    private static final Pattern FIRST_STAGE_FORMAT = Pattern.compile("(?i)first\\s+\\d{1,9}");
+
+    /**
+     * Constructs a new {@code Pipeline} object with the given {@code String}.
+     *
+     * @param cmdContent {@code String} that contains the content of the command.
+     */
+    public Pipeline(String cmdContent) {
+        super(cmdContent);
+    }
+
+    /**
+     * Returns whether the given {@code String} is in the format of the command represented by the class
+     * {@code Pipeline} or not.
+     *
+     * @param cmdContent {@code String} that contains the content of the command to be checked.
+     * @return {@code Boolean} - true if the {@code String} matches the command format of this class, else false.
+     */
+    public static boolean isThisCmd(String cmdContent) {
+        return CMD_FORMAT.matcher(cmdContent).matches();
+    }
+
+    @Override
+    public String execute(StorageBackend storage, TaskList taskList, Ui ui)
+            throws PoseidonIncorrectCommandFormatException {
+        Stream<Task> tasks = null;
+        for (String stage : STAGE_SEPARATOR.split(cmdContent, -1)) {
+            tasks = addStage(stage.trim(), tasks, taskList);
+        }
+        return ui.showPipelineList(tasks);
+    }
+
+    // Returns the Stream coming out of the given stage, which reads from the TaskList if there is no stage before it.
+    private static Stream<Task> addStage(String stage, Stream<Task> upstream, TaskList taskList)
+            throws PoseidonIncorrectCommandFormatException {
+        boolean isFirstStage = upstream == null;
+        if (LIST_STAGE_FORMAT.matcher(stage).matches()) {
+            return isFirstStage ? taskList.streamTasks() : upstream;
+        } else if (SORT_STAGE_FORMAT.matcher(stage).matches()) {
+            return isFirstStage ? taskList.streamSortedTasks() : upstream.sorted();
+        } else if (FIND_STAGE_FORMAT.matcher(stage).matches()) {
+            String findContent = stage.substring(4).trim();
+            return isFirstStage
+                    ? taskList.streamFoundTasks(findContent)
+                    : upstream.filter((currTask) -> currTask.hasContent(findContent));
+        } else if (LIST_DONE_STAGE_FORMAT.matcher(stage).matches()
+                || LIST_PENDING_STAGE_FORMAT.matcher(stage).matches()) {
+            boolean isDone = LIST_DONE_STAGE_FORMAT.matcher(stage).matches();
+            return (isFirstStage ? taskList.streamTasks() : upstream)
+                    .filter((currTask) -> currTask.isDone() == isDone);
+        } else if (FIRST_STAGE_FORMAT.matcher(stage).matches()) {
+            int count = Integer.parseInt(stage.substring(5).trim());
+            return (isFirstStage ? taskList.streamTasks() : upstream).limit(count);
+        }
+        throw new PoseidonIncorrectCommandFormatException("PIPELINE", CMD_USER_FORMAT);
+    }
+}
@@ -0,0 +1,180 @@
+package poseidon.parser;
+
+/**
+ * Represents the kind of command that a user input is, as told by its leading keyword. The input is classified in a
+ * single pass: its first letter picks the candidate keywords and the rest of the input is checked against the command
+ * format of the one that matches, without building any object along the way.
+ *
+ * <p>An input is given the same kind as the first {@code isThisCmd} check of the commands that it passes, in the
+ * order tried by {@link Parser#parse}. Keywords are matched ignoring the case of ASCII letters only, and whitespace
+ * and line terminators are those of {@code java.util.regex} without any flags, as in the command formats.</p>
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+enum CommandKeyword {
+    ADD_DEADLINE, ADD_EVENT, ADD_TODO, AT, BETWEEN, BYE, DELETE, DONE, FIND, HELP, LIST, LIST_DONE, LIST_PENDING,
+    LIST_PERIOD, NEXT, PIPELINE, SORT, UNKNOWN;
+
+    /**
+     * Returns the kind of command that the given user input is, or {@code UNKNOWN} if it is none.
+     *
+     * @param cmdContent {@code String} user input.
+     * @return Kind of command.
+     */
+    static CommandKeyword classify(String cmdContent) {
+        if (cmdContent.isEmpty()) {
+            return UNKNOWN;
+        }
+
+        switch (toLowerAscii(cmdContent.charAt(0))) {
+        case 'a':
+            return hasKeyword(cmdContent, 0, "at") && isOptionalArgument(cmdContent, 2) ? AT : UNKNOWN;
+        case 'b':
+            if (hasKeyword(cmdContent, 0, "bye") && isBlank(cmdContent, 3)) {
+                return BYE;
+            }
+            return hasKeyword(cmdContent, 0, "between") && isOptionalArgument(cmdContent, 7) ? BETWEEN : UNKNOWN;
+        case 'd':
+            if (hasKeyword(cmdContent, 0, "deadline") && isSingleLine(cmdContent, 8)) {
+                return ADD_DEADLINE;
+            } else if (hasKeyword(cmdContent, 0, "delete") && isSingleLine(cmdContent, 6)) {
+                return DELETE;
+            }
+            return hasKeyword(cmdContent, 0, "done") && isSingleLine(cmdContent, 4) ? DONE : UNKNOWN;
+        case 'e':
+            return hasKeyword(cmdContent, 0, "event") && isSingleLine(cmdContent, 5) ? ADD_EVENT : UNKNOWN;
+        case 'f':
+            if (!hasKeyword(cmdContent, 0, "find") || !isSingleLine(cmdContent, 4)) {
+                return UNKNOWN;
+            }
+            return hasStageSeparator(cmdContent, 4) ? PIPELINE : FIND;
+        case 'h':
+            return hasKeyword(cmdContent, 0, "help") && isBlank(cmdContent, 4) ? HELP : UNKNOWN;
+        case 'l':
+            if (!hasKeyword(cmdContent, 0, "list")) {
+                return UNKNOWN;
+            }
+            return hasStageSeparator(cmdContent, 4) && isSingleLine(cmdContent, 4)
+                    ? PIPELINE : classifyList(cmdContent, 4);
+        case 'n':
+            return hasKeyword(cmdContent, 0, "next") && isOptionalArgument(cmdContent, 4) ? NEXT : UNKNOWN;
+        case 't':
+            return hasKeyword(cmdContent, 0, "todo") && isSingleLine(cmdContent, 4) ? ADD_TODO : UNKNOWN;
+        default:
+            return UNKNOWN;
+        }
+    }
+
+    private static CommandKeyword classifyList(String cmdContent, int start) {
+        if (isBlank(cmdContent, start)) {
+            return LIST;
+        }
+
+        int optionStart = skipWhitespace(cmdContent, start);
+        if (hasKeyword(cmdContent, optionStart, "/from") && optionStart > start) {
+            return isOptionalArgument(cmdContent, optionStart + 5) ? LIST_PERIOD : UNKNOWN;
+        } else if (optionStart + 1 >= cmdContent.length() || cmdContent.charAt(optionStart) != '-'
+                || !isBlank(cmdContent, optionStart + 2)) {
+            return UNKNOWN;
+        }
+
+        switch (toLowerAscii(cmdContent.charAt(optionStart + 1))) {
+        case 'd':
+            return LIST_DONE;
+        case 'p':
+            return LIST_PENDING;
+        case 's':
+            return SORT;
+        default:
+            return UNKNOWN;
+        }
+    }
+
+    // Whether a '|' from the start on separates pipeline stages, as in [ \t]+\|[ \t]+ or a '|' followed by spaces
+    // and the keyword of a stage.
+    private static boolean hasStageSeparator(String cmdContent, int start) {
+        for (int i = cmdContent.indexOf('|', start); i >= 0; i = cmdContent.indexOf('|', i + 1)) {
+            boolean isSpaced = i > start && isSpaceOrTab(cmdContent.charAt(i - 1))
+                    && i + 1 < cmdContent.length() && isSpaceOrTab(cmdContent.charAt(i + 1));
+            if (isSpaced || isStageKeyword(cmdContent, skipSpacesAndTabs(cmdContent, i + 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isStageKeyword(String cmdContent, int start) {
+        for (String keyword : new String[] {"list", "find", "first"}) {
+            int end = start + keyword.length();
+            if (hasKeyword(cmdContent, start, keyword)
+                    && (end == cmdContent.length() || isWhitespace(cmdContent.charAt(end)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasKeyword(String cmdContent, int start, String keyword) {
+        if (cmdContent.length() - start < keyword.length()) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            if (toLowerAscii(cmdContent.charAt(start + i)) != keyword.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Whether the rest of the input is empty, or whitespace followed by a single line, as in (\s.*)?.
+    private static boolean isOptionalArgument(String cmdContent, int start) {
+        return start == cmdContent.length()
+                || isWhitespace(cmdContent.charAt(start)) && isSingleLine(cmdContent, start + 1);
+    }
+
+    // Whether the rest of the input holds no line terminator, as in .* without DOTALL.
+    private static boolean isSingleLine(String cmdContent, int start) {
+        for (int i = start; i < cmdContent.length(); i++) {
+            char c = cmdContent.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBlank(String cmdContent, int start) {
+        return skipWhitespace(cmdContent, start) == cmdContent.length();
+    }
+
+    private static int skipWhitespace(String cmdContent, int start) {
+        int end = start;
+        while (end < cmdContent.length() && isWhitespace(cmdContent.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private static int skipSpacesAndTabs(String cmdContent, int start) {
+        int end = start;
+        while (end < cmdContent.length() && isSpaceOrTab(cmdContent.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    // Whether the character is a space or a tab, as in [ \t].
+    private static boolean isSpaceOrTab(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    // Whether the character is matched by \s without UNICODE_CHARACTER_CLASS.
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static char toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+}
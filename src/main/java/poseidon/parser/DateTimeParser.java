@@ -0,0 +1,95 @@
+package poseidon.parser;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Represents a parser of the two date and time formats used by Poseidon: "yyyy MM dd HHmm" as entered in commands and
+ * the ISO format of {@code LocalDateTime#toString()} as held in storage.
+ *
+ * <p>A date and time laid out exactly as Poseidon writes it, with its fields in range, is read digit by digit without
+ * building anything but the {@code LocalDateTime}. Anything else is handed to the {@code DateTimeFormatter} of the
+ * format, so that odd but valid values and every error message stay exactly as they were.</p>
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class DateTimeParser {
+
+    // Formatter of the date and time format entered in commands, which is immutable and so shared.
+    private static final DateTimeFormatter COMMAND_FORMATTER = DateTimeFormatter.ofPattern("yyyy MM dd HHmm");
+
+    // Private constants dictating the lengths of the layouts read digit by digit.
+    private static final int COMMAND_LENGTH = "yyyy MM dd HHmm".length();
+    private static final int ISO_MINUTE_LENGTH = "yyyy-MM-ddTHH:mm".length();
+    private static final int ISO_SECOND_LENGTH = "yyyy-MM-ddTHH:mm:ss".length();
+
+    /**
+     * Returns the {@code LocalDateTime} represented by a date and time in the "yyyy MM dd HHmm" format of commands.
+     *
+     * @param dateTime {@code String} version of date and time.
+     * @return {@code LocalDateTime} object.
+     * @throws DateTimeParseException If the date and time couldn't be parsed.
+     */
+    public static LocalDateTime parseCommandDateTime(String dateTime) throws DateTimeParseException {
+        if (dateTime.length() == COMMAND_LENGTH && dateTime.charAt(4) == ' ' && dateTime.charAt(7) == ' '
+                && dateTime.charAt(10) == ' ') {
+            int year = readDigits(dateTime, 0, 4);
+            int month = readDigits(dateTime, 5, 2);
+            int day = readDigits(dateTime, 8, 2);
+            int hour = readDigits(dateTime, 11, 2);
+            int minute = readDigits(dateTime, 13, 2);
+            if (year >= 1 && isValid(year, month, day, hour, minute, 0)) {
+                return LocalDateTime.of(year, month, day, hour, minute);
+            }
+        }
+        return LocalDateTime.parse(dateTime, COMMAND_FORMATTER);
+    }
+
+    /**
+     * Returns the {@code LocalDateTime} represented by a date and time in the ISO format used for storage.
+     *
+     * @param dateTime {@code String} version of date and time.
+     * @return {@code LocalDateTime} object.
+     * @throws DateTimeParseException If the date and time couldn't be parsed.
+     */
+    public static LocalDateTime parseStorageDateTime(String dateTime) throws DateTimeParseException {
+        int length = dateTime.length();
+        if ((length == ISO_MINUTE_LENGTH || length == ISO_SECOND_LENGTH && dateTime.charAt(16) == ':')
+                && dateTime.charAt(4) == '-' && dateTime.charAt(7) == '-' && dateTime.charAt(10) == 'T'
+                && dateTime.charAt(13) == ':') {
+            int year = readDigits(dateTime, 0, 4);
+            int month = readDigits(dateTime, 5, 2);
+            int day = readDigits(dateTime, 8, 2);
+            int hour = readDigits(dateTime, 11, 2);
+            int minute = readDigits(dateTime, 14, 2);
+            int second = length == ISO_SECOND_LENGTH ? readDigits(dateTime, 17, 2) : 0;
+            if (year >= 0 && isValid(year, month, day, hour, minute, second)) {
+                return LocalDateTime.of(year, month, day, hour, minute, second);
+            }
+        }
+        return LocalDateTime.parse(dateTime);
+    }
+
+    // Returns the number made up by the given ASCII digits, or -1 if any of them isn't one.
+    private static int readDigits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static boolean isValid(int year, int month, int day, int hour, int minute, int second) {
+        return month >= 1 && month <= 12 && day >= 1
+                && day <= Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year))
+                && hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && second >= 0 && second <= 59;
+    }
+}
@@ -2,11 +2,13 @@ package poseidon.parser;
 
 import java.time.DateTimeException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.BitSet;
 
 import poseidon.command.AddDeadline;
 import poseidon.command.AddEvent;
 import poseidon.command.AddTodo;
+import poseidon.command.At;
+import poseidon.command.Between;
 import poseidon.command.Bye;
 import poseidon.command.Command;
 import poseidon.command.Delete;
@@ -15,8 +17,15 @@ import poseidon.command.Fail;
 import poseidon.command.Find;
 import poseidon.command.Help;
 import poseidon.command.List;
+import poseidon.command.ListDone;
+import poseidon.command.ListPending;
+import poseidon.command.ListPeriod;
+import poseidon.command.Next;
+import poseidon.command.Pipeline;
 import poseidon.command.Sort;
 import poseidon.exception.PoseidonDateTimeParseException;
+import poseidon.exception.PoseidonNonExistentTaskException;
+import poseidon.tasklist.TaskList;
 
 /**
  * Represents a {@code Parser} object for all parsing related operations.
@@ -26,34 +35,64 @@ import poseidon.exception.PoseidonDateTimeParseException;
  */
 public class Parser {
 
+    /** Prefix that marks the ID of a {@code Task}, rather than its index, in a command */
+    public static final String TASK_ID_PREFIX = "#";
+
+    /**
+     * Regular expression of the targets of a command acting on many {@code Task}s at once: a comma separated list of
+     * indexes, ranges of indexes such as "9-20" and IDs after a '#', or "/find" followed by the content to be found
+     */
+    public static final String TASK_TARGETS_FORMAT =
+            "(/(?i)find\\s+\\S.*|(#\\d+|\\d+(\\s*-\\s*\\d+)?)(\\s*,\\s*(#\\d+|\\d+(\\s*-\\s*\\d+)?))*)";
+
+    // Private constants dictating the targets of a command acting on many Tasks at once.
+    private static final String FIND_TARGET_PREFIX = "/find";
+    private static final int MAX_INDEX_DIGITS = 9;
+
     /**
-     * Returns a {@code Command} that represents the user command to be executed.
+     * Returns a {@code Command} that represents the user command to be executed. The command is told apart by its
+     * leading keyword in a single pass, see {@link CommandKeyword}.
      *
      * @param newCommand {@code String} version of a command.
      * @return {@code Command} containing the user input.
      */
     public static Command parse(String newCommand) {
-        if (AddDeadline.isThisCmd(newCommand)) {
+        switch (CommandKeyword.classify(newCommand)) {
+        case ADD_DEADLINE:
             return new AddDeadline(newCommand);
-        } else if (AddEvent.isThisCmd(newCommand)) {
+        case ADD_EVENT:
             return new AddEvent(newCommand);
-        } else if (AddTodo.isThisCmd(newCommand)) {
+        case ADD_TODO:
             return new AddTodo(newCommand);
-        } else if (Bye.isThisCmd(newCommand)) {
+        case AT:
+            return new At(newCommand);
+        case BETWEEN:
+            return new Between(newCommand);
+        case BYE:
             return new Bye(newCommand);
-        } else if (Delete.isThisCmd(newCommand)) {
+        case DELETE:
             return new Delete(newCommand);
-        } else if (Done.isThisCmd(newCommand)) {
+        case DONE:
             return new Done(newCommand);
-        } else if (Find.isThisCmd(newCommand)) {
+        case FIND:
             return new Find(newCommand);
-        } else if (Help.isThisCmd(newCommand)) {
+        case HELP:
             return new Help(newCommand);
-        } else if (List.isThisCmd(newCommand)) {
+        case LIST:
             return new List(newCommand);
-        } else if (Sort.isThisCmd(newCommand)) {
+        case LIST_DONE:
+            return new ListDone(newCommand);
+        case LIST_PENDING:
+            return new ListPending(newCommand);
+        case LIST_PERIOD:
+            return new ListPeriod(newCommand);
+        case NEXT:
+            return new Next(newCommand);
+        case PIPELINE:
+            return new Pipeline(newCommand);
+        case SORT:
             return new Sort(newCommand);
-        } else {
+        default:
             return new Fail(newCommand);
         }
     }
@@ -66,13 +105,8 @@ public class Parser {
      * @throws PoseidonDateTimeParseException Exceptions that occur during parsing of the date and time {@code String}.
      */
     public static LocalDateTime parseDateTime(String dateTime) throws PoseidonDateTimeParseException {
-        final String dateFormat = "yyyy MM dd HHmm";
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateFormat);
-        LocalDateTime deadlineDT;
-
         try {
-            deadlineDT = LocalDateTime.parse(dateTime, formatter);
-            return deadlineDT;
+            return DateTimeParser.parseCommandDateTime(dateTime);
         } catch (DateTimeException ex) {
             throw new PoseidonDateTimeParseException(ex.getMessage());
         }
@@ -88,6 +122,59 @@ public class Parser {
         return Integer.parseInt(intString.trim());
     }
 
+    /**
+     * Returns the index of the {@code Task} referred to by a {@code String}, which is either its index or its ID
+     * after a '#'. An ID that no {@code Task} holds gives 0, which is never a valid index.
+     *
+     * @param taskString {@code String} version of the index or ID of a {@code Task}.
+     * @param taskList {@code TaskList} holding the {@code Task}.
+     * @return Index of the {@code Task}, or 0.
+     */
+    public static int parseTaskIndex(String taskString, TaskList taskList) {
+        String trimmedString = taskString.trim();
+        if (trimmedString.startsWith(TASK_ID_PREFIX)) {
+            return taskList.findIndexById(parseIndex(trimmedString.substring(TASK_ID_PREFIX.length())));
+        }
+        return parseIndex(trimmedString);
+    }
+
+    /**
+     * Returns the indexes of all the {@code Task}s referred to by the targets of a command, see
+     * {@link #TASK_TARGETS_FORMAT}, in ascending order and without repeats. Every target is resolved before any
+     * {@code Task} is changed, so a single target that doesn't exist leaves the whole command undone.
+     *
+     * @param targets {@code String} version of the targets, in the format of {@code TASK_TARGETS_FORMAT}.
+     * @param taskList {@code TaskList} holding the {@code Task}s.
+     * @return Ascending indexes of the {@code Task}s.
+     * @throws PoseidonNonExistentTaskException If a target doesn't exist or "/find" matches no {@code Task}.
+     */
+    public static int[] parseTaskIndexes(String targets, TaskList taskList) throws PoseidonNonExistentTaskException {
+        String trimmedTargets = targets.trim();
+        BitSet taskIndexes = new BitSet();
+        if (trimmedTargets.regionMatches(true, 0, FIND_TARGET_PREFIX, 0, FIND_TARGET_PREFIX.length())) {
+            String findContent = trimmedTargets.substring(FIND_TARGET_PREFIX.length()).trim();
+            for (int foundIndex : taskList.findTaskIndexes(findContent)) {
+                taskIndexes.set(foundIndex);
+            }
+            if (taskIndexes.isEmpty()) {
+                throw new PoseidonNonExistentTaskException();
+            }
+            return taskIndexes.stream().toArray();
+        }
+
+        for (String target : trimmedTargets.split(",")) {
+            int rangeSeparator = target.indexOf('-');
+            int firstIndex = parseTarget(rangeSeparator < 0 ? target : target.substring(0, rangeSeparator), taskList);
+            int lastIndex = rangeSeparator < 0 ? firstIndex : parseTarget(target.substring(rangeSeparator + 1),
+                    taskList);
+            if (!taskList.isIndexValid(firstIndex) || !taskList.isIndexValid(lastIndex)) {
+                throw new PoseidonNonExistentTaskException();
+            }
+            taskIndexes.set(Math.min(firstIndex, lastIndex), Math.max(firstIndex, lastIndex) + 1);
+        }
+        return taskIndexes.stream().toArray();
+    }
+
     /**
      * Returns true if the given user {@code String} input is a valid "bye" command by pattern matching.
      *
@@ -95,6 +182,13 @@ public class Parser {
      * @return {@code Boolean} validation result.
      */
     public static boolean isParsedBye(String newCommand) {
-        return Bye.isThisCmd(newCommand);
+        return CommandKeyword.classify(newCommand) == CommandKeyword.BYE;
+    }
+
+    // Returns the index of a single target, or 0 if it has too many digits to be the index or ID of any Task.
+    private static int parseTarget(String target, TaskList taskList) {
+        String trimmedTarget = target.trim();
+        int digitCount = trimmedTarget.length() - (trimmedTarget.startsWith(TASK_ID_PREFIX) ? 1 : 0);
+        return digitCount > MAX_INDEX_DIGITS ? 0 : parseTaskIndex(trimmedTarget, taskList);
     }
 }
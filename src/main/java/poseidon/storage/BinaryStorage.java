@@ -0,0 +1,463 @@
+package poseidon.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import poseidon.exception.PoseidonStorageException;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.parser.DateTimeParser;
+import poseidon.task.Deadline;
+import poseidon.task.Event;
+import poseidon.task.Task;
+import poseidon.task.Todo;
+
+/**
+ * Represents a {@code BinaryStorage} object that keeps the {@code Task}s in a compact binary file, so that loading
+ * doesn't need to split lines or parse date and time text.
+ *
+ * <p>The file starts with a magic number, a format version and the ID high-water mark, see
+ * {@link #getIdHighWaterMark()}. Every record that follows holds a type byte, a done byte, the ID of the {@code Task}
+ * (0 if it has none), its date and times as minutes since the epoch (one for a {@code Deadline}, two for an
+ * {@code Event}) and finally its description as length-prefixed UTF-8. Files of the first version, whose header has
+ * no mark and whose records have no ID, are upgraded when opened.</p>
+ *
+ * <p>New records are appended and a changed done status is written in place as a single byte. Any other change
+ * rewrites the whole file through a temporary file that is moved over it, so that a crash leaves either the old or
+ * the new records. The file is read into the heap rather than mapped, and its channel is closed before the move, as
+ * a file that is still open or mapped cannot be replaced on every platform.</p>
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class BinaryStorage extends Storage {
+
+    /** Magic number at the start of every binary storage file, "PSDN" in ASCII */
+    public static final int MAGIC = 0x5053444E;
+
+    /** Version of the binary storage format written by this class */
+    public static final short VERSION = 2;
+
+    // Private constants dictating the first version of the format, whose header has no mark and records have no ID.
+    private static final short VERSION_WITHOUT_IDS = 1;
+    private static final int HEADER_SIZE_WITHOUT_IDS = 6;
+
+    // Private constants dictating the layout of the file.
+    private static final int HEADER_SIZE = 10;
+    private static final int ID_MARK_OFFSET = 6;
+    private static final byte DONE_TRUE = 1;
+    private static final byte DONE_FALSE = 0;
+    private static final int DONE_OFFSET = 1;
+
+    private final Path binaryPath;
+    private FileChannel binaryChannel;
+    private final ArrayList<Long> offsets = new ArrayList<>();
+    private long fileEnd;
+    private int idHighWaterMark;
+    private boolean isIndexed = false;
+
+    /**
+     * Constructs a {@code BinaryStorage} object that keeps its file next to the default storage document.
+     *
+     * @throws PoseidonStorageException For exceptions that occur when accessing/creating a file for storage
+     * on the local hard disk.
+     */
+    public BinaryStorage() throws PoseidonStorageException {
+        this(Paths.get("data", "taskData.txt"));
+    }
+
+    /**
+     * Constructs a {@code BinaryStorage} object that keeps its file next to the given storage document. If no binary
+     * file exists yet, the storage document is converted into one.
+     *
+     * @param taskDataPath {@code Path} of the storage document used to name and seed the binary file.
+     * @throws PoseidonStorageException For exceptions that occur when accessing/creating a file for storage
+     * on the local hard disk.
+     */
+    public BinaryStorage(Path taskDataPath) throws PoseidonStorageException {
+        super(taskDataPath);
+        String baseName = taskDataPath.getFileName().toString().replaceFirst("\\.txt$", "");
+        binaryPath = taskDataPath.resolveSibling(baseName + ".bin");
+
+        try {
+            if (!Files.exists(binaryPath)) {
+                convertFromText(taskDataPath, binaryPath);
+            } else {
+                upgradeFromVersionWithoutIds(binaryPath);
+            }
+            binaryChannel = new RandomAccessFile(binaryPath.toFile(), "rw").getChannel();
+        } catch (IOException | PoseidonStorageReadWriteException ex) {
+            throw new PoseidonStorageException("Couldn't access/create necessary file to store tasks.\n"
+                    + ex.getMessage());
+        }
+    }
+
+    /**
+     * Converts the tab-separated storage document at the given {@code Path} into a binary storage file. The binary
+     * file is written in full to a temporary file first and then moved into place, so a crash never leaves it half
+     * written.
+     *
+     * @param textPath {@code Path} of the tab-separated storage document to be read.
+     * @param binaryPath {@code Path} of the binary storage file to be written.
+     * @throws PoseidonStorageException For exceptions that occur when accessing the storage document.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of either file.
+     */
+    public static void convertFromText(Path textPath, Path binaryPath)
+            throws PoseidonStorageException, PoseidonStorageReadWriteException {
+        Storage textStorage = new Storage(textPath);
+        ArrayList<Task> tasks = textStorage.load();
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putShort(VERSION)
+                .putInt(textStorage.getIdHighWaterMark());
+        records.write(header.array(), 0, HEADER_SIZE);
+        for (Task task : tasks) {
+            ByteBuffer record = encodeRecord(task.toStorage());
+            records.write(record.array(), 0, record.limit());
+        }
+        try {
+            writeAtomically(binaryPath, records.toByteArray());
+        } catch (IOException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        }
+    }
+
+    /**
+     * Returns a {@code ArrayList} containing all the {@code Task}s in the binary file and rebuilds the offset index of
+     * their records along the way.
+     *
+     * @return {@code ArrayList} containing all the saved {@code Task}s.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public synchronized ArrayList<Task> load() throws PoseidonStorageReadWriteException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        offsets.clear();
+        isIndexed = true;
+
+        try {
+            fileEnd = binaryChannel.size();
+            ByteBuffer records = readFile();
+            if (fileEnd < HEADER_SIZE || records.getInt() != MAGIC || records.getShort() != VERSION) {
+                throw new PoseidonStorageReadWriteException("Unsupported format of the binary storage file.");
+            }
+            idHighWaterMark = records.getInt();
+            while (records.hasRemaining()) {
+                offsets.add((long) records.position());
+                tasks.add(decodeRecord(records, VERSION));
+            }
+        } catch (BufferUnderflowException ex) {
+            throw new PoseidonStorageReadWriteException("Following errors found during loading:\n\n"
+                    + "Truncated record at byte " + offsets.get(offsets.size() - 1) + ".\n");
+        } catch (IOException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns all the saved {@code Task}s, as the records of this engine aren't paged through, see {@link #load()}.
+     *
+     * @param liveTaskLimit Unused.
+     * @return {@code List} containing all the saved {@code Task}s.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public List<Task> loadPaged(int liveTaskLimit) throws PoseidonStorageReadWriteException {
+        return load();
+    }
+
+    @Override
+    public synchronized int getIdHighWaterMark() {
+        return idHighWaterMark;
+    }
+
+    /**
+     * Appends a record for every {@code Task} in the given storage {@code String} to the binary file.
+     *
+     * @param taskStorage Storage {@code String} version of the new {@code Task}.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public synchronized void storeAdd(String taskStorage) throws PoseidonStorageReadWriteException {
+        ensureIndexed();
+        try {
+            for (String line : taskStorage.split("\n")) {
+                if (!line.isEmpty()) {
+                    ByteBuffer record = encodeRecord(line);
+                    offsets.add(fileEnd);
+                    fileEnd += binaryChannel.write(record, fileEnd);
+                }
+            }
+        } catch (IOException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        }
+    }
+
+    /**
+     * Writes the done byte of the {@code Task} at the given index in place, or splices in a new record if anything
+     * other than the done status changed.
+     *
+     * @param index Index of the {@code Task} to be modified.
+     * @param taskStorage Storage {@code String} version of the modified {@code Task}.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public synchronized void storeModify(int index, String taskStorage) throws PoseidonStorageReadWriteException {
+        ensureIndexed();
+        long offset = offsets.get(index - 1);
+        ByteBuffer newRecord = encodeRecord(taskStorage.trim());
+
+        try {
+            ByteBuffer oldRecord = ByteBuffer.allocate((int) (recordEnd(index - 1) - offset));
+            binaryChannel.read(oldRecord, offset);
+            oldRecord.put(DONE_OFFSET, newRecord.get(DONE_OFFSET));
+            if (oldRecord.flip().equals(newRecord)) {
+                binaryChannel.write(ByteBuffer.wrap(new byte[] {newRecord.get(DONE_OFFSET)}), offset + DONE_OFFSET);
+            } else {
+                splice(index - 1, newRecord, idHighWaterMark);
+            }
+        } catch (IOException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        }
+    }
+
+    /**
+     * Removes the record of the {@code Task} at the given index by rewriting the file without it, with the ID
+     * high-water mark in the header raised to the ID of the {@code Task}.
+     *
+     * @param index Index of the deleted {@code Task}.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public synchronized void storeDelete(int index) throws PoseidonStorageReadWriteException {
+        ensureIndexed();
+        try {
+            ByteBuffer id = ByteBuffer.allocate(Integer.BYTES);
+            binaryChannel.read(id, offsets.get(index - 1) + 2);
+            int newIdHighWaterMark = Math.max(idHighWaterMark, id.getInt(0));
+            splice(index - 1, ByteBuffer.allocate(0), newIdHighWaterMark);
+            offsets.remove(index - 1);
+            idHighWaterMark = newIdHighWaterMark;
+        } catch (IOException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        }
+    }
+
+    /**
+     * Applies the given changes to the records in memory and then replaces the file with the new records once,
+     * instead of rewriting it once per change.
+     *
+     * @param mutations {@code StorageMutation}s to be applied.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public synchronized void storeBatch(List<StorageMutation> mutations) throws PoseidonStorageReadWriteException {
+        ensureIndexed();
+        try {
+            ByteBuffer oldRecordData = readFile();
+            ArrayList<ByteBuffer> newRecords = new ArrayList<>();
+            int newIdHighWaterMark = idHighWaterMark;
+            for (int i = 0; i < offsets.size(); i++) {
+                newRecords.add(oldRecordData.duplicate().limit((int) recordEnd(i)).position(offsets.get(i).intValue())
+                        .slice());
+            }
+
+            for (StorageMutation mutation : mutations) {
+                switch (mutation.getType()) {
+                case ADD:
+                    for (String line : mutation.getTaskStorage().split("\n")) {
+                        if (!line.isEmpty()) {
+                            newRecords.add(encodeRecord(line));
+                        }
+                    }
+                    break;
+                case MODIFY:
+                    newRecords.set(mutation.getIndex() - 1, encodeRecord(mutation.getTaskStorage()));
+                    break;
+                case DELETE:
+                    ByteBuffer deletedRecord = newRecords.remove(mutation.getIndex() - 1);
+                    newIdHighWaterMark = Math.max(newIdHighWaterMark, deletedRecord.getInt(2));
+                    break;
+                default:
+                    break;
+                }
+            }
+
+            int newFileSize = HEADER_SIZE;
+            for (ByteBuffer newRecord : newRecords) {
+                newFileSize += newRecord.remaining();
+            }
+            ByteBuffer newFile = ByteBuffer.allocate(newFileSize).putInt(MAGIC).putShort(VERSION)
+                    .putInt(newIdHighWaterMark);
+            ArrayList<Long> newOffsets = new ArrayList<>();
+            for (ByteBuffer newRecord : newRecords) {
+                newOffsets.add((long) newFile.position());
+                newFile.put(newRecord.duplicate());
+            }
+            replaceFile(newFile.array());
+            offsets.clear();
+            offsets.addAll(newOffsets);
+            idHighWaterMark = newIdHighWaterMark;
+        } catch (IOException | IndexOutOfBoundsException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        }
+    }
+
+    private static void upgradeFromVersionWithoutIds(Path binaryPath) throws IOException,
+            PoseidonStorageReadWriteException {
+        ByteBuffer oldRecords = ByteBuffer.wrap(Files.readAllBytes(binaryPath));
+        if (oldRecords.limit() < HEADER_SIZE_WITHOUT_IDS || oldRecords.getInt() != MAGIC
+                || oldRecords.getShort() != VERSION_WITHOUT_IDS) {
+            return;
+        }
+
+        ByteArrayOutputStream newRecords = new ByteArrayOutputStream(oldRecords.limit());
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putShort(VERSION).putInt(0);
+        newRecords.write(header.array());
+        try {
+            while (oldRecords.hasRemaining()) {
+                ByteBuffer newRecord = encodeRecord(decodeRecord(oldRecords, VERSION_WITHOUT_IDS).toStorage());
+                newRecords.write(newRecord.array(), 0, newRecord.limit());
+            }
+        } catch (BufferUnderflowException ex) {
+            throw new PoseidonStorageReadWriteException("Following errors found during loading:\n\n"
+                    + "Truncated record at byte " + oldRecords.position() + ".\n");
+        }
+        writeAtomically(binaryPath, newRecords.toByteArray());
+    }
+
+    private void ensureIndexed() throws PoseidonStorageReadWriteException {
+        if (!isIndexed) {
+            load();
+        }
+    }
+
+    private long recordEnd(int position) {
+        return position + 1 < offsets.size() ? offsets.get(position + 1) : fileEnd;
+    }
+
+    // Replaces the record at the given position with the given bytes and shifts every later record accordingly.
+    private void splice(int position, ByteBuffer newRecord, int newIdHighWaterMark) throws IOException {
+        long offset = offsets.get(position);
+        long oldEnd = recordEnd(position);
+        ByteBuffer oldFile = readFile();
+        ByteBuffer newFile = ByteBuffer.allocate((int) (fileEnd + newRecord.remaining() - (oldEnd - offset)));
+        newFile.put(oldFile.duplicate().limit((int) offset));
+        newFile.put(newRecord);
+        newFile.put(oldFile.position((int) oldEnd));
+        newFile.putInt(ID_MARK_OFFSET, newIdHighWaterMark);
+        replaceFile(newFile.array());
+
+        long shift = newRecord.limit() - (oldEnd - offset);
+        for (int i = position + 1; i < offsets.size(); i++) {
+            offsets.set(i, offsets.get(i) + shift);
+        }
+    }
+
+    private ByteBuffer readFile() throws IOException {
+        ByteBuffer content = ByteBuffer.allocate((int) fileEnd);
+        int bytesRead = 0;
+        while (content.hasRemaining() && bytesRead >= 0) {
+            bytesRead = binaryChannel.read(content, content.position());
+        }
+        return content.flip();
+    }
+
+    // Closes the file, moves the new content over it with writeAtomically and opens it again.
+    private void replaceFile(byte[] content) throws IOException {
+        binaryChannel.close();
+        try {
+            writeAtomically(binaryPath, content);
+            fileEnd = content.length;
+        } finally {
+            binaryChannel = new RandomAccessFile(binaryPath.toFile(), "rw").getChannel();
+        }
+    }
+
+    private static ByteBuffer encodeRecord(String taskStorage) {
+        String[] taskArr = taskStorage.trim().split(STORAGE_SEPARATOR);
+        byte[] description = taskArr[2].getBytes(StandardCharsets.UTF_8);
+        int requiredFields = countRequiredFields(taskArr[0].charAt(0));
+        int dateTimeCount = requiredFields - 3;
+        ByteBuffer record = ByteBuffer.allocate(2 + Integer.BYTES + Long.BYTES * dateTimeCount + Integer.BYTES
+                + description.length);
+
+        record.put((byte) taskArr[0].charAt(0));
+        record.put(Boolean.parseBoolean(taskArr[1]) ? DONE_TRUE : DONE_FALSE);
+        record.putInt(taskArr.length > requiredFields ? parseIdField(taskArr[requiredFields]) : 0);
+        for (int i = 3; i < requiredFields; i++) {
+            record.putLong(toEpochMinute(DateTimeParser.parseStorageDateTime(taskArr[i])));
+        }
+        record.putInt(description.length);
+        record.put(description);
+        return record.flip();
+    }
+
+    private static Task decodeRecord(ByteBuffer records, short version) throws PoseidonStorageReadWriteException {
+        int recordStart = records.position();
+        char type = (char) records.get();
+        boolean isDone = records.get() == DONE_TRUE;
+        int id = version == VERSION_WITHOUT_IDS ? 0 : records.getInt();
+        Task task;
+        switch (type) {
+        case 'T':
+            task = new Todo(decodeDescription(records, recordStart), isDone);
+            break;
+        case 'D':
+            LocalDateTime byDateTime = fromEpochMinute(records.getLong());
+            task = new Deadline(decodeDescription(records, recordStart), isDone, byDateTime);
+            break;
+        case 'E':
+            LocalDateTime fromDateTime = fromEpochMinute(records.getLong());
+            LocalDateTime toDateTime = fromEpochMinute(records.getLong());
+            task = new Event(decodeDescription(records, recordStart), isDone, fromDateTime, toDateTime);
+            break;
+        default:
+            throw new PoseidonStorageReadWriteException("Following errors found during loading:\n\n"
+                    + "Unknown record type at byte " + recordStart + ".\n");
+        }
+        task.setId(id);
+        return task;
+    }
+
+    // Checks the length of the description against the rest of the file before allocating room for it.
+    private static String decodeDescription(ByteBuffer records, int recordStart)
+            throws PoseidonStorageReadWriteException {
+        int descriptionLength = records.getInt();
+        if (descriptionLength < 0) {
+            throw new PoseidonStorageReadWriteException("Following errors found during loading:\n\n"
+                    + "Corrupted record at byte " + recordStart + ".\n");
+        } else if (descriptionLength > records.remaining()) {
+            throw new PoseidonStorageReadWriteException("Following errors found during loading:\n\n"
+                    + "Truncated record at byte " + recordStart + ".\n");
+        }
+        byte[] description = new byte[descriptionLength];
+        records.get(description);
+        return new String(description, StandardCharsets.UTF_8);
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,344 @@
+package poseidon.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import poseidon.exception.PoseidonStorageException;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.parser.DateTimeParser;
+import poseidon.task.Deadline;
+import poseidon.task.Event;
+import poseidon.task.Task;
+import poseidon.task.Todo;
+
+/**
+ * Represents a loader that reads the storage document into a single buffer and scans its bytes for the separators
+ * directly, so that only the {@code Task}s themselves are materialized and no intermediate {@code String} is built for
+ * a whole line. The document is read rather than memory-mapped, as a mapping lives on until it is garbage collected
+ * and keeps the document from being replaced by {@link Storage#writeAtomically} on some platforms.
+ * Large documents are split into newline-aligned chunks that are parsed in parallel and joined back in order.
+ *
+ * <p>Records whose checksum doesn't match are torn and skipped, see {@link RecordChecksum}. So is an unsealed last
+ * record missing its newline in a document that holds sealed records, as that is what an append cut short leaves.</p>
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+final class ChunkedTaskLoader {
+
+    // Private constants dictating the bytes that separate fields and lines of the storage document.
+    private static final byte FIELD_SEPARATOR = '\t';
+    private static final byte LINE_SEPARATOR = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final int MAX_FIELDS = 8;
+
+    // Documents smaller than this are parsed on the calling thread, as splitting them isn't worth the overhead.
+    private static final int PARALLEL_THRESHOLD = 1024 * 1024;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ChunkedTaskLoader() {
+    }
+
+    /**
+     * Returns all the {@code Task}s in the given storage document, skipping torn records.
+     *
+     * @param taskDataFile Storage document to be loaded.
+     * @return {@code LoadedTasks} holding all the saved {@code Task}s and the number of torn records skipped.
+     * @throws PoseidonStorageException Exceptions that occur when accessing a file for storage on the local hard
+     * disk.
+     * @throws PoseidonStorageReadWriteException If any line of the storage document couldn't be parsed.
+     */
+    static LoadedTasks load(File taskDataFile) throws PoseidonStorageException, PoseidonStorageReadWriteException {
+        ByteBuffer taskData = readDocument(taskDataFile);
+        List<ParsedChunk> parsedChunks = taskData.limit() < PARALLEL_THRESHOLD
+                ? List.of(parseChunk(taskData, 0, taskData.limit()))
+                : parseInParallel(taskData);
+
+        int sealedRecordCount = 0;
+        for (ParsedChunk parsedChunk : parsedChunks) {
+            sealedRecordCount += parsedChunk.sealedRecordCount;
+        }
+        if (sealedRecordCount > 0) {
+            parsedChunks.get(parsedChunks.size() - 1).dropUnsealedTail();
+        }
+
+        LoadedTasks loadedTasks = new LoadedTasks();
+        StringBuilder parseErrorMsg = new StringBuilder();
+        int linesBefore = 0;
+        for (ParsedChunk parsedChunk : parsedChunks) {
+            loadedTasks.tasks.addAll(parsedChunk.tasks);
+            loadedTasks.tornRecordCount += parsedChunk.tornRecordCount;
+            loadedTasks.idHighWaterMark = Math.max(loadedTasks.idHighWaterMark, parsedChunk.idHighWaterMark);
+            for (int i = 0; i < parsedChunk.errorMsgs.size(); i++) {
+                parseErrorMsg.append(parsedChunk.errorMsgs.get(i) + " at line "
+                        + (linesBefore + parsedChunk.errorLineNos.get(i)) + ".\n");
+            }
+            linesBefore += parsedChunk.lineCount;
+        }
+
+        if (parseErrorMsg.length() > 0) {
+            throw new PoseidonStorageReadWriteException("Following errors found during loading:\n\n"
+                    + parseErrorMsg);
+        }
+        return loadedTasks;
+    }
+
+    /**
+     * Returns the whole storage document read into a buffer on the heap, with the file closed again.
+     *
+     * @param taskDataFile Storage document to be read.
+     * @return {@code ByteBuffer} holding the bytes of the document.
+     * @throws PoseidonStorageException Exceptions that occur when accessing a file for storage on the local hard
+     * disk.
+     */
+    static ByteBuffer readDocument(File taskDataFile) throws PoseidonStorageException {
+        try (FileChannel taskDataChannel = FileChannel.open(taskDataFile.toPath(), StandardOpenOption.READ)) {
+            long size = taskDataChannel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new PoseidonStorageException("Storage file is too large to be loaded.");
+            }
+            ByteBuffer taskData = ByteBuffer.allocate((int) size);
+            int bytesRead = 0;
+            while (taskData.hasRemaining() && bytesRead >= 0) {
+                bytesRead = taskDataChannel.read(taskData);
+            }
+            return taskData.flip();
+        } catch (IOException ex) {
+            throw new PoseidonStorageException("Couldn't access storage file.\n"
+                    + ex.getMessage());
+        }
+    }
+
+    private static List<ParsedChunk> parseInParallel(ByteBuffer taskData) throws PoseidonStorageReadWriteException {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int chunkSize = Math.max(PARALLEL_THRESHOLD / CHUNKS_PER_THREAD,
+                taskData.limit() / (pool.getParallelism() * CHUNKS_PER_THREAD));
+
+        ArrayList<Callable<ParsedChunk>> chunkParsers = new ArrayList<>();
+        int start = 0;
+        while (start < taskData.limit()) {
+            int end = Math.min(start + chunkSize, taskData.limit());
+            while (end < taskData.limit() && taskData.get(end - 1) != LINE_SEPARATOR) {
+                end++;
+            }
+            int chunkStart = start;
+            int chunkEnd = end;
+            chunkParsers.add(() -> parseChunk(taskData, chunkStart, chunkEnd));
+            start = end;
+        }
+
+        ArrayList<ParsedChunk> parsedChunks = new ArrayList<>();
+        try {
+            for (Future<ParsedChunk> parsedChunk : pool.invokeAll(chunkParsers)) {
+                parsedChunks.add(parsedChunk.get());
+            }
+        } catch (InterruptedException | ExecutionException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        }
+        return parsedChunks;
+    }
+
+    /**
+     * Returns the {@code Task}s and parse errors found in the lines of the storage document between the given byte
+     * offsets. Line numbers of the errors are relative to the start of the chunk.
+     *
+     * @param taskData Bytes of the storage document.
+     * @param start Offset of the first byte of the first line to be parsed.
+     * @param end Offset just past the last byte to be parsed.
+     * @return {@code ParsedChunk} holding the results.
+     */
+    static ParsedChunk parseChunk(ByteBuffer taskData, int start, int end) {
+        ParsedChunk parsedChunk = new ParsedChunk();
+        ByteBuffer chunk = taskData.duplicate();
+        Charset charset = Charset.defaultCharset();
+        int[] fieldStarts = new int[MAX_FIELDS];
+        int[] fieldEnds = new int[MAX_FIELDS];
+        byte[] scratch = new byte[64];
+        int lineNo = 1;
+
+        int lineStart = start;
+        while (lineStart < end) {
+            int lineEnd = lineStart;
+            int fieldCount = 0;
+            fieldStarts[0] = lineStart;
+            while (lineEnd < end && chunk.get(lineEnd) != LINE_SEPARATOR) {
+                if (chunk.get(lineEnd) == FIELD_SEPARATOR && fieldCount < MAX_FIELDS - 1) {
+                    fieldEnds[fieldCount] = lineEnd;
+                    fieldStarts[++fieldCount] = lineEnd + 1;
+                }
+                lineEnd++;
+            }
+            int contentEnd = lineEnd > lineStart && chunk.get(lineEnd - 1) == CARRIAGE_RETURN ? lineEnd - 1 : lineEnd;
+            fieldEnds[fieldCount++] = contentEnd;
+
+            long checksum = RecordChecksum.hasSealableFieldCount(fieldCount)
+                    ? RecordChecksum.parseField(chunk, fieldStarts[fieldCount - 1], fieldEnds[fieldCount - 1])
+                    : -1;
+            if (checksum >= 0 && RecordChecksum.compute(chunk, lineStart, fieldEnds[fieldCount - 2]) != checksum) {
+                parsedChunk.tornRecordCount++;
+            } else {
+                if (checksum >= 0) {
+                    parsedChunk.sealedRecordCount++;
+                    fieldCount--;
+                }
+                int tasksBefore = parsedChunk.tasks.size();
+                int errorsBefore = parsedChunk.errorMsgs.size();
+                if (isIdMark(chunk, fieldStarts, fieldEnds, fieldCount)) {
+                    parsedChunk.idHighWaterMark = Math.max(parsedChunk.idHighWaterMark,
+                            Storage.parseIdField(decode(chunk, fieldStarts[1], fieldEnds[1], charset, scratch)));
+                }
+                try {
+                    Task task = parseLine(chunk, fieldStarts, fieldEnds, fieldCount, charset, scratch);
+                    if (task != null) {
+                        parsedChunk.tasks.add(task);
+                    }
+                } catch (DateTimeParseException ex) {
+                    parsedChunk.addError(ex.getMessage(), lineNo);
+                } catch (IndexOutOfBoundsException ex) {
+                    parsedChunk.addError("Missing fields", lineNo);
+                }
+                if (lineEnd == end && checksum < 0 && contentEnd > lineStart) {
+                    parsedChunk.unsealedTailTasks = parsedChunk.tasks.size() - tasksBefore;
+                    parsedChunk.unsealedTailErrors = parsedChunk.errorMsgs.size() - errorsBefore;
+                    parsedChunk.hasUnsealedTail = true;
+                }
+            }
+
+            lineStart = lineEnd + 1;
+            lineNo++;
+        }
+        parsedChunk.lineCount = lineNo - 1;
+        return parsedChunk;
+    }
+
+    private static Task parseLine(ByteBuffer chunk, int[] fieldStarts, int[] fieldEnds, int fieldCount,
+            Charset charset, byte[] scratch) {
+        if (fieldEnds[0] - fieldStarts[0] != 1) {
+            return null;
+        }
+
+        byte type = chunk.get(fieldStarts[0]);
+        int requiredFields = Storage.countRequiredFields((char) type);
+        if (requiredFields == 0) {
+            return null;
+        } else if (fieldCount < requiredFields) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        boolean isDone = isTrue(chunk, fieldStarts[1], fieldEnds[1]);
+        String description = decode(chunk, fieldStarts[2], fieldEnds[2], charset, scratch);
+        Task task;
+        switch (type) {
+        case 'T':
+            task = new Todo(description, isDone);
+            break;
+        case 'D':
+            task = new Deadline(description, isDone,
+                    DateTimeParser.parseStorageDateTime(decode(chunk, fieldStarts[3], fieldEnds[3], charset, scratch)));
+            break;
+        default:
+            task = new Event(description, isDone,
+                    DateTimeParser.parseStorageDateTime(decode(chunk, fieldStarts[3], fieldEnds[3], charset, scratch)),
+                    DateTimeParser.parseStorageDateTime(decode(chunk, fieldStarts[4], fieldEnds[4], charset, scratch)));
+            break;
+        }
+
+        if (fieldCount > requiredFields) {
+            task.setId(Storage.parseIdField(decode(chunk, fieldStarts[requiredFields], fieldEnds[requiredFields],
+                    charset, scratch)));
+        }
+        return task;
+    }
+
+    private static boolean isIdMark(ByteBuffer chunk, int[] fieldStarts, int[] fieldEnds, int fieldCount) {
+        return fieldCount == 2 && fieldEnds[0] - fieldStarts[0] == 1
+                && chunk.get(fieldStarts[0]) == Storage.ID_MARK_TYPE;
+    }
+
+    // Mirrors Boolean.parseBoolean, which accepts "true" in any case.
+    private static boolean isTrue(ByteBuffer chunk, int start, int end) {
+        final String trueString = "true";
+        if (end - start != trueString.length()) {
+            return false;
+        }
+        for (int i = 0; i < trueString.length(); i++) {
+            if (Character.toLowerCase(chunk.get(start + i)) != trueString.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String decode(ByteBuffer chunk, int start, int end, Charset charset, byte[] scratch) {
+        int length = end - start;
+        byte[] bytes = length <= scratch.length ? scratch : new byte[length];
+        chunk.position(start);
+        chunk.get(bytes, 0, length);
+        return new String(bytes, 0, length, charset);
+    }
+
+    /**
+     * Represents the {@code Task}s and parse errors found in a chunk of the storage document.
+     */
+    static class ParsedChunk {
+        private final ArrayList<Task> tasks = new ArrayList<>();
+        private final ArrayList<String> errorMsgs = new ArrayList<>();
+        private final ArrayList<Integer> errorLineNos = new ArrayList<>();
+        private int lineCount;
+        private int sealedRecordCount;
+        private int tornRecordCount;
+        private int idHighWaterMark;
+        private boolean hasUnsealedTail;
+        private int unsealedTailTasks;
+        private int unsealedTailErrors;
+
+        private void addError(String errorMsg, int lineNo) {
+            errorMsgs.add(errorMsg);
+            errorLineNos.add(lineNo);
+        }
+
+        private void dropUnsealedTail() {
+            if (!hasUnsealedTail) {
+                return;
+            }
+            tasks.subList(tasks.size() - unsealedTailTasks, tasks.size()).clear();
+            errorMsgs.subList(errorMsgs.size() - unsealedTailErrors, errorMsgs.size()).clear();
+            errorLineNos.subList(errorLineNos.size() - unsealedTailErrors, errorLineNos.size()).clear();
+            tornRecordCount++;
+            hasUnsealedTail = false;
+        }
+    }
+
+    /**
+     * Represents the {@code Task}s loaded from a storage document, the number of torn records skipped on the way and
+     * the ID high-water mark kept in the document.
+     */
+    static class LoadedTasks {
+        private final ArrayList<Task> tasks = new ArrayList<>();
+        private int tornRecordCount;
+        private int idHighWaterMark;
+
+        ArrayList<Task> getTasks() {
+            return tasks;
+        }
+
+        int getTornRecordCount() {
+            return tornRecordCount;
+        }
+
+        int getIdHighWaterMark() {
+            return idHighWaterMark;
+        }
+    }
+}
@@ -0,0 +1,417 @@
+package poseidon.storage;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import poseidon.exception.PoseidonStorageException;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.task.Task;
+
+/**
+ * Represents a {@code FixedWidthStorage} object that keeps every {@code Task} in a run of fixed-width slots, so that
+ * changes are written in place instead of rewriting the whole storage document. An in-memory index maps every
+ * {@code Task} to the offset of its record, and runs of slots freed by deleted {@code Task}s are reused by new ones.
+ *
+ * <p>A record is laid out as a state byte (live or tombstone), a done byte, the number of slots it spans, its
+ * sequence number, the length of its payload and finally the payload itself, the UTF-8 storage {@code String} of the
+ * {@code Task}. The done byte is authoritative, which makes marking a {@code Task} done a single one-byte write and
+ * deleting one a single tombstone write. Records are ordered by their sequence number when loading, so reused slots
+ * don't change the order of the {@code Task}s.</p>
+ *
+ * <p>The ID high-water mark is kept in a live record of its own, whose payload is the record of an ID high-water
+ * mark, see {@link #getIdHighWaterMark()}. It fits in a single slot, so it is always raised in place.</p>
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class FixedWidthStorage extends Storage {
+
+    /** Width in bytes of a single slot in the storage file */
+    public static final int SLOT_SIZE = 64;
+
+    // Private constants dictating the layout of a record.
+    private static final byte STATE_LIVE = 'L';
+    private static final byte STATE_TOMBSTONE = 'X';
+    private static final byte DONE_TRUE = '1';
+    private static final byte DONE_FALSE = '0';
+    private static final int DONE_OFFSET = 1;
+    private static final int HEADER_SIZE = 16;
+
+    private final FileChannel slotChannel;
+    private final ArrayList<Long> offsets = new ArrayList<>();
+    private final HashMap<Integer, ArrayDeque<Long>> freeRuns = new HashMap<>();
+    private long fileEnd;
+    private long lastSeq;
+    private int idHighWaterMark;
+    private long idMarkOffset = -1;
+    private boolean isIndexed = false;
+
+    /**
+     * Constructs a {@code FixedWidthStorage} object that keeps its slots next to the default storage document.
+     *
+     * @throws PoseidonStorageException For exceptions that occur when accessing/creating a file for storage
+     * on the local hard disk.
+     */
+    public FixedWidthStorage() throws PoseidonStorageException {
+        this(Paths.get("data", "taskData.txt"));
+    }
+
+    /**
+     * Constructs a {@code FixedWidthStorage} object that keeps its slots next to the given storage document. If no
+     * slot file exists yet, it is seeded from the {@code Task}s in the storage document.
+     *
+     * @param taskDataPath {@code Path} of the storage document used to name and seed the slot file.
+     * @throws PoseidonStorageException For exceptions that occur when accessing/creating a file for storage
+     * on the local hard disk.
+     */
+    public FixedWidthStorage(Path taskDataPath) throws PoseidonStorageException {
+        super(taskDataPath);
+        String baseName = taskDataPath.getFileName().toString().replaceFirst("\\.txt$", "");
+        Path slotPath = taskDataPath.resolveSibling(baseName + ".slots");
+
+        try {
+            boolean isNewSlotFile = !Files.exists(slotPath);
+            slotChannel = new RandomAccessFile(slotPath.toFile(), "rw").getChannel();
+            if (isNewSlotFile) {
+                isIndexed = true;
+                for (Task task : super.load()) {
+                    storeAdd(task.toStorage());
+                }
+                raiseIdMark(super.getIdHighWaterMark());
+            }
+        } catch (IOException | PoseidonStorageReadWriteException ex) {
+            throw new PoseidonStorageException("Couldn't access/create necessary file to store tasks.\n"
+                    + ex.getMessage());
+        }
+    }
+
+    /**
+     * Returns a {@code ArrayList} containing all the live {@code Task}s in the slot file, in the order they were added,
+     * and rebuilds the offset index, free-slot list and ID high-water mark along the way.
+     *
+     * @return {@code ArrayList} containing all the saved {@code Task}s.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public synchronized ArrayList<Task> load() throws PoseidonStorageReadWriteException {
+        ArrayList<SlotRecord> records = new ArrayList<>();
+        StringBuilder parseErrorMsg = new StringBuilder();
+        offsets.clear();
+        freeRuns.clear();
+        lastSeq = 0;
+        idHighWaterMark = 0;
+        idMarkOffset = -1;
+        isIndexed = true;
+
+        try {
+            fileEnd = slotChannel.size();
+            MappedByteBuffer slots = slotChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileEnd);
+            int offset = 0;
+            while (offset + HEADER_SIZE <= fileEnd) {
+                byte state = slots.get(offset);
+                boolean isDone = slots.get(offset + DONE_OFFSET) == DONE_TRUE;
+                int span = slots.getShort(offset + 2);
+                long seq = slots.getLong(offset + 4);
+                int payloadLength = slots.getInt(offset + 12);
+                if ((state != STATE_LIVE && state != STATE_TOMBSTONE) || span < 1
+                        || payloadLength < 0 || payloadLength > span * SLOT_SIZE - HEADER_SIZE) {
+                    parseErrorMsg.append("Corrupted record at slot " + (offset / SLOT_SIZE + 1) + ".\n");
+                    break;
+                } else if (offset + (long) span * SLOT_SIZE > fileEnd) {
+                    parseErrorMsg.append("Truncated record at slot " + (offset / SLOT_SIZE + 1) + ".\n");
+                    break;
+                }
+
+                lastSeq = Math.max(lastSeq, seq);
+                if (state == STATE_TOMBSTONE) {
+                    freeRuns.computeIfAbsent(span, (key) -> new ArrayDeque<>()).push((long) offset);
+                } else {
+                    byte[] payload = new byte[payloadLength];
+                    slots.position(offset + HEADER_SIZE);
+                    slots.get(payload);
+                    String record = new String(payload, StandardCharsets.UTF_8);
+                    if (parseIdMark(record) > 0) {
+                        idHighWaterMark = parseIdMark(record);
+                        idMarkOffset = offset;
+                    } else {
+                        try {
+                            Task task = parseTask(record);
+                            if (task != null && isDone) {
+                                task.setDone();
+                            }
+                            records.add(new SlotRecord(seq, offset, task));
+                        } catch (DateTimeParseException ex) {
+                            parseErrorMsg.append(ex.getMessage() + " at slot " + (offset / SLOT_SIZE + 1) + ".\n");
+                        }
+                    }
+                }
+                offset += span * SLOT_SIZE;
+            }
+        } catch (IOException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        }
+
+        if (parseErrorMsg.length() > 0) {
+            throw new PoseidonStorageReadWriteException("Following errors found during loading:\n\n"
+                    + parseErrorMsg);
+        }
+
+        records.sort((first, second) -> Long.compare(first.seq, second.seq));
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (SlotRecord record : records) {
+            if (record.task != null) {
+                offsets.add(record.offset);
+                tasks.add(record.task);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns all the saved {@code Task}s, as the records of this engine aren't paged through, see {@link #load()}.
+     *
+     * @param liveTaskLimit Unused.
+     * @return {@code List} containing all the saved {@code Task}s.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public List<Task> loadPaged(int liveTaskLimit) throws PoseidonStorageReadWriteException {
+        return load();
+    }
+
+    @Override
+    public synchronized int getIdHighWaterMark() {
+        return idHighWaterMark;
+    }
+
+    /**
+     * Writes every {@code Task} in the given storage {@code String} into a free run of slots, or at the end of the
+     * slot file if no run of the right size is free.
+     *
+     * @param taskStorage Storage {@code String} version of the new {@code Task}.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public synchronized void storeAdd(String taskStorage) throws PoseidonStorageReadWriteException {
+        ensureIndexed();
+        for (String line : taskStorage.split("\n")) {
+            if (!line.isEmpty()) {
+                offsets.add(writeRecord(line, lastSeq + 1));
+                lastSeq++;
+            }
+        }
+    }
+
+    /**
+     * Writes the done byte of the {@code Task} at the given index in place. If anything other than the done status
+     * changed, the record is rewritten in place, or moved to a larger run of slots if it no longer fits.
+     *
+     * @param index Index of the {@code Task} to be modified.
+     * @param taskStorage Storage {@code String} version of the modified {@code Task}.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public synchronized void storeModify(int index, String taskStorage) throws PoseidonStorageReadWriteException {
+        ensureIndexed();
+        long offset = offsets.get(index - 1);
+        String[] taskArr = taskStorage.trim().split(STORAGE_SEPARATOR, 3);
+        boolean isDone = Boolean.parseBoolean(taskArr[1]);
+        byte[] payload = toPayload(taskArr);
+
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            slotChannel.read(header, offset);
+            int span = header.getShort(2);
+            long seq = header.getLong(4);
+            byte[] oldPayload = new byte[header.getInt(12)];
+            slotChannel.read(ByteBuffer.wrap(oldPayload), offset + HEADER_SIZE);
+
+            if (Arrays.equals(oldPayload, payload)) {
+                slotChannel.write(ByteBuffer.wrap(new byte[] {isDone ? DONE_TRUE : DONE_FALSE}),
+                        offset + DONE_OFFSET);
+            } else if (spanOf(payload) == span) {
+                slotChannel.write(encodeRecord(payload, isDone, span, seq), offset);
+            } else {
+                long newOffset = writeRecord(taskStorage.trim(), seq);
+                tombstone(offset, span);
+                offsets.set(index - 1, newOffset);
+            }
+        } catch (IOException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        }
+    }
+
+    /**
+     * Writes a tombstone over the record of the {@code Task} at the given index and frees its slots for reuse. The
+     * ID high-water mark is raised to the ID of the {@code Task} before the tombstone is written.
+     *
+     * <p>Once the tombstone is written, the offset of the record is removed from the in-memory index, which shifts the
+     * offsets of every later {@code Task} down by one in a single array copy. This is O(n) in the number of
+     * {@code Task}s, like deleting the {@code Task} from the {@code TaskList} itself, but involves no I/O and is small
+     * next to the write.</p>
+     *
+     * @param index Index of the deleted {@code Task}.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public synchronized void storeDelete(int index) throws PoseidonStorageReadWriteException {
+        ensureIndexed();
+        long offset = offsets.get(index - 1);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            slotChannel.read(header, offset);
+            byte[] payload = new byte[header.getInt(12)];
+            slotChannel.read(ByteBuffer.wrap(payload), offset + HEADER_SIZE);
+            raiseIdMark(parseRecordId(new String(payload, StandardCharsets.UTF_8)));
+            tombstone(offset, header.getShort(2));
+        } catch (IOException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        }
+        offsets.remove(index - 1);
+    }
+
+    /**
+     * Applies the given changes one at a time, as each of them is already a write in place. If any of them fails, the
+     * in-memory index and free runs are put back as they were before the batch, so that applying the whole batch again
+     * writes every record into the same slots as the first attempt did.
+     *
+     * @param mutations {@code StorageMutation}s to be applied.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public synchronized void storeBatch(List<StorageMutation> mutations) throws PoseidonStorageReadWriteException {
+        ensureIndexed();
+        ArrayList<Long> oldOffsets = new ArrayList<>(offsets);
+        HashMap<Integer, ArrayDeque<Long>> oldFreeRuns = new HashMap<>();
+        freeRuns.forEach((span, freeRun) -> oldFreeRuns.put(span, new ArrayDeque<>(freeRun)));
+        long oldFileEnd = fileEnd;
+        long oldLastSeq = lastSeq;
+        int oldIdHighWaterMark = idHighWaterMark;
+        long oldIdMarkOffset = idMarkOffset;
+
+        boolean isApplied = false;
+        try {
+            applyEach(mutations);
+            isApplied = true;
+        } catch (IndexOutOfBoundsException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        } finally {
+            if (!isApplied) {
+                offsets.clear();
+                offsets.addAll(oldOffsets);
+                freeRuns.clear();
+                freeRuns.putAll(oldFreeRuns);
+                fileEnd = oldFileEnd;
+                lastSeq = oldLastSeq;
+                idHighWaterMark = oldIdHighWaterMark;
+                idMarkOffset = oldIdMarkOffset;
+            }
+        }
+    }
+
+    private void ensureIndexed() throws PoseidonStorageReadWriteException {
+        if (!isIndexed) {
+            load();
+        }
+    }
+
+    private long writeRecord(String taskStorage, long seq) throws PoseidonStorageReadWriteException {
+        String[] taskArr = taskStorage.split(STORAGE_SEPARATOR, 3);
+        return writePayload(toPayload(taskArr), Boolean.parseBoolean(taskArr[1]), seq);
+    }
+
+    // Writes the record into a free run of slots or at the end of the file, and only takes that space once written.
+    private long writePayload(byte[] payload, boolean isDone, long seq) throws PoseidonStorageReadWriteException {
+        int span = spanOf(payload);
+        ArrayDeque<Long> freeRun = freeRuns.get(span);
+        boolean isReused = freeRun != null && !freeRun.isEmpty();
+        long offset = isReused ? freeRun.peek() : fileEnd;
+        try {
+            slotChannel.write(encodeRecord(payload, isDone, span, seq), offset);
+        } catch (IOException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        }
+
+        if (isReused) {
+            freeRun.pop();
+        } else {
+            fileEnd += (long) span * SLOT_SIZE;
+        }
+        return offset;
+    }
+
+    // Rewrites the record of the ID high-water mark in place, or writes a new one if there is none yet.
+    private void raiseIdMark(int id) throws IOException, PoseidonStorageReadWriteException {
+        if (id <= idHighWaterMark) {
+            return;
+        }
+        byte[] payload = idMarkLine(id).trim().getBytes(StandardCharsets.UTF_8);
+        if (idMarkOffset >= 0) {
+            slotChannel.write(encodeRecord(payload, false, 1, 0), idMarkOffset);
+        } else {
+            idMarkOffset = writePayload(payload, false, 0);
+        }
+        idHighWaterMark = id;
+    }
+
+    private void tombstone(long offset, int span) throws IOException {
+        slotChannel.write(ByteBuffer.wrap(new byte[] {STATE_TOMBSTONE}), offset);
+        freeRuns.computeIfAbsent(span, (key) -> new ArrayDeque<>()).push(offset);
+    }
+
+    // The done field of the payload is always stored as false, as the done byte of the header is authoritative.
+    private static byte[] toPayload(String[] taskArr) {
+        String payload = taskArr[0] + STORAGE_SEPARATOR + false + STORAGE_SEPARATOR + taskArr[2];
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int spanOf(byte[] payload) {
+        return (HEADER_SIZE + payload.length + SLOT_SIZE - 1) / SLOT_SIZE;
+    }
+
+    private static ByteBuffer encodeRecord(byte[] payload, boolean isDone, int span, long seq) {
+        ByteBuffer record = ByteBuffer.allocate(span * SLOT_SIZE);
+        record.put(STATE_LIVE)
+                .put(isDone ? DONE_TRUE : DONE_FALSE)
+                .putShort((short) span)
+                .putLong(seq)
+                .putInt(payload.length)
+                .put(payload);
+        record.rewind();
+        return record;
+    }
+
+    /**
+     * Represents a live record read from the slot file during loading.
+     */
+    private static class SlotRecord {
+        private final long seq;
+        private final long offset;
+        private final Task task;
+
+        private SlotRecord(long seq, long offset, Task task) {
+            this.seq = seq;
+            this.offset = offset;
+            this.task = task;
+        }
+    }
+}
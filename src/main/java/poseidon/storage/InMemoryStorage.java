@@ -0,0 +1,107 @@
+package poseidon.storage;
+
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.task.Task;
+
+/**
+ * Represents an {@code InMemoryStorage} object that keeps the storage {@code String}s of the {@code Task}s in memory
+ * only. Nothing survives the Bot, which makes it a baseline for benchmarking the other engines and a stand-in for
+ * them in tests.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class InMemoryStorage implements StorageBackend {
+
+    private final ArrayList<String> taskRecords = new ArrayList<>();
+
+    /**
+     * Returns a {@code ArrayList} containing all the {@code Task}s kept in memory.
+     *
+     * @return {@code ArrayList} containing all the saved {@code Task}s.
+     * @throws PoseidonStorageReadWriteException If any of the kept {@code Task}s couldn't be parsed.
+     */
+    @Override
+    public synchronized ArrayList<Task> load() throws PoseidonStorageReadWriteException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        StringBuilder parseErrorMsg = new StringBuilder();
+        for (int i = 0; i < taskRecords.size(); i++) {
+            try {
+                Task task = Storage.parseTask(taskRecords.get(i));
+                if (task != null) {
+                    tasks.add(task);
+                }
+            } catch (DateTimeParseException ex) {
+                parseErrorMsg.append(ex.getMessage() + " at line " + (i + 1) + ".\n");
+            } catch (IndexOutOfBoundsException ex) {
+                parseErrorMsg.append("Missing fields at line " + (i + 1) + ".\n");
+            }
+        }
+
+        if (parseErrorMsg.length() > 0) {
+            throw new PoseidonStorageReadWriteException("Following errors found during loading:\n\n"
+                    + parseErrorMsg);
+        }
+        return tasks;
+    }
+
+    @Override
+    public synchronized void storeAdd(String taskStorage) {
+        for (String line : taskStorage.split("\n")) {
+            if (!line.isEmpty()) {
+                taskRecords.add(line);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void storeModify(int index, String taskStorage) throws PoseidonStorageReadWriteException {
+        try {
+            taskRecords.set(index - 1, taskStorage.trim());
+        } catch (IndexOutOfBoundsException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void storeDelete(int index) throws PoseidonStorageReadWriteException {
+        try {
+            taskRecords.remove(index - 1);
+        } catch (IndexOutOfBoundsException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void storeBatch(List<StorageMutation> mutations) throws PoseidonStorageReadWriteException {
+        ArrayList<String> oldTaskRecords = new ArrayList<>(taskRecords);
+        boolean isApplied = false;
+        try {
+            for (StorageMutation mutation : mutations) {
+                switch (mutation.getType()) {
+                case ADD:
+                    storeAdd(mutation.getTaskStorage());
+                    break;
+                case MODIFY:
+                    storeModify(mutation.getIndex(), mutation.getTaskStorage());
+                    break;
+                case DELETE:
+                    storeDelete(mutation.getIndex());
+                    break;
+                default:
+                    break;
+                }
+            }
+            isApplied = true;
+        } finally {
+            if (!isApplied) {
+                taskRecords.clear();
+                taskRecords.addAll(oldTaskRecords);
+            }
+        }
+    }
+}
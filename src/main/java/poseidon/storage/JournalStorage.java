@@ -0,0 +1,499 @@
+package poseidon.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import poseidon.exception.PoseidonStorageException;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.task.Task;
+
+/**
+ * Represents a {@code JournalStorage} object that keeps the {@code Task}s as a snapshot file plus an append-only
+ * journal of ADD, MODIFY and DELETE records. Every change costs a single append to the journal instead of a rewrite of
+ * the whole storage document, and the journal is folded into a fresh snapshot in the background once it grows past a
+ * size threshold.
+ *
+ * <p>The snapshot starts with a header holding the sequence number of the last journal record folded into it, and
+ * every journal record carries its own sequence number. Replaying skips the records already covered by the snapshot,
+ * so a crash at any point of a compaction never applies a record twice. An append that fails part way is cut off
+ * before the next one, and its sequence numbers are given out again, so a later record never lands on a torn
+ * line.</p>
+ *
+ * <p>The ID high-water mark is the highest ID among the {@code Task}s removed by the DELETE records, raised by the
+ * mark that the snapshot keeps right after its header, see {@link #getIdHighWaterMark()}.</p>
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class JournalStorage extends Storage {
+
+    /** Size of the journal in bytes after which it is compacted into a fresh snapshot */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    // Private constants dictating the format of the snapshot and the journal.
+    private static final String SNAPSHOT_HEADER = "#";
+    private static final String OP_ADD = "ADD";
+    private static final String OP_MODIFY = "MODIFY";
+    private static final String OP_DELETE = "DELETE";
+
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final long compactionThreshold;
+    private final Object compactionLock = new Object();
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor((runnable) -> {
+        Thread thread = new Thread(runnable, "poseidon-journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long snapshotSeq;
+    private long lastSeq;
+    private long journalEnd;
+    private int idHighWaterMark;
+    private String loadWarning = "";
+    private boolean isCompactionPending = false;
+
+    /**
+     * Constructs a {@code JournalStorage} object that keeps its snapshot and journal next to the default storage
+     * document.
+     *
+     * @throws PoseidonStorageException For exceptions that occur when accessing/creating a file for storage
+     * on the local hard disk.
+     */
+    public JournalStorage() throws PoseidonStorageException {
+        this(Paths.get("data", "taskData.txt"), DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a {@code JournalStorage} object that keeps its snapshot and journal next to the given storage
+     * document. If no snapshot exists yet, it is seeded from the {@code Task}s in the storage document.
+     *
+     * @param taskDataPath {@code Path} of the storage document used to name and seed the snapshot and journal.
+     * @param compactionThreshold Size of the journal in bytes after which it is compacted.
+     * @throws PoseidonStorageException For exceptions that occur when accessing/creating a file for storage
+     * on the local hard disk.
+     */
+    public JournalStorage(Path taskDataPath, long compactionThreshold) throws PoseidonStorageException {
+        super(taskDataPath);
+        String baseName = taskDataPath.getFileName().toString().replaceFirst("\\.txt$", "");
+        this.snapshotPath = taskDataPath.resolveSibling(baseName + ".snapshot");
+        this.journalPath = taskDataPath.resolveSibling(baseName + ".journal");
+        this.compactionThreshold = compactionThreshold;
+
+        try {
+            if (!Files.exists(snapshotPath)) {
+                StringBuilder snapshot = new StringBuilder(SNAPSHOT_HEADER + STORAGE_SEPARATOR + 0 + "\n");
+                ArrayList<Task> tasks = super.load();
+                snapshot.append(idMarkLine(super.getIdHighWaterMark()));
+                tasks.forEach((task) -> snapshot.append(sealRecord(task.toStorage().trim()) + "\n"));
+                writeAtomically(snapshotPath, snapshot.toString().getBytes(StandardCharsets.UTF_8));
+                writeAtomically(journalPath, new byte[0]);
+            }
+            if (!Files.exists(journalPath)) {
+                Files.createFile(journalPath);
+            }
+            int tornRecordCount = dropTornRecords();
+            if (tornRecordCount > 0) {
+                loadWarning = tornRecordWarning(tornRecordCount, journalPath.getFileName().toString());
+            }
+            snapshotSeq = readSnapshotSeq();
+            lastSeq = Math.max(snapshotSeq, readLastJournalSeq());
+            journalEnd = Files.size(journalPath);
+        } catch (IOException | PoseidonStorageReadWriteException ex) {
+            throw new PoseidonStorageException("Couldn't access/create necessary journal to store tasks.\n"
+                    + ex.getMessage());
+        }
+    }
+
+    /**
+     * Returns a {@code ArrayList} containing all the {@code Task}s after reading the snapshot and replaying the
+     * journal on top of it.
+     *
+     * @return {@code ArrayList} containing all the saved {@code Task}s.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public synchronized ArrayList<Task> load() throws PoseidonStorageReadWriteException {
+        JournalState state = readState(Long.MAX_VALUE);
+        idHighWaterMark = state.idHighWaterMark;
+        return state.tasks;
+    }
+
+    /**
+     * Returns all the saved {@code Task}s, as the records of this engine aren't paged through, see {@link #load()}.
+     *
+     * @param liveTaskLimit Unused.
+     * @return {@code List} containing all the saved {@code Task}s.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public List<Task> loadPaged(int liveTaskLimit) throws PoseidonStorageReadWriteException {
+        return load();
+    }
+
+    /**
+     * Appends an ADD record for every {@code Task} in the given storage {@code String} to the journal.
+     *
+     * @param taskStorage Storage {@code String} version of the new {@code Task}.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public synchronized void storeAdd(String taskStorage) throws PoseidonStorageReadWriteException {
+        StringBuilder records = new StringBuilder();
+        append(records, addRecords(records, lastSeq, taskStorage));
+    }
+
+    /**
+     * Appends a MODIFY record replacing the {@code Task} at the given index to the journal.
+     *
+     * @param index Index of the {@code Task} to be modified.
+     * @param taskStorage Storage {@code String} version of the modified {@code Task}.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public synchronized void storeModify(int index, String taskStorage) throws PoseidonStorageReadWriteException {
+        StringBuilder records = new StringBuilder();
+        append(records, modifyRecord(records, lastSeq, index, taskStorage));
+    }
+
+    /**
+     * Appends a DELETE record for the {@code Task} at the given index to the journal.
+     *
+     * @param index Index of the deleted {@code Task}.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public synchronized void storeDelete(int index) throws PoseidonStorageReadWriteException {
+        StringBuilder records = new StringBuilder();
+        append(records, deleteRecord(records, lastSeq, index));
+    }
+
+    /**
+     * Appends the records of all the given changes to the journal in a single write.
+     *
+     * @param mutations {@code StorageMutation}s to be applied.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public synchronized void storeBatch(List<StorageMutation> mutations) throws PoseidonStorageReadWriteException {
+        StringBuilder records = new StringBuilder();
+        long seq = lastSeq;
+        for (StorageMutation mutation : mutations) {
+            switch (mutation.getType()) {
+            case ADD:
+                seq = addRecords(records, seq, mutation.getTaskStorage());
+                break;
+            case MODIFY:
+                seq = modifyRecord(records, seq, mutation.getIndex(), mutation.getTaskStorage());
+                break;
+            case DELETE:
+                seq = deleteRecord(records, seq, mutation.getIndex());
+                break;
+            default:
+                break;
+            }
+        }
+        append(records, seq);
+    }
+
+    @Override
+    public synchronized int getIdHighWaterMark() {
+        return idHighWaterMark;
+    }
+
+    /**
+     * Returns a warning about the torn records dropped from the journal when it was opened, or an empty
+     * {@code String} if there were none, and forgets it so that it is only shown once.
+     *
+     * @return {@code String} warning message.
+     */
+    @Override
+    public synchronized String takeLoadWarning() {
+        String warning = loadWarning;
+        loadWarning = "";
+        return warning;
+    }
+
+    /**
+     * Folds every journal record written so far into a fresh snapshot and drops those records from the journal.
+     * Records appended while the compaction is running are kept in the journal.
+     *
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    public void compact() throws PoseidonStorageReadWriteException {
+        synchronized (compactionLock) {
+            long mark;
+            synchronized (this) {
+                mark = lastSeq;
+            }
+            if (mark <= snapshotSeq) {
+                return;
+            }
+
+            JournalState state = readState(mark);
+            StringBuilder snapshot = new StringBuilder(SNAPSHOT_HEADER + STORAGE_SEPARATOR + mark + "\n");
+            snapshot.append(idMarkLine(state.idHighWaterMark));
+            state.tasks.forEach((task) -> snapshot.append(sealRecord(task.toStorage().trim()) + "\n"));
+
+            try {
+                writeAtomically(snapshotPath, snapshot.toString().getBytes(StandardCharsets.UTF_8));
+                synchronized (this) {
+                    snapshotSeq = mark;
+                    StringBuilder remainingRecords = new StringBuilder();
+                    for (String record : readJournalRecords()) {
+                        if (parseSeq(record) > mark) {
+                            remainingRecords.append(sealRecord(record) + "\n");
+                        }
+                    }
+                    byte[] remainingJournal = remainingRecords.toString().getBytes(StandardCharsets.UTF_8);
+                    writeAtomically(journalPath, remainingJournal);
+                    journalEnd = remainingJournal.length;
+                }
+            } catch (IOException ex) {
+                throw new PoseidonStorageReadWriteException(ex.getMessage());
+            }
+        }
+    }
+
+    // The record builders below add records numbered after the given sequence number and return the last one used.
+    private static long addRecords(StringBuilder records, long seq, String taskStorage) {
+        for (String line : taskStorage.split("\n")) {
+            if (!line.isEmpty()) {
+                records.append(sealRecord(++seq + STORAGE_SEPARATOR + OP_ADD + STORAGE_SEPARATOR + line) + "\n");
+            }
+        }
+        return seq;
+    }
+
+    private static long modifyRecord(StringBuilder records, long seq, int index, String taskStorage) {
+        records.append(sealRecord(++seq + STORAGE_SEPARATOR + OP_MODIFY + STORAGE_SEPARATOR + index
+                + STORAGE_SEPARATOR + taskStorage.trim()) + "\n");
+        return seq;
+    }
+
+    private static long deleteRecord(StringBuilder records, long seq, int index) {
+        records.append(sealRecord(++seq + STORAGE_SEPARATOR + OP_DELETE + STORAGE_SEPARATOR + index) + "\n");
+        return seq;
+    }
+
+    // Writes the records right after the last whole record, cutting off whatever a failed append left behind, and
+    // only then takes their sequence numbers.
+    private void append(StringBuilder records, long newLastSeq) throws PoseidonStorageReadWriteException {
+        ByteBuffer recordBytes = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel journalChannel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            if (journalChannel.size() > journalEnd) {
+                journalChannel.truncate(journalEnd);
+            }
+            while (recordBytes.hasRemaining()) {
+                journalChannel.write(recordBytes, journalEnd + recordBytes.position());
+            }
+        } catch (IOException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        }
+        journalEnd += recordBytes.limit();
+        lastSeq = newLastSeq;
+        if (journalEnd > compactionThreshold && !isCompactionPending) {
+            isCompactionPending = true;
+            compactor.submit(this::compactInBackground);
+        }
+    }
+
+    private void compactInBackground() {
+        try {
+            compact();
+        } catch (PoseidonStorageReadWriteException ex) {
+            // The journal stays authoritative, so a failed compaction is simply retried after a later append.
+        } finally {
+            synchronized (this) {
+                isCompactionPending = false;
+            }
+        }
+    }
+
+    private JournalState readState(long uptoSeq) throws PoseidonStorageReadWriteException {
+        JournalState state = new JournalState();
+        ArrayList<Task> tasks = state.tasks;
+        StringBuilder parseErrorMsg = new StringBuilder();
+        long coveredSeq;
+
+        try (BufferedReader snapshotReader = Files.newBufferedReader(snapshotPath, StandardCharsets.UTF_8)) {
+            coveredSeq = parseSeq(snapshotReader.readLine());
+            int lineNo = 2;
+            for (String line = snapshotReader.readLine(); line != null; line = snapshotReader.readLine()) {
+                String record = RecordChecksum.unseal(line, StandardCharsets.UTF_8);
+                if (record == null) {
+                    lineNo++;
+                    continue;
+                }
+                state.idHighWaterMark = Math.max(state.idHighWaterMark, parseIdMark(record));
+                try {
+                    Task task = parseTask(record);
+                    if (task != null) {
+                        tasks.add(task);
+                    }
+                } catch (DateTimeParseException ex) {
+                    parseErrorMsg.append(ex.getMessage() + " at snapshot line " + lineNo + ".\n");
+                }
+                lineNo++;
+            }
+        } catch (IOException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        }
+
+        try {
+            int recordNo = 1;
+            for (String record : readJournalRecords()) {
+                long seq = parseSeq(record);
+                if (seq > uptoSeq) {
+                    break;
+                }
+                if (seq > coveredSeq) {
+                    try {
+                        Task deletedTask = replay(tasks, record.split(STORAGE_SEPARATOR, 3));
+                        if (deletedTask != null) {
+                            state.idHighWaterMark = Math.max(state.idHighWaterMark, deletedTask.getId());
+                        }
+                    } catch (DateTimeParseException ex) {
+                        parseErrorMsg.append(ex.getMessage() + " at journal record " + recordNo + ".\n");
+                    } catch (IndexOutOfBoundsException ex) {
+                        parseErrorMsg.append("Malformed record at journal record " + recordNo + ".\n");
+                    }
+                }
+                if (seq == uptoSeq) {
+                    break;
+                }
+                recordNo++;
+            }
+        } catch (IOException ex) {
+            throw new PoseidonStorageReadWriteException(ex.getMessage());
+        }
+
+        if (parseErrorMsg.length() > 0) {
+            throw new PoseidonStorageReadWriteException("Following errors found during loading:\n\n"
+                    + parseErrorMsg);
+        }
+        return state;
+    }
+
+    // Applies the given journal record to the given Tasks and returns the Task it deleted, if any.
+    private static Task replay(ArrayList<Task> tasks, String[] record) {
+        switch (record[1]) {
+        case OP_ADD:
+            Task newTask = parseTask(record[2]);
+            if (newTask != null) {
+                tasks.add(newTask);
+            }
+            break;
+        case OP_MODIFY:
+            String[] modifyArr = record[2].split(STORAGE_SEPARATOR, 2);
+            Task modifiedTask = parseTask(modifyArr[1]);
+            if (modifiedTask != null) {
+                tasks.set(Integer.parseInt(modifyArr[0]) - 1, modifiedTask);
+            }
+            break;
+        case OP_DELETE:
+            return tasks.remove(Integer.parseInt(record[2]) - 1);
+        default:
+            throw new IndexOutOfBoundsException();
+        }
+        return null;
+    }
+
+    private long readSnapshotSeq() throws IOException, PoseidonStorageReadWriteException {
+        try (BufferedReader snapshotReader = Files.newBufferedReader(snapshotPath, StandardCharsets.UTF_8)) {
+            return parseSeq(snapshotReader.readLine());
+        }
+    }
+
+    private long readLastJournalSeq() throws IOException, PoseidonStorageReadWriteException {
+        long seq = 0;
+        for (String record : readJournalRecords()) {
+            seq = Math.max(seq, parseSeq(record));
+        }
+        return seq;
+    }
+
+    /**
+     * Returns the records of the journal without their checksums, skipping torn records. Besides records whose
+     * checksum doesn't match, an unsealed last record is torn if the journal holds sealed records, as only records
+     * written by older versions of the Bot are unsealed and those never follow sealed ones.
+     */
+    private ArrayList<String> readJournalRecords() throws IOException {
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        ArrayList<String> records = new ArrayList<>();
+        boolean hasSealedRecords = false;
+        for (int i = 0; i < lines.size(); i++) {
+            boolean isSealed = RecordChecksum.isSealed(lines.get(i));
+            hasSealedRecords |= isSealed;
+            String record = RecordChecksum.unseal(lines.get(i), StandardCharsets.UTF_8);
+            boolean isTornTail = !isSealed && hasSealedRecords && i == lines.size() - 1;
+            if (record != null && !record.isEmpty() && !isTornTail) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    // Rewrites the journal without its torn records, so that the next append doesn't land on a torn line, and
+    // returns the number of records dropped.
+    private int dropTornRecords() throws IOException {
+        StringBuilder journal = new StringBuilder();
+        ArrayList<String> records = readJournalRecords();
+        records.forEach((record) -> journal.append(sealRecord(record) + "\n"));
+        byte[] repairedJournal = journal.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] oldJournal = Files.readAllBytes(journalPath);
+        if (Arrays.equals(repairedJournal, oldJournal)) {
+            return 0;
+        }
+        int oldRecordCount = 0;
+        for (String line : new String(oldJournal, StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                oldRecordCount++;
+            }
+        }
+        writeAtomically(journalPath, repairedJournal);
+        return oldRecordCount - records.size();
+    }
+
+    private static String sealRecord(String record) {
+        return RecordChecksum.seal(record, StandardCharsets.UTF_8);
+    }
+
+    private static long parseSeq(String line) throws PoseidonStorageReadWriteException {
+        try {
+            String[] lineArr = line.split(STORAGE_SEPARATOR, 3);
+            return Long.parseLong(lineArr[SNAPSHOT_HEADER.equals(lineArr[0]) ? 1 : 0]);
+        } catch (NullPointerException | IndexOutOfBoundsException | NumberFormatException ex) {
+            throw new PoseidonStorageReadWriteException("Malformed journal record: " + line);
+        }
+    }
+
+    /**
+     * Represents the {@code Task}s read from the snapshot and the journal, and the ID high-water mark they leave.
+     */
+    private static class JournalState {
+        private final ArrayList<Task> tasks = new ArrayList<>();
+        private int idHighWaterMark;
+    }
+}
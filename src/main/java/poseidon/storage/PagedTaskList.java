@@ -0,0 +1,294 @@
+package poseidon.storage;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import poseidon.exception.PoseidonStorageException;
+import poseidon.parser.DateTimeParser;
+import poseidon.task.Task;
+import poseidon.tasklist.OnDemandTaskList;
+
+/**
+ * Represents a {@code List} of the {@code Task}s in the storage document that keeps only the bytes of the document and
+ * the offsets of their records, and builds a {@code Task} object the first time it is read. At most a bounded number
+ * of those objects are kept alive, the least recently read ones are dropped and rebuilt from the bytes when read
+ * again, so that startup time stays flat and the heap grows only with the size of the document, not with the
+ * {@code Task} objects.
+ *
+ * <p>The bytes are copied out of the document when it is opened, rather than memory-mapped, so that this list never
+ * reads a document that the storage engine has since replaced, and never keeps it from being replaced.</p>
+ *
+ * <p>{@code Task}s that are added or replaced exist only in memory and are pinned, as the document on the local hard
+ * disk is rewritten separately by the storage engine. A {@code Task} read from this list must therefore be written
+ * back with {@link #set} once it is changed. As even a read reorders the {@code Task} objects kept alive, every
+ * access is synchronized.</p>
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+final class PagedTaskList extends AbstractList<Task> implements OnDemandTaskList, RandomAccess {
+
+    /** Number of {@code Task} objects built from the document that are kept alive by default */
+    static final int DEFAULT_LIVE_TASK_LIMIT = 4096;
+
+    // Private constants dictating the bytes that separate fields and lines of the storage document.
+    private static final byte FIELD_SEPARATOR = '\t';
+    private static final byte LINE_SEPARATOR = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    // Private constants dictating the number of leading fields whose ends are kept and the first date and time field.
+    private static final int MAX_CHECKED_FIELDS = 5;
+    private static final int DATE_TIME_FIELD = 3;
+
+    private final ByteBuffer taskData;
+    private final Charset charset = Charset.defaultCharset();
+    private final LinkedHashMap<Integer, Task> liveTasks;
+    private final ArrayList<Task> pinnedTasks = new ArrayList<>();
+    private final int idHighWaterMark;
+
+    // Offset of the record of every Task in the document, or -(i + 1) for the i-th pinned Task.
+    private int[] taskRefs;
+    private int size;
+
+    private PagedTaskList(ByteBuffer taskData, int[] taskRefs, int size, int idHighWaterMark, int liveTaskLimit) {
+        this.taskData = taskData;
+        this.taskRefs = taskRefs;
+        this.size = size;
+        this.idHighWaterMark = idHighWaterMark;
+        this.liveTasks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Task> eldest) {
+                return size() > liveTaskLimit;
+            }
+        };
+    }
+
+    /**
+     * Returns a {@code PagedTaskList} over the records of the given storage document, or null if the document holds
+     * a torn record, a record with missing fields or a date and time that can't be parsed, which only a full load can
+     * skip or report.
+     *
+     * @param taskDataFile Storage document to be paged through.
+     * @param liveTaskLimit Number of {@code Task} objects built from the document that are kept alive.
+     * @return {@code PagedTaskList} over the document, or null.
+     * @throws PoseidonStorageException Exceptions that occur when accessing a file for storage on the local hard
+     * disk.
+     */
+    static PagedTaskList open(File taskDataFile, int liveTaskLimit) throws PoseidonStorageException {
+        ByteBuffer taskData = ChunkedTaskLoader.readDocument(taskDataFile);
+        int[] taskRefs = new int[1024];
+        int taskCount = 0;
+        int idHighWaterMark = 0;
+        boolean hasSealedRecords = false;
+        int[] fieldEnds = new int[MAX_CHECKED_FIELDS];
+        int lineStart = 0;
+        while (lineStart < taskData.limit()) {
+            int lineEnd = lineStart;
+            int fieldCount = 1;
+            int lastFieldStart = lineStart;
+            while (lineEnd < taskData.limit() && taskData.get(lineEnd) != LINE_SEPARATOR) {
+                if (taskData.get(lineEnd) == FIELD_SEPARATOR) {
+                    if (fieldCount <= MAX_CHECKED_FIELDS) {
+                        fieldEnds[fieldCount - 1] = lineEnd;
+                    }
+                    fieldCount++;
+                    lastFieldStart = lineEnd + 1;
+                }
+                lineEnd++;
+            }
+            int contentEnd = lineEnd > lineStart && taskData.get(lineEnd - 1) == CARRIAGE_RETURN
+                    ? lineEnd - 1
+                    : lineEnd;
+            if (fieldCount <= MAX_CHECKED_FIELDS) {
+                fieldEnds[fieldCount - 1] = contentEnd;
+            }
+
+            long checksum = RecordChecksum.hasSealableFieldCount(fieldCount)
+                    ? RecordChecksum.parseField(taskData, lastFieldStart, contentEnd)
+                    : -1;
+            if (checksum >= 0) {
+                if (RecordChecksum.compute(taskData, lineStart, lastFieldStart - 1) != checksum) {
+                    return null;
+                }
+                hasSealedRecords = true;
+                fieldCount--;
+            } else if (hasSealedRecords && lineEnd == taskData.limit() && contentEnd > lineStart) {
+                return null;
+            }
+
+            int requiredFields = requiredFields(taskData, lineStart, contentEnd);
+            if (requiredFields > 0) {
+                if (fieldCount < requiredFields || !hasValidDateTimes(taskData, fieldEnds, requiredFields)) {
+                    return null;
+                }
+                if (taskCount == taskRefs.length) {
+                    taskRefs = Arrays.copyOf(taskRefs, taskCount * 2);
+                }
+                taskRefs[taskCount++] = lineStart;
+            } else if (isIdMark(taskData, lineStart, fieldEnds, fieldCount)) {
+                idHighWaterMark = Math.max(idHighWaterMark,
+                        Storage.parseIdField(decodeAscii(taskData, fieldEnds[0] + 1, fieldEnds[1])));
+            }
+            lineStart = lineEnd + 1;
+        }
+        return new PagedTaskList(taskData, taskRefs, taskCount, idHighWaterMark, liveTaskLimit);
+    }
+
+    /**
+     * Returns the {@code Task} at the given position, building it from the document if it isn't alive.
+     *
+     * @param index Position of the {@code Task}, starting from 0.
+     * @return {@code Task} at the position.
+     * @throws IllegalStateException If the record of the {@code Task} holds a date and time that couldn't be parsed.
+     */
+    @Override
+    public synchronized Task get(int index) {
+        int taskRef = taskRefs[checkIndex(index, size)];
+        if (taskRef < 0) {
+            return pinnedTasks.get(-taskRef - 1);
+        }
+        Task task = liveTasks.get(taskRef);
+        if (task == null) {
+            task = readTask(taskRef);
+            liveTasks.put(taskRef, task);
+        }
+        return task;
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized Task set(int index, Task task) {
+        Task oldTask = get(index);
+        int taskRef = taskRefs[index];
+        if (taskRef < 0) {
+            pinnedTasks.set(-taskRef - 1, task);
+        } else {
+            liveTasks.remove(taskRef);
+            taskRefs[index] = pin(task);
+        }
+        return oldTask;
+    }
+
+    @Override
+    public synchronized void add(int index, Task task) {
+        checkIndex(index, size + 1);
+        if (size == taskRefs.length) {
+            taskRefs = Arrays.copyOf(taskRefs, Math.max(16, size * 2));
+        }
+        System.arraycopy(taskRefs, index, taskRefs, index + 1, size - index);
+        taskRefs[index] = pin(task);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public synchronized Task remove(int index) {
+        Task oldTask = get(index);
+        int taskRef = taskRefs[index];
+        if (taskRef < 0) {
+            pinnedTasks.set(-taskRef - 1, null);
+        } else {
+            liveTasks.remove(taskRef);
+        }
+        System.arraycopy(taskRefs, index + 1, taskRefs, index, size - index - 1);
+        size--;
+        modCount++;
+        return oldTask;
+    }
+
+    /**
+     * Returns the ID high-water mark kept in the document, see {@link StorageBackend#getIdHighWaterMark()}.
+     *
+     * @return Highest ID of a deleted {@code Task}, or 0.
+     */
+    int getIdHighWaterMark() {
+        return idHighWaterMark;
+    }
+
+    /**
+     * Returns the number of {@code Task} objects built from the document that are currently alive.
+     *
+     * @return Number of live {@code Task}s.
+     */
+    synchronized int countLiveTasks() {
+        return liveTasks.size();
+    }
+
+    private int pin(Task task) {
+        pinnedTasks.add(task);
+        return -pinnedTasks.size();
+    }
+
+    private Task readTask(int lineStart) {
+        int lineEnd = lineStart;
+        while (lineEnd < taskData.limit() && taskData.get(lineEnd) != LINE_SEPARATOR) {
+            lineEnd++;
+        }
+        if (lineEnd > lineStart && taskData.get(lineEnd - 1) == CARRIAGE_RETURN) {
+            lineEnd--;
+        }
+        byte[] line = new byte[lineEnd - lineStart];
+        taskData.duplicate().position(lineStart).get(line);
+        String record = new String(line, charset);
+        if (RecordChecksum.isSealed(record)) {
+            record = record.substring(0, record.lastIndexOf(Storage.STORAGE_SEPARATOR));
+        }
+
+        try {
+            return Storage.parseTask(record);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalStateException(ex.getMessage() + " at byte " + lineStart + ".", ex);
+        }
+    }
+
+    // Returns true if every date and time field of the record, the ones after its description, can be parsed.
+    private static boolean hasValidDateTimes(ByteBuffer taskData, int[] fieldEnds, int requiredFields) {
+        for (int field = DATE_TIME_FIELD; field < requiredFields; field++) {
+            try {
+                DateTimeParser.parseStorageDateTime(decodeAscii(taskData, fieldEnds[field - 1] + 1, fieldEnds[field]));
+            } catch (DateTimeParseException ex) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIdMark(ByteBuffer taskData, int lineStart, int[] fieldEnds, int fieldCount) {
+        return fieldCount == 2 && fieldEnds[0] == lineStart + 1 && taskData.get(lineStart) == Storage.ID_MARK_TYPE;
+    }
+
+    private static String decodeAscii(ByteBuffer taskData, int start, int end) {
+        byte[] field = new byte[end - start];
+        taskData.duplicate().position(start).get(field);
+        return new String(field, StandardCharsets.US_ASCII);
+    }
+
+    private static int requiredFields(ByteBuffer taskData, int lineStart, int contentEnd) {
+        boolean isTypeField = contentEnd == lineStart + 1
+                || contentEnd > lineStart + 1 && taskData.get(lineStart + 1) == FIELD_SEPARATOR;
+        if (!isTypeField) {
+            return 0;
+        }
+        return Storage.countRequiredFields((char) taskData.get(lineStart));
+    }
+
+    private static int checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + bound);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,146 @@
+package poseidon.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.zip.CRC32C;
+
+/**
+ * Represents the checksum sealing a single record of a storage document. A sealed record carries the CRC32C of its
+ * bytes as a trailing {@code #xxxxxxxx} field, so that a record torn by a crash in the middle of a write can be told
+ * apart from a good one and skipped. Records without the field are accepted as written by older versions of the Bot.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+final class RecordChecksum {
+
+    /** First character of the checksum field of a sealed record */
+    static final char CHECKSUM_TAG = '#';
+
+    // Private constants dictating the format of the checksum field. Every record has at least three fields of its own,
+    // so a record of fewer fields can never be sealed, e.g. a Todo whose description merely looks like a checksum.
+    private static final int CHECKSUM_DIGITS = 8;
+    private static final int MIN_SEALED_FIELDS = 4;
+
+    private RecordChecksum() {
+    }
+
+    /**
+     * Returns the given record with its checksum field appended.
+     *
+     * @param record Record without a trailing newline.
+     * @param charset {@code Charset} in which the record is written to the storage document.
+     * @return Sealed record.
+     */
+    static String seal(String record, Charset charset) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(record.getBytes(charset));
+        return record + Storage.STORAGE_SEPARATOR + CHECKSUM_TAG
+                + Long.toHexString(checksum.getValue() | 1L << 32).substring(1);
+    }
+
+    /**
+     * Returns whether the given record ends with a checksum field.
+     *
+     * @param record Record without a trailing newline.
+     * @return True if the record is sealed.
+     */
+    static boolean isSealed(String record) {
+        int checksumStart = record.length() - CHECKSUM_DIGITS - 1;
+        if (checksumStart < 1 || record.charAt(checksumStart - 1) != Storage.STORAGE_SEPARATOR.charAt(0)
+                || record.charAt(checksumStart) != CHECKSUM_TAG || parseDigits(record, checksumStart + 1) < 0) {
+            return false;
+        }
+        int fieldCount = 1;
+        for (int i = 0; i < checksumStart; i++) {
+            if (record.charAt(i) == Storage.STORAGE_SEPARATOR.charAt(0)) {
+                fieldCount++;
+            }
+        }
+        return fieldCount >= MIN_SEALED_FIELDS;
+    }
+
+    /**
+     * Returns the given record without its checksum field, the record itself if it isn't sealed, or null if its
+     * checksum doesn't match, i.e. the record is torn.
+     *
+     * @param record Record without a trailing newline.
+     * @param charset {@code Charset} in which the record was written to the storage document.
+     * @return Record without its checksum field, or null if it is torn.
+     */
+    static String unseal(String record, Charset charset) {
+        if (!isSealed(record)) {
+            return record;
+        }
+        int checksumStart = record.length() - CHECKSUM_DIGITS - 1;
+        String content = record.substring(0, checksumStart - 1);
+        CRC32C checksum = new CRC32C();
+        checksum.update(content.getBytes(charset));
+        return checksum.getValue() == parseDigits(record, checksumStart + 1) ? content : null;
+    }
+
+    /**
+     * Returns the value of the checksum field between the given offsets, or -1 if the bytes don't form a checksum
+     * field.
+     *
+     * @param bytes Bytes of the storage document.
+     * @param start Offset of the first byte of the field.
+     * @param end Offset just past the last byte of the field.
+     * @return Value of the checksum field, or -1.
+     */
+    static long parseField(ByteBuffer bytes, int start, int end) {
+        if (end - start != CHECKSUM_DIGITS + 1 || bytes.get(start) != CHECKSUM_TAG) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = start + 1; i < end; i++) {
+            int digit = Character.digit(bytes.get(i), 16);
+            if (digit < 0) {
+                return -1;
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the CRC32C of the bytes between the given offsets.
+     *
+     * @param bytes Bytes of the storage document.
+     * @param start Offset of the first byte of the record.
+     * @param end Offset just past the last byte of the record, excluding the separator before its checksum field.
+     * @return CRC32C of the record.
+     */
+    static long compute(ByteBuffer bytes, int start, int end) {
+        ByteBuffer record = bytes.duplicate();
+        record.limit(end).position(start);
+        CRC32C checksum = new CRC32C();
+        checksum.update(record);
+        return checksum.getValue();
+    }
+
+    /**
+     * Returns whether a record split into the given number of fields, including its last, may be sealed.
+     *
+     * @param fieldCount Number of fields of the record.
+     * @return True if the record has enough fields to be sealed.
+     */
+    static boolean hasSealableFieldCount(int fieldCount) {
+        return fieldCount >= MIN_SEALED_FIELDS;
+    }
+
+    private static long parseDigits(String record, int start) {
+        if (record.length() - start != CHECKSUM_DIGITS) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = start; i < record.length(); i++) {
+            int digit = Character.digit(record.charAt(i), 16);
+            if (digit < 0) {
+                return -1;
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+}
@@ -1,18 +1,25 @@
 package poseidon.storage;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDateTime;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.List;
 
 import poseidon.exception.PoseidonStorageException;
 import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.parser.DateTimeParser;
 import poseidon.task.Deadline;
 import poseidon.task.Event;
 import poseidon.task.Task;
@@ -25,12 +32,23 @@ import poseidon.task.Todo;
  * @author Yeluri Ketan
  * @version CS2103T AY21/22 Sem 1 iP
  */
-public class Storage {
+public class Storage implements StorageBackend {
 
     /** Separator value to be used for storage to a local text file on the hard disk */
     public static final String STORAGE_SEPARATOR = "\t";
 
+    /** Prefix of the optional field that holds the ID of a {@code Task}, after all of its other fields */
+    public static final String ID_FIELD_PREFIX = "@";
+
+    /** Type of the record that keeps the ID high-water mark in an ID field, which doesn't hold a {@code Task} */
+    static final char ID_MARK_TYPE = 'N';
+
+    // Private constant dictating the most digits of an ID field that can't overflow an int.
+    private static final int MAX_ID_DIGITS = 9;
+
     private File taskDataFile;
+    private String loadWarning = "";
+    private int idHighWaterMark;
 
     /**
      * Constructs a {@code Storage} object and initializes the taskDataFile {@code File} object.
@@ -39,12 +57,24 @@ public class Storage {
      * on the local hard disk.
      */
     public Storage() throws PoseidonStorageException {
+        this(Paths.get("data", "taskData.txt"));
+    }
+
+    /**
+     * Constructs a {@code Storage} object backed by the given file, creating the file and its parent directory if
+     * they don't exist yet.
+     *
+     * @param taskDataPath {@code Path} of the file used for storage.
+     * @throws PoseidonStorageException For exceptions that occur when accessing/creating a file for storage
+     * on the local hard disk.
+     */
+    public Storage(Path taskDataPath) throws PoseidonStorageException {
         try {
-            File taskDataDir = new File(Paths.get("data").toString());
+            File taskDataDir = taskDataPath.toAbsolutePath().getParent().toFile();
             if (!taskDataDir.exists()) {
-                taskDataDir.mkdir();
+                taskDataDir.mkdirs();
             }
-            File taskDataFile = new File(Paths.get("data", "taskData.txt").toString());
+            File taskDataFile = taskDataPath.toFile();
             if (!taskDataFile.exists()) {
                 taskDataFile.createNewFile();
             }
@@ -59,7 +89,10 @@ public class Storage {
 
     /**
      * Returns a {@code ArrayList} containing all the {@code Task}s after reading through a text {@code File}
-     * saved on the hard disk.
+     * saved on the hard disk. The {@code File} is read into a single buffer and scanned byte by byte, see
+     * {@link ChunkedTaskLoader}. Records torn by a crash are skipped and dropped from the {@code File}, and a warning
+     * about them is kept for {@link #takeLoadWarning()}. The ID high-water mark is kept in a record of its own at the
+     * top of the {@code File}, see {@link #getIdHighWaterMark()}.
      *
      * @return {@code ArrayList} containing all the saved {@code Task}s.
      * @throws PoseidonStorageException Exceptions that occur when accessing a file for storage on the local hard
@@ -68,49 +101,214 @@ public class Storage {
      * the local hard disk.
      */
     public ArrayList<Task> load() throws PoseidonStorageException, PoseidonStorageReadWriteException {
-        ArrayList<Task> tasks = new ArrayList<>();
-        Scanner loadScan;
-        StringBuilder parseErrorMsg = new StringBuilder();
+        ChunkedTaskLoader.LoadedTasks loadedTasks = ChunkedTaskLoader.load(taskDataFile);
+        idHighWaterMark = loadedTasks.getIdHighWaterMark();
+        if (loadedTasks.getTornRecordCount() > 0) {
+            loadWarning = tornRecordWarning(loadedTasks.getTornRecordCount(), taskDataFile.getName());
+            StringBuilder repairedTaskData = new StringBuilder(idMarkLine(idHighWaterMark));
+            for (Task task : loadedTasks.getTasks()) {
+                repairedTaskData.append(sealRecord(task.toStorage().trim()) + "\n");
+            }
+            try {
+                writeAtomically(taskDataFile.toPath(), repairedTaskData.toString().getBytes(Charset.defaultCharset()));
+            } catch (IOException ex) {
+                throw new PoseidonStorageReadWriteException(ex.getMessage());
+            }
+        }
+        return loadedTasks.getTasks();
+    }
 
-        try {
-            loadScan = new Scanner(taskDataFile);
-        } catch (IOException ex) {
-            throw new PoseidonStorageException("Couldn't access storage file.\n"
-                    + ex.getMessage());
+    /**
+     * Returns a {@code List} containing all the {@code Task}s that keeps only a copy of the bytes of the {@code File}
+     * and the offsets of their lines, and builds each {@code Task} when it is first read, see {@link PagedTaskList}.
+     * If the {@code File} holds torn records or records with missing fields, all the {@code Task}s are loaded instead,
+     * so that they are dropped or reported as usual.
+     *
+     * @param liveTaskLimit Number of {@code Task}s built from the lines that are kept alive.
+     * @return {@code List} containing all the saved {@code Task}s.
+     * @throws PoseidonStorageException Exceptions that occur when accessing a file for storage on the local hard
+     * disk.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public List<Task> loadPaged(int liveTaskLimit) throws PoseidonStorageException,
+            PoseidonStorageReadWriteException {
+        PagedTaskList pagedTasks = PagedTaskList.open(taskDataFile, liveTaskLimit);
+        if (pagedTasks == null) {
+            return load();
         }
+        idHighWaterMark = pagedTasks.getIdHighWaterMark();
+        return pagedTasks;
+    }
 
-        int lineNo = 1;
-        while (loadScan.hasNextLine()) {
-            try {
-                String[] nextLineArr = loadScan.nextLine().split(STORAGE_SEPARATOR);
-                switch (nextLineArr[0]) {
-                case "T":
-                    tasks.add(new Todo(nextLineArr[2], Boolean.parseBoolean(nextLineArr[1])));
-                    break;
-                case "E":
-                    tasks.add(new Event(nextLineArr[2], Boolean.parseBoolean(nextLineArr[1]),
-                            LocalDateTime.parse(nextLineArr[3]), LocalDateTime.parse(nextLineArr[4])));
-                    break;
-                case "D":
-                    tasks.add(new Deadline(nextLineArr[2], Boolean.parseBoolean(nextLineArr[1]),
-                            LocalDateTime.parse(nextLineArr[3])));
-                    break;
-                default:
-                    break;
-                }
-                lineNo++;
-            } catch (DateTimeParseException ex) {
-                parseErrorMsg.append(ex.getMessage() + " at line " + lineNo + ".\n");
-            }
+    @Override
+    public int getIdHighWaterMark() {
+        return idHighWaterMark;
+    }
+
+    @Override
+    public String takeLoadWarning() {
+        String warning = loadWarning;
+        loadWarning = "";
+        return warning;
+    }
+
+    /**
+     * Returns the {@code Task} represented by a single line of the storage document, or null if the line does not
+     * hold a known type of {@code Task}.
+     *
+     * @param taskStorage Storage {@code String} version of a {@code Task}, without the trailing newline.
+     * @return {@code Task} parsed from the line.
+     * @throws DateTimeParseException If a date and time field of the line couldn't be parsed.
+     */
+    public static Task parseTask(String taskStorage) throws DateTimeParseException {
+        String[] taskArr = taskStorage.split(STORAGE_SEPARATOR);
+        Task task;
+        switch (taskArr[0]) {
+        case "T":
+            task = new Todo(taskArr[2], Boolean.parseBoolean(taskArr[1]));
+            break;
+        case "E":
+            task = new Event(taskArr[2], Boolean.parseBoolean(taskArr[1]),
+                    DateTimeParser.parseStorageDateTime(taskArr[3]), DateTimeParser.parseStorageDateTime(taskArr[4]));
+            break;
+        case "D":
+            task = new Deadline(taskArr[2], Boolean.parseBoolean(taskArr[1]),
+                    DateTimeParser.parseStorageDateTime(taskArr[3]));
+            break;
+        default:
+            return null;
+        }
+
+        int requiredFields = countRequiredFields(taskArr[0].charAt(0));
+        if (taskArr.length > requiredFields) {
+            task.setId(parseIdField(taskArr[requiredFields]));
         }
+        return task;
+    }
 
-        if (parseErrorMsg.length() > 0) {
-            throw new PoseidonStorageReadWriteException("Following errors found during loading:\n\n"
-                    + parseErrorMsg);
+    /**
+     * Returns the number of fields that a record of the given type must have, or 0 for an unknown type. An ID field
+     * may follow them.
+     *
+     * @param type Type character of the record.
+     * @return Number of required fields.
+     */
+    public static int countRequiredFields(char type) {
+        switch (type) {
+        case 'T':
+            return 3;
+        case 'D':
+            return 4;
+        case 'E':
+            return 5;
+        default:
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the ID held by the given field, or 0 if it isn't an ID field.
+     *
+     * @param field Field of a record.
+     * @return ID of the {@code Task}, or 0.
+     */
+    public static int parseIdField(String field) {
+        if (field.length() < 2 || field.length() > MAX_ID_DIGITS + 1 || !field.startsWith(ID_FIELD_PREFIX)) {
+            return 0;
+        }
+        for (int i = 1; i < field.length(); i++) {
+            if (field.charAt(i) < '0' || field.charAt(i) > '9') {
+                return 0;
+            }
         }
+        return Integer.parseInt(field.substring(1));
+    }
+
+    /**
+     * Returns the warning about the given number of torn records that were dropped from the given file.
+     *
+     * @param tornRecordCount Number of torn records dropped.
+     * @param fileName Name of the file they were dropped from.
+     * @return {@code String} warning message.
+     */
+    protected static String tornRecordWarning(int tornRecordCount, String fileName) {
+        return "Warning: " + tornRecordCount + " record(s) in " + fileName
+                + " were cut short or failed their checksum.\n"
+                + "They were left out and removed from the file.";
+    }
+
+    /**
+     * Returns the ID held by the given record of a {@code Task}, or 0 if it has none. A trailing checksum field is
+     * ignored.
+     *
+     * @param record Record of a {@code Task}, without the trailing newline.
+     * @return ID of the {@code Task}, or 0.
+     */
+    static int parseRecordId(String record) {
+        String[] recordArr = record.split(STORAGE_SEPARATOR);
+        int requiredFields = recordArr[0].length() == 1 ? countRequiredFields(recordArr[0].charAt(0)) : 0;
+        return requiredFields > 0 && recordArr.length > requiredFields ? parseIdField(recordArr[requiredFields]) : 0;
+    }
+
+    /**
+     * Returns the ID high-water mark kept by the given record, or 0 if it isn't the record of an ID high-water mark.
+     *
+     * @param record Record without the trailing newline.
+     * @return ID high-water mark, or 0.
+     */
+    static int parseIdMark(String record) {
+        return record.length() > 2 && record.charAt(0) == ID_MARK_TYPE
+                && record.startsWith(STORAGE_SEPARATOR, 1) ? parseIdField(record.substring(2)) : 0;
+    }
 
-        loadScan.close();
-        return tasks;
+    /**
+     * Returns the line of the record that keeps the given ID high-water mark, or an empty {@code String} if there is
+     * no mark to keep. The record has too few fields to be sealed, so it is written without a checksum.
+     *
+     * @param idHighWaterMark Highest ID of a deleted {@code Task}, or 0.
+     * @return Line of the record, with its trailing newline.
+     */
+    static String idMarkLine(int idHighWaterMark) {
+        return idHighWaterMark > 0 ? ID_MARK_TYPE + STORAGE_SEPARATOR + ID_FIELD_PREFIX + idHighWaterMark + "\n" : "";
+    }
+
+    /**
+     * Returns the {@code File} on the local hard disk that this {@code Storage} object reads from and writes to.
+     *
+     * @return {@code File} used for storage.
+     */
+    protected File getTaskDataFile() {
+        return taskDataFile;
+    }
+
+    /**
+     * Writes the given content to a temporary file next to the target, forces it to the local hard disk and then
+     * moves it over the target in a single step. The parent directory is then forced as well, so that the move itself
+     * survives a crash. Platforms that can't open a directory, such as Windows, skip that step, and there the move may
+     * still be lost if the system crashes right after it.
+     *
+     * @param target {@code Path} of the file to be replaced.
+     * @param content New content of the file.
+     * @throws IOException If the content couldn't be written or moved into place.
+     */
+    protected static void writeAtomically(Path target, byte[] content) throws IOException {
+        Path tempPath = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileOutputStream tempStream = new FileOutputStream(tempPath.toFile())) {
+            tempStream.write(content);
+            tempStream.getFD().sync();
+        }
+        try {
+            Files.move(tempPath, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        try (FileChannel dirChannel = FileChannel.open(target.toAbsolutePath().getParent(), StandardOpenOption.READ)) {
+            dirChannel.force(true);
+        } catch (IOException ex) {
+            // The directory can't be opened on this platform, so the move is left to the file system to write.
+        }
     }
 
     /**
@@ -122,8 +320,17 @@ public class Storage {
      */
     public void storeAdd(String taskStorage) throws PoseidonStorageReadWriteException {
         try {
+            StringBuilder newRecords = new StringBuilder();
+            if (!endsWithNewline()) {
+                newRecords.append("\n");
+            }
+            for (String line : taskStorage.split("\n")) {
+                if (!line.isEmpty()) {
+                    newRecords.append(sealRecord(line) + "\n");
+                }
+            }
             FileWriter taskDataWriter = new FileWriter(taskDataFile, true);
-            taskDataWriter.write(taskStorage);
+            taskDataWriter.write(newRecords.toString());
             taskDataWriter.close();
         } catch (IOException ex) {
             throw new PoseidonStorageReadWriteException(ex.getMessage());
@@ -140,68 +347,116 @@ public class Storage {
      * the local hard disk.
      */
     public void storeModify(int index, String taskStorage) throws PoseidonStorageReadWriteException {
-        try {
-            BufferedReader taskDataReader = new BufferedReader(new FileReader(taskDataFile));
-            StringBuilder newTaskData = new StringBuilder();
+        rewrite(List.of(StorageMutation.modify(index, taskStorage)));
+    }
 
-            for (int i = 0; i < index - 1; i++) {
-                newTaskData.append(taskDataReader.readLine() + "\n");
-            }
+    /**
+     * Deletes a {@code Task} from the storage document of Bot.
+     *
+     * @param index Index of the deleted {@code Task}.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    public void storeDelete(int index) throws PoseidonStorageReadWriteException {
+        rewrite(List.of(StorageMutation.delete(index)));
+    }
 
-            taskDataReader.readLine();
-            newTaskData.append(taskStorage);
+    /**
+     * Applies the given changes to the storage document in order, in a single read-modify-write of the document. The
+     * new document is written to a temporary file and moved into place, so a crash leaves either the old or the new
+     * document behind, never a truncated one. Deleting a {@code Task} raises the ID high-water mark kept at the top
+     * of the document to its ID, see {@link #getIdHighWaterMark()}.
+     *
+     * @param mutations {@code StorageMutation}s to be applied.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public void storeBatch(List<StorageMutation> mutations) throws PoseidonStorageReadWriteException {
+        rewrite(mutations);
+    }
 
-            while (true) {
-                String nextLine = taskDataReader.readLine();
-                if (nextLine == null) {
-                    break;
+    private void rewrite(List<StorageMutation> mutations) throws PoseidonStorageReadWriteException {
+        try {
+            ArrayList<String> lines = new ArrayList<>();
+            int newIdHighWaterMark = 0;
+            for (String line : Files.readAllLines(taskDataFile.toPath(), Charset.defaultCharset())) {
+                int lineIdMark = parseIdMark(line);
+                if (lineIdMark > 0) {
+                    newIdHighWaterMark = Math.max(newIdHighWaterMark, lineIdMark);
                 } else {
-                    newTaskData.append(nextLine + "\n");
+                    lines.add(line);
                 }
             }
 
-            FileWriter taskDataWriter = new FileWriter(taskDataFile);
-            taskDataWriter.write(newTaskData.toString());
-            taskDataWriter.close();
-            taskDataReader.close();
-        } catch (IOException ex) {
+            for (StorageMutation mutation : mutations) {
+                switch (mutation.getType()) {
+                case ADD:
+                    for (String line : mutation.getTaskStorage().split("\n")) {
+                        if (!line.isEmpty()) {
+                            lines.add(line);
+                        }
+                    }
+                    break;
+                case MODIFY:
+                    lines.set(mutation.getIndex() - 1, mutation.getTaskStorage().trim());
+                    break;
+                case DELETE:
+                    newIdHighWaterMark = Math.max(newIdHighWaterMark,
+                            parseRecordId(lines.remove(mutation.getIndex() - 1)));
+                    break;
+                default:
+                    break;
+                }
+            }
+
+            StringBuilder newTaskData = new StringBuilder(idMarkLine(newIdHighWaterMark));
+            for (String line : lines) {
+                newTaskData.append((line.isEmpty() || RecordChecksum.isSealed(line) ? line : sealRecord(line)) + "\n");
+            }
+            writeAtomically(taskDataFile.toPath(), newTaskData.toString().getBytes(Charset.defaultCharset()));
+        } catch (IOException | IndexOutOfBoundsException ex) {
             throw new PoseidonStorageReadWriteException(ex.getMessage());
         }
     }
 
     /**
-     * Deletes a {@code Task} from the storage document of Bot.
+     * Applies the given changes one at a time through {@link #storeAdd}, {@link #storeModify} and
+     * {@link #storeDelete}, for storage engines whose single changes are already cheap.
      *
-     * @param index Index of the deleted {@code Task}.
+     * @param mutations {@code StorageMutation}s to be applied.
      * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
      * the local hard disk.
      */
-    public void storeDelete(int index) throws PoseidonStorageReadWriteException {
-        try {
-            BufferedReader taskDataReader = new BufferedReader(new FileReader(taskDataFile));
-            StringBuilder newTaskData = new StringBuilder();
-
-            for (int i = 0; i < index - 1; i++) {
-                newTaskData.append(taskDataReader.readLine() + "\n");
+    protected void applyEach(List<StorageMutation> mutations) throws PoseidonStorageReadWriteException {
+        for (StorageMutation mutation : mutations) {
+            switch (mutation.getType()) {
+            case ADD:
+                storeAdd(mutation.getTaskStorage());
+                break;
+            case MODIFY:
+                storeModify(mutation.getIndex(), mutation.getTaskStorage());
+                break;
+            case DELETE:
+                storeDelete(mutation.getIndex());
+                break;
+            default:
+                break;
             }
+        }
+    }
 
-            taskDataReader.readLine();
+    private static String sealRecord(String line) {
+        return RecordChecksum.seal(line, Charset.defaultCharset());
+    }
 
-            while (true) {
-                String nextLine = taskDataReader.readLine();
-                if (nextLine == null) {
-                    break;
-                } else {
-                    newTaskData.append(nextLine + "\n");
-                }
+    private boolean endsWithNewline() throws IOException {
+        try (RandomAccessFile taskDataAccess = new RandomAccessFile(taskDataFile, "r")) {
+            if (taskDataAccess.length() == 0) {
+                return true;
             }
-
-            FileWriter taskDataWriter = new FileWriter(taskDataFile);
-            taskDataWriter.write(newTaskData.toString());
-            taskDataWriter.close();
-            taskDataReader.close();
-        } catch (IOException ex) {
-            throw new PoseidonStorageReadWriteException(ex.getMessage());
+            taskDataAccess.seek(taskDataAccess.length() - 1);
+            return taskDataAccess.read() == '\n';
         }
     }
 }
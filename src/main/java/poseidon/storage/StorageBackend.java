@@ -0,0 +1,132 @@
+package poseidon.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import poseidon.exception.PoseidonStorageException;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.task.Task;
+
+/**
+ * Represents a storage engine that keeps the {@code Task}s of the Bot. {@code Task}s are exchanged as their storage
+ * {@code String} versions and addressed by their 1-based index in the list of {@code Task}s, so that an engine is free
+ * to pick its own format on the local hard disk, or to keep no file at all.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public interface StorageBackend {
+
+    /**
+     * Returns a {@code ArrayList} containing all the saved {@code Task}s.
+     *
+     * @return {@code ArrayList} containing all the saved {@code Task}s.
+     * @throws PoseidonStorageException Exceptions that occur when accessing a file for storage on the local hard
+     * disk.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    ArrayList<Task> load() throws PoseidonStorageException, PoseidonStorageReadWriteException;
+
+    /**
+     * Returns a {@code List} containing all the saved {@code Task}s that builds each {@code Task} only when it is
+     * first read, keeping at most the given number of them alive. Engines that can't page through their records load
+     * all of them, see {@link #load()}.
+     *
+     * @param liveTaskLimit Number of {@code Task}s built from the records that are kept alive.
+     * @return {@code List} containing all the saved {@code Task}s.
+     * @throws PoseidonStorageException Exceptions that occur when accessing a file for storage on the local hard
+     * disk.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    default List<Task> loadPaged(int liveTaskLimit) throws PoseidonStorageException,
+            PoseidonStorageReadWriteException {
+        return load();
+    }
+
+    /**
+     * Saves the new {@code Task}s, one per line of the given storage {@code String}, after the saved ones.
+     *
+     * @param taskStorage Storage {@code String} version of the new {@code Task}.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    void storeAdd(String taskStorage) throws PoseidonStorageReadWriteException;
+
+    /**
+     * Replaces the saved {@code Task} at the given index.
+     *
+     * @param index Index of the {@code Task} to be modified.
+     * @param taskStorage Storage {@code String} version of the modified {@code Task}.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    void storeModify(int index, String taskStorage) throws PoseidonStorageReadWriteException;
+
+    /**
+     * Deletes the saved {@code Task} at the given index.
+     *
+     * @param index Index of the deleted {@code Task}.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    void storeDelete(int index) throws PoseidonStorageReadWriteException;
+
+    /**
+     * Applies the given changes in order, as cheaply as the engine allows, e.g. in a single write. If this fails, the
+     * changes are either not applied at all or applied such that applying all of them again gives the same result,
+     * so that a failed batch can be retried as a whole.
+     *
+     * @param mutations {@code StorageMutation}s to be applied.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    void storeBatch(List<StorageMutation> mutations) throws PoseidonStorageReadWriteException;
+
+    /**
+     * Commits all the changes of the given {@code StorageBatch} in a single pass, see
+     * {@link #storeBatch(List)}.
+     *
+     * @param batch {@code StorageBatch} to be committed.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    default void storeBatch(StorageBatch batch) throws PoseidonStorageReadWriteException {
+        if (!batch.isEmpty()) {
+            storeBatch(batch.toMutations());
+        }
+    }
+
+    /**
+     * Writes any changes that are still pending to the local hard disk. Engines that write every change as soon as it
+     * is made have nothing to do here.
+     *
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    default void flush() throws PoseidonStorageReadWriteException {
+    }
+
+    /**
+     * Returns the ID high-water mark read by the last load: the highest ID held by any {@code Task} deleted from the
+     * storage so far, or 0 if there is none. New {@code Task}s are given IDs above it, so that the ID of a deleted
+     * {@code Task} is never given out again, not even after a restart. Engines that keep nothing across restarts have
+     * no mark to keep.
+     *
+     * @return Highest ID of a deleted {@code Task}, or 0.
+     */
+    default int getIdHighWaterMark() {
+        return 0;
+    }
+
+    /**
+     * Returns a warning about the records that the last load skipped or repaired, or an empty {@code String} if there
+     * were none, and forgets it so that it is only shown once.
+     *
+     * @return {@code String} warning message.
+     */
+    default String takeLoadWarning() {
+        return "";
+    }
+}
@@ -0,0 +1,89 @@
+package poseidon.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Represents a {@code StorageBatch} object that collects several changes to the saved {@code Task}s so that they can
+ * be committed in a single pass, e.g. a single read-modify-write of the storage document or a single journal append.
+ *
+ * <p>Unlike a list of {@code StorageMutation}s, every index of a {@code StorageBatch} refers to the {@code Task}s as
+ * they were before the batch, so a command can collect its changes without tracking how the earlier ones shift the
+ * later indexes. New {@code Task}s are added after all the saved ones.</p>
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class StorageBatch {
+
+    private final TreeMap<Integer, String> modifications = new TreeMap<>();
+    private final TreeSet<Integer> deletions = new TreeSet<>();
+    private final StringBuilder additions = new StringBuilder();
+
+    /**
+     * Adds the new {@code Task}s to the batch.
+     *
+     * @param taskStorage Storage {@code String} version of the new {@code Task}.
+     * @return This {@code StorageBatch}.
+     */
+    public StorageBatch add(String taskStorage) {
+        additions.append(taskStorage.endsWith("\n") ? taskStorage : taskStorage + "\n");
+        return this;
+    }
+
+    /**
+     * Replaces the {@code Task} at the given index, unless it is deleted by the same batch. A later modification of
+     * the same index replaces an earlier one.
+     *
+     * @param index Index of the {@code Task} to be modified, before the batch.
+     * @param taskStorage Storage {@code String} version of the modified {@code Task}.
+     * @return This {@code StorageBatch}.
+     */
+    public StorageBatch modify(int index, String taskStorage) {
+        modifications.put(index, taskStorage);
+        return this;
+    }
+
+    /**
+     * Deletes the {@code Task} at the given index. Deleting the same index twice deletes it once.
+     *
+     * @param index Index of the deleted {@code Task}, before the batch.
+     * @return This {@code StorageBatch}.
+     */
+    public StorageBatch delete(int index) {
+        deletions.add(index);
+        return this;
+    }
+
+    /**
+     * Returns true if the batch holds no changes.
+     *
+     * @return {@code Boolean} - true if there is nothing to commit.
+     */
+    public boolean isEmpty() {
+        return modifications.isEmpty() && deletions.isEmpty() && additions.length() == 0;
+    }
+
+    /**
+     * Returns the changes of the batch as {@code StorageMutation}s that can be applied one after another: the
+     * modifications first, then the deletions from the highest index down, so that no change shifts the index of a
+     * later one, and the additions last.
+     *
+     * @return {@code List} of {@code StorageMutation}s.
+     */
+    public List<StorageMutation> toMutations() {
+        ArrayList<StorageMutation> mutations = new ArrayList<>();
+        modifications.forEach((index, taskStorage) -> {
+            if (!deletions.contains(index)) {
+                mutations.add(StorageMutation.modify(index, taskStorage));
+            }
+        });
+        deletions.descendingSet().forEach((index) -> mutations.add(StorageMutation.delete(index)));
+        if (additions.length() > 0) {
+            mutations.add(StorageMutation.add(additions.toString()));
+        }
+        return mutations;
+    }
+}
@@ -0,0 +1,121 @@
+package poseidon.storage;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import poseidon.exception.PoseidonStorageException;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.task.Task;
+import poseidon.tasklist.ColumnarTaskList;
+
+/**
+ * Represents a factory of the {@code StorageBackend} engines, selected by name so that the engine can be picked by
+ * configuration rather than by code.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public final class StorageFactory {
+
+    /** Engine keeping the {@code Task}s as lines of a text file, see {@link Storage} */
+    public static final String ENGINE_TEXT = "text";
+
+    /** Engine keeping the {@code Task}s as a snapshot plus an append-only journal, see {@link JournalStorage} */
+    public static final String ENGINE_JOURNAL = "journal";
+
+    /** Engine keeping the {@code Task}s in fixed-width slots, see {@link FixedWidthStorage} */
+    public static final String ENGINE_FIXED = "fixed";
+
+    /** Engine keeping the {@code Task}s as binary records, see {@link BinaryStorage} */
+    public static final String ENGINE_BINARY = "binary";
+
+    /** Engine keeping the {@code Task}s in memory only, see {@link InMemoryStorage} */
+    public static final String ENGINE_MEMORY = "memory";
+
+    /** Load mode that builds every {@code Task} at startup */
+    public static final String LOAD_EAGER = "eager";
+
+    /** Load mode that builds every {@code Task} on demand, keeping a bounded number of them alive */
+    public static final String LOAD_LAZY = "lazy";
+
+    /** Load mode that keeps every {@code Task} in columns of primitives, see {@link ColumnarTaskList} */
+    public static final String LOAD_COLUMNAR = "columnar";
+
+    // Private constant dictating the format of the lazy load mode with a custom number of live Tasks.
+    private static final Pattern LOAD_LAZY_FORMAT = Pattern.compile("(?i)lazy(?:-(\\d+))?");
+
+    private StorageFactory() {
+    }
+
+    /**
+     * Returns a new {@code StorageBackend} of the given engine, writing its changes with the given durability, see
+     * {@link WriteBehindStorage#withDurability}.
+     *
+     * @param engine Name of the engine.
+     * @param durability Durability setting.
+     * @return {@code StorageBackend} to be used by the Bot.
+     * @throws PoseidonStorageException If the engine or the durability setting is unknown, or for exceptions that
+     * occur when accessing/creating a file for storage on the local hard disk.
+     */
+    public static StorageBackend create(String engine, String durability) throws PoseidonStorageException {
+        return WriteBehindStorage.withDurability(create(engine), durability);
+    }
+
+    /**
+     * Returns a new {@code StorageBackend} of the given engine, writing every change as soon as it is made.
+     *
+     * @param engine Name of the engine.
+     * @return {@code StorageBackend} to be used by the Bot.
+     * @throws PoseidonStorageException If the engine is unknown, or for exceptions that occur when accessing/creating
+     * a file for storage on the local hard disk.
+     */
+    public static StorageBackend create(String engine) throws PoseidonStorageException {
+        switch (engine.trim().toLowerCase()) {
+        case ENGINE_TEXT:
+            return new Storage();
+        case ENGINE_JOURNAL:
+            return new JournalStorage();
+        case ENGINE_FIXED:
+            return new FixedWidthStorage();
+        case ENGINE_BINARY:
+            return new BinaryStorage();
+        case ENGINE_MEMORY:
+            return new InMemoryStorage();
+        default:
+            throw new PoseidonStorageException("Unknown storage engine '" + engine + "'.\n"
+                    + "Use " + ENGINE_TEXT + ", " + ENGINE_JOURNAL + ", " + ENGINE_FIXED + ", " + ENGINE_BINARY
+                    + " or " + ENGINE_MEMORY + ".");
+        }
+    }
+
+    /**
+     * Returns all the {@code Task}s saved by the given {@code StorageBackend} with the given load mode: "eager" builds
+     * every {@code Task} at startup, "lazy" and "lazy-N" build them on demand and keep at most N of them alive, see
+     * {@link StorageBackend#loadPaged}, and "columnar" packs them into columns once loaded.
+     *
+     * @param storage {@code StorageBackend} to load the {@code Task}s from.
+     * @param loadMode Load mode.
+     * @return {@code List} containing all the saved {@code Task}s.
+     * @throws PoseidonStorageException If the load mode is unknown, or for exceptions that occur when accessing a
+     * file for storage on the local hard disk.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    public static List<Task> load(StorageBackend storage, String loadMode)
+            throws PoseidonStorageException, PoseidonStorageReadWriteException {
+        Matcher lazyMatcher = LOAD_LAZY_FORMAT.matcher(loadMode.trim());
+        if (loadMode.trim().equalsIgnoreCase(LOAD_EAGER)) {
+            return storage.load();
+        } else if (loadMode.trim().equalsIgnoreCase(LOAD_COLUMNAR)) {
+            return new ColumnarTaskList(storage.load());
+        } else if (lazyMatcher.matches()) {
+            return storage.loadPaged(lazyMatcher.group(1) == null
+                    ? PagedTaskList.DEFAULT_LIVE_TASK_LIMIT
+                    : Integer.parseInt(lazyMatcher.group(1)));
+        } else {
+            throw new PoseidonStorageException("Unknown load mode '" + loadMode + "'.\n"
+                    + "Use " + LOAD_EAGER + ", " + LOAD_LAZY + ", " + LOAD_LAZY + "-N or " + LOAD_COLUMNAR + ".");
+        }
+    }
+}
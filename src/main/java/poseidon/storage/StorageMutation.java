@@ -0,0 +1,71 @@
+package poseidon.storage;
+
+/**
+ * Represents a single change to the storage document: adding a {@code Task}, modifying the {@code Task} at an index or
+ * deleting the {@code Task} at an index. Indexes are resolved against the state left by the changes before it.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class StorageMutation {
+
+    /**
+     * Represents the kind of change made by a {@code StorageMutation}.
+     */
+    public enum Type {
+        ADD, MODIFY, DELETE
+    }
+
+    private final Type type;
+    private final int index;
+    private final String taskStorage;
+
+    private StorageMutation(Type type, int index, String taskStorage) {
+        this.type = type;
+        this.index = index;
+        this.taskStorage = taskStorage;
+    }
+
+    /**
+     * Returns a {@code StorageMutation} that adds the given {@code Task}s.
+     *
+     * @param taskStorage Storage {@code String} version of the new {@code Task}.
+     * @return {@code StorageMutation} adding the {@code Task}s.
+     */
+    public static StorageMutation add(String taskStorage) {
+        return new StorageMutation(Type.ADD, 0, taskStorage);
+    }
+
+    /**
+     * Returns a {@code StorageMutation} that replaces the {@code Task} at the given index.
+     *
+     * @param index Index of the {@code Task} to be modified.
+     * @param taskStorage Storage {@code String} version of the modified {@code Task}.
+     * @return {@code StorageMutation} modifying the {@code Task}.
+     */
+    public static StorageMutation modify(int index, String taskStorage) {
+        return new StorageMutation(Type.MODIFY, index, taskStorage);
+    }
+
+    /**
+     * Returns a {@code StorageMutation} that deletes the {@code Task} at the given index.
+     *
+     * @param index Index of the deleted {@code Task}.
+     * @return {@code StorageMutation} deleting the {@code Task}.
+     */
+    public static StorageMutation delete(int index) {
+        return new StorageMutation(Type.DELETE, index, "");
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getTaskStorage() {
+        return taskStorage;
+    }
+}
@@ -0,0 +1,214 @@
+package poseidon.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import poseidon.exception.PoseidonStorageException;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.task.Task;
+
+/**
+ * Represents a {@code WriteBehindStorage} object that queues changes instead of writing them straight away, so that
+ * commands can reply without waiting for the local hard disk. Queued changes are handed to the wrapped
+ * {@code StorageBackend} as one batch, either by a flusher thread once a commit window has passed, or only on
+ * {@link #flush()} and when the JVM shuts down.
+ *
+ * <p>A failed flush keeps its changes queued and is reported by the next change or flush. A change made after a failed
+ * flush is still queued, after the ones that failed, before the failure is reported, as the {@code TaskList} already
+ * holds it and the indexes of later changes count on it. The failure is forgotten once a flush has written the changes
+ * that failed. The whole of a failed batch is queued again, as a {@code StorageBackend} leaves a failed batch either
+ * unapplied or such that applying all of it again gives the same result.</p>
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class WriteBehindStorage implements StorageBackend {
+
+    /** Durability setting that writes every change before the command replies */
+    public static final String DURABILITY_SYNC = "sync";
+
+    /** Durability setting that writes queued changes only on flush and when the JVM shuts down */
+    public static final String DURABILITY_ON_EXIT = "on-exit";
+
+    // Private constants dictating the format of the batched durability setting and the delay between failed flushes.
+    private static final Pattern DURABILITY_BATCHED_FORMAT = Pattern.compile("(?i)batched-(\\d+)-ms");
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    private final StorageBackend delegate;
+    private final ArrayList<StorageMutation> pendingMutations = new ArrayList<>();
+    private final Object flushLock = new Object();
+    private volatile PoseidonStorageReadWriteException flushException;
+
+    private WriteBehindStorage(StorageBackend delegate, long commitWindowMillis) {
+        this.delegate = delegate;
+
+        if (commitWindowMillis >= 0) {
+            Thread flusher = new Thread(() -> runFlusher(commitWindowMillis), "poseidon-storage-flusher");
+            flusher.setDaemon(true);
+            flusher.start();
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flushOnExit, "poseidon-storage-exit-flush"));
+    }
+
+    /**
+     * Returns a {@code StorageBackend} that writes to the given {@code StorageBackend} with the given durability:
+     * "sync" returns the given {@code StorageBackend} itself, "batched-N-ms" writes queued changes in one batch N
+     * milliseconds after the first of them and "on-exit" writes queued changes only on flush and when the JVM shuts
+     * down.
+     *
+     * @param storage {@code StorageBackend} that the changes are eventually written to.
+     * @param durability Durability setting.
+     * @return {@code StorageBackend} with the given durability.
+     * @throws PoseidonStorageException If the durability setting is unknown.
+     */
+    public static StorageBackend withDurability(StorageBackend storage, String durability)
+            throws PoseidonStorageException {
+        Matcher batchedMatcher = DURABILITY_BATCHED_FORMAT.matcher(durability.trim());
+        if (durability.trim().equalsIgnoreCase(DURABILITY_SYNC)) {
+            return storage;
+        } else if (durability.trim().equalsIgnoreCase(DURABILITY_ON_EXIT)) {
+            return new WriteBehindStorage(storage, -1);
+        } else if (batchedMatcher.matches()) {
+            return new WriteBehindStorage(storage, Long.parseLong(batchedMatcher.group(1)));
+        } else {
+            throw new PoseidonStorageException("Unknown storage durability '" + durability + "'.\n"
+                    + "Use " + DURABILITY_SYNC + ", batched-N-ms or " + DURABILITY_ON_EXIT + ".");
+        }
+    }
+
+    /**
+     * Returns a {@code ArrayList} containing all the saved {@code Task}s, after writing any queued changes.
+     *
+     * @return {@code ArrayList} containing all the saved {@code Task}s.
+     * @throws PoseidonStorageException Exceptions that occur when accessing a file for storage on the local hard
+     * disk.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public ArrayList<Task> load() throws PoseidonStorageException, PoseidonStorageReadWriteException {
+        flush();
+        return delegate.load();
+    }
+
+    /**
+     * Returns a {@code List} containing all the saved {@code Task}s after writing any queued changes, see
+     * {@link StorageBackend#loadPaged}.
+     *
+     * @param liveTaskLimit Number of {@code Task}s built from the records that are kept alive.
+     * @return {@code List} containing all the saved {@code Task}s.
+     * @throws PoseidonStorageException Exceptions that occur when accessing a file for storage on the local hard
+     * disk.
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public List<Task> loadPaged(int liveTaskLimit) throws PoseidonStorageException,
+            PoseidonStorageReadWriteException {
+        flush();
+        return delegate.loadPaged(liveTaskLimit);
+    }
+
+    @Override
+    public String takeLoadWarning() {
+        return delegate.takeLoadWarning();
+    }
+
+    @Override
+    public int getIdHighWaterMark() {
+        return delegate.getIdHighWaterMark();
+    }
+
+    @Override
+    public void storeAdd(String taskStorage) throws PoseidonStorageReadWriteException {
+        enqueue(List.of(StorageMutation.add(taskStorage)));
+    }
+
+    @Override
+    public void storeModify(int index, String taskStorage) throws PoseidonStorageReadWriteException {
+        enqueue(List.of(StorageMutation.modify(index, taskStorage)));
+    }
+
+    @Override
+    public void storeDelete(int index) throws PoseidonStorageReadWriteException {
+        enqueue(List.of(StorageMutation.delete(index)));
+    }
+
+    @Override
+    public void storeBatch(List<StorageMutation> mutations) throws PoseidonStorageReadWriteException {
+        enqueue(mutations);
+    }
+
+    /**
+     * Writes every queued change to the wrapped {@code StorageBackend} in a single batch.
+     *
+     * @throws PoseidonStorageReadWriteException Exceptions that occur during reading/writing of the file for storage on
+     * the local hard disk.
+     */
+    @Override
+    public void flush() throws PoseidonStorageReadWriteException {
+        synchronized (flushLock) {
+            ArrayList<StorageMutation> batch;
+            synchronized (pendingMutations) {
+                batch = new ArrayList<>(pendingMutations);
+                pendingMutations.clear();
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                delegate.storeBatch(batch);
+                // The batch starts with every change of a failed flush, as they are put back at the front of the queue.
+                flushException = null;
+            } catch (PoseidonStorageReadWriteException ex) {
+                synchronized (pendingMutations) {
+                    pendingMutations.addAll(0, batch);
+                }
+                flushException = ex;
+                throw ex;
+            }
+        }
+    }
+
+    private void enqueue(List<StorageMutation> mutations) throws PoseidonStorageReadWriteException {
+        synchronized (pendingMutations) {
+            pendingMutations.addAll(mutations);
+            pendingMutations.notifyAll();
+        }
+        PoseidonStorageReadWriteException lastFlushException = flushException;
+        if (lastFlushException != null) {
+            throw lastFlushException;
+        }
+    }
+
+    private void runFlusher(long commitWindowMillis) {
+        try {
+            while (true) {
+                synchronized (pendingMutations) {
+                    while (pendingMutations.isEmpty()) {
+                        pendingMutations.wait();
+                    }
+                }
+                Thread.sleep(commitWindowMillis);
+                try {
+                    flush();
+                } catch (PoseidonStorageReadWriteException ex) {
+                    Thread.sleep(RETRY_DELAY_MILLIS);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flushOnExit() {
+        try {
+            flush();
+        } catch (PoseidonStorageReadWriteException ex) {
+            System.err.println(ex.getMessage());
+        }
+    }
+}
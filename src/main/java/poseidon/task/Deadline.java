@@ -54,11 +54,12 @@ public class Deadline extends Task {
         return ("D" + Storage.STORAGE_SEPARATOR
                 + isDone + Storage.STORAGE_SEPARATOR
                 + description + Storage.STORAGE_SEPARATOR
-                + byDateTime + "\n");
+                + byDateTime
+                + toStorageIdField() + "\n");
     }
 
     @Override
-    protected LocalDateTime getDateTime() {
+    public LocalDateTime getDateTime() {
         return byDateTime;
     }
 }
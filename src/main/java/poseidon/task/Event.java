@@ -47,6 +47,15 @@ public class Event extends Task {
         this.toDateTime = toDateTime;
     }
 
+    /**
+     * Returns the to time of this {@code Event}.
+     *
+     * @return {@code LocalDateTime} the {@code Event} ends at.
+     */
+    public LocalDateTime getToDateTime() {
+        return toDateTime;
+    }
+
     @Override
     public String toString() {
         return "[E]" + (isDone ? "[X] " : "[ ] ") + description
@@ -63,11 +72,12 @@ public class Event extends Task {
                 + isDone + Storage.STORAGE_SEPARATOR
                 + description + Storage.STORAGE_SEPARATOR
                 + fromDateTime + Storage.STORAGE_SEPARATOR
-                + toDateTime + "\n");
+                + toDateTime
+                + toStorageIdField() + "\n");
     }
 
     @Override
-    protected LocalDateTime getDateTime() {
+    public LocalDateTime getDateTime() {
         return fromDateTime;
     }
 }
@@ -2,9 +2,12 @@ package poseidon.task;
 
 import java.time.LocalDateTime;
 
+import poseidon.storage.Storage;
+
 /**
- * Represents an abstract {@code Task} class containing a {@code String} description and {@code Boolean}
- * representing the done status.
+ * Represents an abstract {@code Task} class containing a {@code String} description, {@code Boolean}
+ * representing the done status and a numeric ID that stays the same for as long as the {@code Task} exists, 0 until
+ * one is assigned.
  *
  * @author Yeluri Ketan
  * @version CS2103T AY21/22 Sem 1 iP
@@ -13,6 +16,7 @@ public abstract class Task implements Comparable<Task> {
 
     protected String description;
     protected boolean isDone;
+    protected int id;
 
     /**
      * Constructs a new {@code Task} object with the given description.
@@ -31,6 +35,42 @@ public abstract class Task implements Comparable<Task> {
         this.isDone = true;
     }
 
+    /**
+     * Returns true if this {@code Task} is marked as done.
+     *
+     * @return {@code Boolean} - true if the {@code Task} is done.
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
+    /**
+     * Returns the description of this {@code Task}.
+     *
+     * @return {@code String} description.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the ID of this {@code Task}, 0 if none is assigned yet.
+     *
+     * @return ID of the {@code Task}.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Assigns the given ID to this {@code Task}.
+     *
+     * @param id ID of the {@code Task}.
+     */
+    public void setId(int id) {
+        this.id = id;
+    }
+
     /**
      * Returns a {@code Boolean} to convey the presence of the given content in the description
      * of the current {@code Task} object.
@@ -50,6 +90,17 @@ public abstract class Task implements Comparable<Task> {
      */
     public abstract String toString();
 
+    /**
+     * Returns a human-readable {@code String} representation of the {@code Task} as a row of a numbered list, showing
+     * its ID after the number once one is assigned.
+     *
+     * @param number Number of the row.
+     * @return {@code String} to be used for printing.
+     */
+    public String toNumberedString(int number) {
+        return number + ". " + (id > 0 ? "#" + id + " " : "") + this;
+    }
+
     /**
      * Returns the {@code String} representation of the {@code Task}
      * to be used for the purpose of storage on the hard-disk.
@@ -58,10 +109,26 @@ public abstract class Task implements Comparable<Task> {
      */
     public abstract String toStorage();
 
+    /**
+     * Returns the ID field to be added to the storage {@code String} version of this {@code Task}, or an empty
+     * {@code String} if no ID is assigned yet.
+     *
+     * @return {@code String} ID field.
+     */
+    protected String toStorageIdField() {
+        return id > 0 ? Storage.STORAGE_SEPARATOR + Storage.ID_FIELD_PREFIX + id : "";
+    }
+
     //@@author YeluriKetan-reused
     //Reused from https://github.com/SkyBlaise99/ip/blob/master/src/main/java/sora/task/Task.java
     // with minor modifications. Original author SkyBlaise99 - https://github.com/SkyBlaise99
-    protected abstract LocalDateTime getDateTime();
+    /**
+     * Returns the date and time that orders this {@code Task} among the others, {@code LocalDateTime.MAX} if it has
+     * none.
+     *
+     * @return {@code LocalDateTime} of the {@code Task}.
+     */
+    public abstract LocalDateTime getDateTime();
 
     @Override
     public int compareTo(Task otherTask) {
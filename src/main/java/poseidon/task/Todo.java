@@ -41,11 +41,12 @@ public class Todo extends Task {
     public String toStorage() {
         return "T" + Storage.STORAGE_SEPARATOR
                 + isDone + Storage.STORAGE_SEPARATOR
-                + description + "\n";
+                + description
+                + toStorageIdField() + "\n";
     }
 
     @Override
-    protected LocalDateTime getDateTime() {
+    public LocalDateTime getDateTime() {
         return LocalDateTime.MAX;
     }
 }
@@ -0,0 +1,93 @@
+package poseidon.tasklist;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.TreeMap;
+
+import poseidon.task.Task;
+
+/**
+ * Represents an index of the {@code Task}s in chronological order, keyed on their date and time and, for equal dates
+ * and times, on their sequence numbers, so that the order is the same as that of a stable sort of the list.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+final class ChronologicalIndex {
+
+    private final TreeMap<Key, Task> tasksByTime = new TreeMap<>();
+
+    /**
+     * Adds the {@code Task} with the given sequence number to the index.
+     *
+     * @param seq Sequence number of the {@code Task}.
+     * @param task {@code Task} to be added.
+     */
+    void add(long seq, Task task) {
+        tasksByTime.put(new Key(task.getDateTime(), seq), task);
+    }
+
+    /**
+     * Removes the {@code Task} with the given sequence number from the index.
+     *
+     * @param seq Sequence number of the {@code Task}.
+     * @param task {@code Task} to be removed.
+     */
+    void remove(long seq, Task task) {
+        tasksByTime.remove(new Key(task.getDateTime(), seq));
+    }
+
+    /**
+     * Returns a read-only view of the indexed {@code Task}s in chronological order.
+     *
+     * @return {@code Collection} of {@code Task} objects.
+     */
+    Collection<Task> getTasks() {
+        return Collections.unmodifiableCollection(tasksByTime.values());
+    }
+
+    /**
+     * Returns a read-only view of the indexed {@code Task}s whose date and time fall within the given period, both
+     * ends included, in chronological order. The view is backed by the index, so walking it costs O(log n) time plus
+     * the number of {@code Task}s in the period.
+     *
+     * @param from Start of the period.
+     * @param to End of the period.
+     * @return {@code Collection} of {@code Task} objects.
+     */
+    Collection<Task> getTasksBetween(LocalDateTime from, LocalDateTime to) {
+        return Collections.unmodifiableCollection(tasksByTime.subMap(new Key(from, Long.MIN_VALUE), true,
+                new Key(to, Long.MAX_VALUE), true).values());
+    }
+
+    /**
+     * Returns a read-only view of the indexed {@code Task}s whose date and time is after the given one, in
+     * chronological order. The view is backed by the index, so finding its first {@code Task} costs O(log n) time.
+     *
+     * @param from Date and time that the {@code Task}s come after.
+     * @return {@code Collection} of {@code Task} objects.
+     */
+    Collection<Task> getTasksAfter(LocalDateTime from) {
+        return Collections.unmodifiableCollection(tasksByTime.tailMap(new Key(from, Long.MAX_VALUE), false).values());
+    }
+
+    /**
+     * Represents the position of a {@code Task} in the index.
+     */
+    private static class Key implements Comparable<Key> {
+        private final LocalDateTime dateTime;
+        private final long seq;
+
+        private Key(LocalDateTime dateTime, long seq) {
+            this.dateTime = dateTime;
+            this.seq = seq;
+        }
+
+        @Override
+        public int compareTo(Key otherKey) {
+            int dateTimeOrder = dateTime.compareTo(otherKey.dateTime);
+            return dateTimeOrder != 0 ? dateTimeOrder : Long.compare(seq, otherKey.seq);
+        }
+    }
+}
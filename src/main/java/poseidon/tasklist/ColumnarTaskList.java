@@ -0,0 +1,314 @@
+package poseidon.tasklist;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import poseidon.task.Deadline;
+import poseidon.task.Event;
+import poseidon.task.Task;
+import poseidon.task.Todo;
+
+/**
+ * Represents a {@code List} of {@code Task}s kept as columns of primitives rather than as objects: a type code, an
+ * ID, a done bit, the date and times as minutes since the epoch and the description as a range of a shared UTF-8
+ * arena. A {@code Task} object is only built as a view when it is read, so a list of a million {@code Task}s takes a
+ * fraction of the heap of an {@code ArrayList} of them, at the cost of a small allocation per read.
+ *
+ * <p>A view is a copy, so a {@code Task} read from this list must be written back with {@link #set} once it is
+ * changed. Date and times are kept to the minute, as they are entered and stored. Descriptions that are replaced or
+ * removed leave a hole in the arena, which is compacted once the holes take up half of it.</p>
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public final class ColumnarTaskList extends AbstractList<Task> implements OnDemandTaskList, RandomAccess {
+
+    // Private constants dictating the type codes of the Tasks.
+    private static final byte TYPE_TODO = 'T';
+    private static final byte TYPE_DEADLINE = 'D';
+    private static final byte TYPE_EVENT = 'E';
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private long[] startMinutes = new long[INITIAL_CAPACITY];
+    private long[] endMinutes = new long[INITIAL_CAPACITY];
+    private int[] descriptionStarts = new int[INITIAL_CAPACITY];
+    private int[] descriptionLengths = new int[INITIAL_CAPACITY];
+
+    // Done status of every Task as a bit set, one bit per position.
+    private long[] doneWords = new long[1];
+
+    private byte[] descriptionArena = new byte[INITIAL_CAPACITY * 32];
+    private int arenaEnd;
+    private int wastedArenaBytes;
+    private int size;
+
+    /**
+     * Constructs a new {@code ColumnarTaskList} holding the given {@code Task}s in order.
+     *
+     * @param tasks {@code Task}s to be held.
+     */
+    public ColumnarTaskList(List<Task> tasks) {
+        ensureCapacity(tasks.size());
+        for (Task task : tasks) {
+            add(task);
+        }
+        descriptionArena = Arrays.copyOf(descriptionArena, Math.max(INITIAL_CAPACITY, arenaEnd));
+    }
+
+    @Override
+    public Task get(int index) {
+        checkIndex(index, size);
+        String description = new String(descriptionArena, descriptionStarts[index], descriptionLengths[index],
+                StandardCharsets.UTF_8);
+        boolean isDone = isDoneAt(index);
+        Task task;
+        switch (types[index]) {
+        case TYPE_DEADLINE:
+            task = new Deadline(description, isDone, fromEpochMinute(startMinutes[index]));
+            break;
+        case TYPE_EVENT:
+            task = new Event(description, isDone, fromEpochMinute(startMinutes[index]),
+                    fromEpochMinute(endMinutes[index]));
+            break;
+        default:
+            task = new Todo(description, isDone);
+            break;
+        }
+        task.setId(ids[index]);
+        return task;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Task set(int index, Task task) {
+        Task oldTask = get(index);
+        encode(index, task);
+        return oldTask;
+    }
+
+    @Override
+    public void add(int index, Task task) {
+        checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        int movedCount = size - index;
+        System.arraycopy(types, index, types, index + 1, movedCount);
+        System.arraycopy(ids, index, ids, index + 1, movedCount);
+        System.arraycopy(startMinutes, index, startMinutes, index + 1, movedCount);
+        System.arraycopy(endMinutes, index, endMinutes, index + 1, movedCount);
+        System.arraycopy(descriptionStarts, index, descriptionStarts, index + 1, movedCount);
+        System.arraycopy(descriptionLengths, index, descriptionLengths, index + 1, movedCount);
+        insertDoneBit(index);
+        descriptionStarts[index] = arenaEnd;
+        descriptionLengths[index] = 0;
+        size++;
+        encode(index, task);
+        modCount++;
+    }
+
+    @Override
+    public Task remove(int index) {
+        Task oldTask = get(index);
+        wastedArenaBytes += descriptionLengths[index];
+        int movedCount = size - index - 1;
+        System.arraycopy(types, index + 1, types, index, movedCount);
+        System.arraycopy(ids, index + 1, ids, index, movedCount);
+        System.arraycopy(startMinutes, index + 1, startMinutes, index, movedCount);
+        System.arraycopy(endMinutes, index + 1, endMinutes, index, movedCount);
+        System.arraycopy(descriptionStarts, index + 1, descriptionStarts, index, movedCount);
+        System.arraycopy(descriptionLengths, index + 1, descriptionLengths, index, movedCount);
+        removeDoneBit(index);
+        size--;
+        compactArenaIfWasteful();
+        modCount++;
+        return oldTask;
+    }
+
+    /**
+     * Returns the {@code Task}s whose descriptions contain the given content, in order. The content is searched for in
+     * the UTF-8 arena directly, so only the matching {@code Task}s are built.
+     *
+     * @param content Content to be searched for.
+     * @return {@code ArrayList} of {@code Task} objects.
+     */
+    public ArrayList<Task> findTasks(String content) {
+        return streamFoundTasks(content).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Returns a lazy {@code Stream} of the {@code Task}s whose descriptions contain the given content, in order. The
+     * content is searched for in the UTF-8 arena directly, so only the matching {@code Task}s are built, and only as
+     * far as the {@code Stream} is consumed.
+     *
+     * @param content Content to be searched for.
+     * @return {@code Stream} of {@code Task} objects.
+     */
+    public Stream<Task> streamFoundTasks(String content) {
+        return streamFoundIndexes(content).mapToObj(this::get);
+    }
+
+    /**
+     * Returns a lazy {@code IntStream} of the positions of the {@code Task}s whose descriptions contain the given
+     * content, in order, without building any {@code Task}.
+     *
+     * @param content Content to be searched for.
+     * @return {@code IntStream} of positions, starting from 0.
+     */
+    public IntStream streamFoundIndexes(String content) {
+        byte[] contentBytes = content.getBytes(StandardCharsets.UTF_8);
+        return IntStream.range(0, size)
+                .filter((i) -> containsBytes(descriptionStarts[i], descriptionLengths[i], contentBytes));
+    }
+
+    /**
+     * Returns the approximate number of bytes of heap taken by the columns and the arena of this list.
+     *
+     * @return Approximate size in bytes.
+     */
+    public long estimateBytes() {
+        return (long) types.length + (long) Integer.BYTES * (ids.length + descriptionStarts.length
+                + descriptionLengths.length) + (long) Long.BYTES * (startMinutes.length + endMinutes.length
+                + doneWords.length) + descriptionArena.length;
+    }
+
+    private void encode(int index, Task task) {
+        if (task instanceof Event) {
+            types[index] = TYPE_EVENT;
+            startMinutes[index] = toEpochMinute(task.getDateTime());
+            endMinutes[index] = toEpochMinute(((Event) task).getToDateTime());
+        } else if (task instanceof Deadline) {
+            types[index] = TYPE_DEADLINE;
+            startMinutes[index] = toEpochMinute(task.getDateTime());
+        } else {
+            types[index] = TYPE_TODO;
+        }
+        ids[index] = task.getId();
+        setDoneBit(index, task.isDone());
+        encodeDescription(index, task.getDescription().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void encodeDescription(int index, byte[] description) {
+        int oldStart = descriptionStarts[index];
+        int oldLength = descriptionLengths[index];
+        if (Arrays.equals(descriptionArena, oldStart, oldStart + oldLength, description, 0, description.length)) {
+            return;
+        }
+        if (arenaEnd + description.length > descriptionArena.length) {
+            descriptionArena = Arrays.copyOf(descriptionArena,
+                    Math.max(descriptionArena.length * 2, arenaEnd + description.length));
+        }
+        System.arraycopy(description, 0, descriptionArena, arenaEnd, description.length);
+        descriptionStarts[index] = arenaEnd;
+        descriptionLengths[index] = description.length;
+        arenaEnd += description.length;
+        wastedArenaBytes += oldLength;
+        compactArenaIfWasteful();
+    }
+
+    private boolean containsBytes(int start, int length, byte[] content) {
+        int lastStart = start + length - content.length;
+        for (int i = start; i <= lastStart; i++) {
+            int matchedCount = 0;
+            while (matchedCount < content.length && descriptionArena[i + matchedCount] == content[matchedCount]) {
+                matchedCount++;
+            }
+            if (matchedCount == content.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void compactArenaIfWasteful() {
+        if (wastedArenaBytes * 2 <= arenaEnd) {
+            return;
+        }
+        byte[] compactedArena = new byte[Math.max(INITIAL_CAPACITY, arenaEnd - wastedArenaBytes)];
+        int compactedEnd = 0;
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(descriptionArena, descriptionStarts[i], compactedArena, compactedEnd,
+                    descriptionLengths[i]);
+            descriptionStarts[i] = compactedEnd;
+            compactedEnd += descriptionLengths[i];
+        }
+        descriptionArena = compactedArena;
+        arenaEnd = compactedEnd;
+        wastedArenaBytes = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= types.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, types.length * 2);
+        types = Arrays.copyOf(types, newCapacity);
+        ids = Arrays.copyOf(ids, newCapacity);
+        startMinutes = Arrays.copyOf(startMinutes, newCapacity);
+        endMinutes = Arrays.copyOf(endMinutes, newCapacity);
+        descriptionStarts = Arrays.copyOf(descriptionStarts, newCapacity);
+        descriptionLengths = Arrays.copyOf(descriptionLengths, newCapacity);
+        doneWords = Arrays.copyOf(doneWords, (newCapacity + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    private boolean isDoneAt(int index) {
+        return (doneWords[index >>> 6] & 1L << index) != 0;
+    }
+
+    private void setDoneBit(int index, boolean isDone) {
+        if (isDone) {
+            doneWords[index >>> 6] |= 1L << index;
+        } else {
+            doneWords[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    private void insertDoneBit(int index) {
+        int lastWord = size >>> 6;
+        for (int word = lastWord; word > index >>> 6; word--) {
+            doneWords[word] = doneWords[word] << 1 | doneWords[word - 1] >>> 63;
+        }
+        int word = index >>> 6;
+        long lowMask = (1L << index) - 1;
+        doneWords[word] = doneWords[word] & lowMask | (doneWords[word] & ~lowMask) << 1;
+    }
+
+    private void removeDoneBit(int index) {
+        int word = index >>> 6;
+        long lowMask = (1L << index) - 1;
+        doneWords[word] = doneWords[word] & lowMask | doneWords[word] >>> 1 & ~lowMask;
+        int lastWord = (size - 1) >>> 6;
+        for (int nextWord = word + 1; nextWord <= lastWord; nextWord++) {
+            doneWords[nextWord - 1] |= doneWords[nextWord] << 63;
+            doneWords[nextWord] >>>= 1;
+        }
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + bound);
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package poseidon.tasklist;
+
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import poseidon.task.Task;
+
+/**
+ * Represents a {@code TaskList} that may be read and changed from several threads at once. Every change takes a
+ * short write lock of a {@code StampedLock}, while reads share its read lock or skip it where they safely can.
+ *
+ * <p>A check of an index, which only reads the size of the list, runs under an optimistic read and is retried under a
+ * read lock if a change slipped in. Every other read walks a list, hash table or tree, which a change halfway through
+ * could leave looping, throwing or half updated before the optimistic read is validated, so it takes a read lock
+ * straight away and copies its results before the lock is released. No read hands out a view of the live
+ * indexes.</p>
+ *
+ * <p>A list held in memory publishes an unmodifiable snapshot of its {@code Task}s at the end of every change, which
+ * {@link #getList()} returns and every read shares until the next change. Only the list is copied: the {@code Task}s
+ * in it are the same objects as in this {@code TaskList}, so a {@code Task} marked as done afterwards shows as done in
+ * the snapshot too, while added and deleted {@code Task}s do not show. A read that finds a change in progress is
+ * answered from the snapshot, which holds the {@code Task}s as they were before that change, instead of waiting for
+ * it. A {@code Stream} of the {@code Task}s is a lazy walk of the snapshot, so it may be consumed long after the read
+ * without any lock.</p>
+ *
+ * <p>A {@code List} that builds its {@code Task}s on demand is never copied into a snapshot, so that it keeps its small
+ * heap. {@link #getList()} returns a view of it instead, which reads every {@code Task} under the read lock and
+ * throws a {@code ConcurrentModificationException} if a change was made since the view was taken. Reads of such a
+ * {@code List} wait for a change in progress, as there is no snapshot to answer them from.</p>
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class ConcurrentTaskList extends TaskList {
+
+    private final StampedLock lock = new StampedLock();
+
+    // Number of changes made so far, which is only ever increased under the write lock.
+    private volatile long version;
+
+    // Snapshot of the Tasks as of the last change, or null if the List builds its Tasks on demand.
+    private volatile Snapshot snapshot;
+
+    /**
+     * Constructs a new, empty {@code ConcurrentTaskList} object.
+     */
+    public ConcurrentTaskList() {
+        super();
+        publishSnapshot();
+    }
+
+    /**
+     * Constructs a new {@code ConcurrentTaskList} object by storing the given {@code List} for runtime storage.
+     *
+     * @param tasks List to be used runtime storage.
+     */
+    public ConcurrentTaskList(List<Task> tasks) {
+        super(tasks);
+        publishSnapshot();
+    }
+
+    /**
+     * Constructs a new {@code ConcurrentTaskList} object by storing the given {@code List} for runtime storage, which
+     * gives out only IDs above the given ID high-water mark.
+     *
+     * @param tasks List to be used runtime storage.
+     * @param idHighWaterMark Highest ID of a deleted {@code Task}, or 0.
+     */
+    public ConcurrentTaskList(List<Task> tasks, int idHighWaterMark) {
+        super(tasks, idHighWaterMark);
+        publishSnapshot();
+    }
+
+    @Override
+    public String addTask(Task newTask) {
+        return write(() -> super.addTask(newTask));
+    }
+
+    @Override
+    public String markTaskDone(int taskIndex) {
+        return write(() -> super.markTaskDone(taskIndex));
+    }
+
+    @Override
+    public String markTasksDone(int[] taskIndexes) {
+        return write(() -> super.markTasksDone(taskIndexes));
+    }
+
+    @Override
+    public String deleteTask(int taskIndex) {
+        return write(() -> super.deleteTask(taskIndex));
+    }
+
+    @Override
+    public String deleteTasks(int[] taskIndexes) {
+        return write(() -> super.deleteTasks(taskIndexes));
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the {@code List} of {@code Task}s maintained by this {@code TaskList} object.
+     * Later additions and deletions leave it as it is, but it shares its {@code Task}s, so a {@code Task} that is
+     * marked as done later is seen as done through it. A {@code List} that builds its {@code Task}s on demand is
+     * returned as an unmodifiable view instead, which fails on its next read once a change is made.
+     *
+     * @return {@code List} of {@code Task} objects.
+     */
+    @Override
+    public List<Task> getList() {
+        Snapshot current = snapshot;
+        return current != null ? current.tasks : new OnDemandView();
+    }
+
+    @Override
+    public void assignId(Task newTask) {
+        write(() -> {
+            super.assignId(newTask);
+            return null;
+        });
+    }
+
+    @Override
+    public int findIndexById(int id) {
+        return readLocked(() -> super.findIndexById(id), (snapshotTasks) -> snapshotTasks.findIndexById(id));
+    }
+
+    @Override
+    public ArrayList<Integer> takeUnsavedIdIndexes() {
+        return write(super::takeUnsavedIdIndexes);
+    }
+
+    @Override
+    public String getTaskStorage(int taskIndex) {
+        return readLocked(() -> super.getTaskStorage(taskIndex), (snapshotTasks) ->
+                snapshotTasks.getTaskStorage(taskIndex));
+    }
+
+    @Override
+    public boolean isIndexValid(int taskIndex) {
+        return readOptimistically(() -> super.isIndexValid(taskIndex), (snapshotTasks) ->
+                snapshotTasks.isIndexValid(taskIndex));
+    }
+
+    @Override
+    public ArrayList<Task> findTasks(String content) {
+        return readLocked(() -> super.findTasks(content), (snapshotTasks) -> snapshotTasks.findTasks(content));
+    }
+
+    @Override
+    public int[] findTaskIndexes(String content) {
+        return readLocked(() -> super.findTaskIndexes(content), (snapshotTasks) ->
+                snapshotTasks.findTaskIndexes(content));
+    }
+
+    /**
+     * Returns a lazy {@code Stream} of the {@code Task}s in the current snapshot, in list order, or of the view of a
+     * {@code List} that builds its {@code Task}s on demand, see {@link #getList()}.
+     *
+     * @return {@code Stream} of {@code Task} objects.
+     */
+    @Override
+    public Stream<Task> streamTasks() {
+        return getList().stream();
+    }
+
+    /**
+     * Returns a lazy {@code Stream} of the {@code Task}s in the current snapshot that have the content in their
+     * description. The snapshot is scanned rather than looked up in the find indexes, so that a short-circuiting
+     * {@code Stream} stops the scan early. A {@code List} that builds its {@code Task}s on demand is scanned under the
+     * read lock instead, and only the {@code Task}s found are copied.
+     *
+     * @param content Content to be searched for.
+     * @return {@code Stream} of {@code Task} objects.
+     */
+    @Override
+    public Stream<Task> streamFoundTasks(String content) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current.scannedTasks.streamFoundTasks(content);
+        }
+        return readLocked(() -> super.streamFoundTasks(content).collect(Collectors.toList()), null).stream();
+    }
+
+    /**
+     * Returns a lazy {@code Stream} of the {@code Task}s in the current snapshot sorted by time. The sorted order is
+     * copied from the chronological index once per snapshot and shared by every {@code Stream} until the next
+     * change. If a change is in progress, the snapshot is sorted instead of waiting for the change.
+     *
+     * @return {@code Stream} of {@code Task} objects.
+     */
+    @Override
+    public Stream<Task> streamSortedTasks() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return sortTasks().stream();
+        }
+
+        List<Task> sortedTasks = current.sortedTasks;
+        if (sortedTasks == null) {
+            long stamp = lock.tryReadLock();
+            try {
+                sortedTasks = List.copyOf(stamp != 0 && current.version == version
+                        ? super.sortTasks()
+                        : current.scannedTasks.sortTasks());
+            } finally {
+                if (stamp != 0) {
+                    lock.unlockRead(stamp);
+                }
+            }
+            current.sortedTasks = sortedTasks;
+        }
+        return sortedTasks.stream();
+    }
+
+    @Override
+    public ArrayList<Task> findEventsBetween(LocalDateTime from, LocalDateTime to) {
+        return readLocked(() -> super.findEventsBetween(from, to), (snapshotTasks) ->
+                snapshotTasks.findEventsBetween(from, to));
+    }
+
+    @Override
+    public Collection<Task> listTasksBetween(LocalDateTime from, LocalDateTime to) {
+        return readLocked(() -> new ArrayList<>(super.listTasksBetween(from, to)), (snapshotTasks) ->
+                snapshotTasks.listTasksBetween(from, to));
+    }
+
+    @Override
+    public Collection<Task> listTasksByStatus(boolean isDone) {
+        return readLocked(() -> new ArrayList<>(super.listTasksByStatus(isDone)), (snapshotTasks) ->
+                snapshotTasks.listTasksByStatus(isDone));
+    }
+
+    @Override
+    public int countTasksByStatus(boolean isDone) {
+        return readLocked(() -> super.countTasksByStatus(isDone), (snapshotTasks) ->
+                snapshotTasks.countTasksByStatus(isDone));
+    }
+
+    @Override
+    public ArrayList<Task> findNextTasks(LocalDateTime from, int count) {
+        return readLocked(() -> super.findNextTasks(from, count), (snapshotTasks) ->
+                snapshotTasks.findNextTasks(from, count));
+    }
+
+    @Override
+    public void enableTrigramIndex(long maxIndexBytes) {
+        write(() -> {
+            super.enableTrigramIndex(maxIndexBytes);
+            return null;
+        });
+    }
+
+    @Override
+    public String describeFindIndex() {
+        long stamp = lock.readLock();
+        try {
+            return super.describeFindIndex();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Collection<Task> sortTasks() {
+        return readLocked(() -> new ArrayList<>(super.sortTasks()), TaskList::sortTasks);
+    }
+
+    private <T> T write(Supplier<T> change) {
+        long stamp = lock.writeLock();
+        try {
+            return change.get();
+        } finally {
+            version++;
+            publishSnapshot();
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Only for reads of plain fields, such as the size of the list, which cannot go wrong before they are validated.
+    private <T> T readOptimistically(Supplier<T> read, Function<TaskList, T> snapshotRead) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            T result = read.get();
+            if (lock.validate(stamp)) {
+                return result;
+            }
+        }
+        return readLocked(read, snapshotRead);
+    }
+
+    // A change in progress has yet to publish its snapshot, so the snapshot holds the Tasks as they were before it.
+    private <T> T readLocked(Supplier<T> read, Function<TaskList, T> snapshotRead) {
+        long stamp = lock.tryReadLock();
+        if (stamp == 0) {
+            Snapshot current = snapshot;
+            if (current != null && snapshotRead != null) {
+                return snapshotRead.apply(current.scannedTasks);
+            }
+            stamp = lock.readLock();
+        }
+        try {
+            return read.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Only a List held in memory is copied, once per change, so that a List built on demand keeps its small heap.
+    private void publishSnapshot() {
+        if (isHeldInMemory()) {
+            snapshot = new Snapshot(version, super.getList());
+        }
+    }
+
+    /**
+     * Represents an unmodifiable copy of the list of {@code Task}s as it was after a given number of changes, along
+     * with a {@code TaskList} that scans it. The {@code Task}s themselves are shared, not copied.
+     */
+    private static class Snapshot {
+        private final long version;
+        private final List<Task> tasks;
+        private final TaskList scannedTasks;
+
+        // Tasks sorted by time, or null until they are first streamed in that order.
+        private volatile List<Task> sortedTasks;
+
+        private Snapshot(long version, List<Task> liveTasks) {
+            this.version = version;
+            this.tasks = Collections.unmodifiableList(Arrays.asList(liveTasks.toArray(new Task[0])));
+            this.scannedTasks = new TaskList(tasks, false);
+        }
+    }
+
+    /**
+     * Represents an unmodifiable view of a {@code List} that builds its {@code Task}s on demand. Every read takes the
+     * read lock, and fails with a {@code ConcurrentModificationException} once a change has been made since the view
+     * was taken, like the iterators of the {@code List}s of {@code java.util}.
+     */
+    private class OnDemandView extends AbstractList<Task> implements RandomAccess {
+        private final long viewVersion = version;
+        private final List<Task> liveTasks = ConcurrentTaskList.super.getList();
+
+        @Override
+        public Task get(int index) {
+            long stamp = lock.readLock();
+            try {
+                checkVersion();
+                return liveTasks.get(index);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        @Override
+        public int size() {
+            long stamp = lock.readLock();
+            try {
+                checkVersion();
+                return liveTasks.size();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        @Override
+        public Iterator<Task> iterator() {
+            return new Iterator<>() {
+                private int cursor;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < size();
+                }
+
+                @Override
+                public Task next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return get(cursor++);
+                }
+            };
+        }
+
+        @Override
+        public Spliterator<Task> spliterator() {
+            return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
+        }
+
+        private void checkVersion() {
+            if (version != viewVersion) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package poseidon.tasklist;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import poseidon.task.Event;
+
+/**
+ * Represents an interval tree over the time ranges of the {@code Event}s: a balanced search tree ordered by the from
+ * time and sequence number of the {@code Event}s, in which every node also keeps the latest to time found under it.
+ * Subtrees that end before a queried period are skipped, so the {@code Event}s overlapping it are found in
+ * O(log n + k) time for k results.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+final class IntervalTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds the {@code Event} with the given sequence number to the tree.
+     *
+     * @param seq Sequence number of the {@code Event}.
+     * @param event {@code Event} to be added.
+     */
+    void add(long seq, Event event) {
+        root = insert(root, new Node(seq, event));
+        size++;
+    }
+
+    /**
+     * Removes the {@code Event} with the given sequence number from the tree.
+     *
+     * @param seq Sequence number of the {@code Event}.
+     * @param event {@code Event} to be removed.
+     */
+    void remove(long seq, Event event) {
+        int oldSize = size;
+        root = delete(root, event.getDateTime(), seq);
+        assert size == oldSize - 1 : "Removed event is supposed to be in the IntervalTree";
+    }
+
+    /**
+     * Returns the number of {@code Event}s in the tree.
+     *
+     * @return Number of {@code Event}s.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds the {@code Event}s whose time ranges overlap the given period, both ends included, to the given
+     * {@code List} in the order of their from times.
+     *
+     * @param from Start of the period.
+     * @param to End of the period.
+     * @param overlappingEvents {@code List} to add the {@code Event}s to.
+     */
+    void collectOverlapping(LocalDateTime from, LocalDateTime to, List<? super Event> overlappingEvents) {
+        collectOverlapping(root, from, to, overlappingEvents);
+    }
+
+    private static void collectOverlapping(Node node, LocalDateTime from, LocalDateTime to,
+            List<? super Event> overlappingEvents) {
+        if (node == null || node.maxTo.isBefore(from)) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, overlappingEvents);
+        if (node.from.isAfter(to)) {
+            return;
+        }
+        if (!node.event.getToDateTime().isBefore(from)) {
+            overlappingEvents.add(node.event);
+        }
+        collectOverlapping(node.right, from, to, overlappingEvents);
+    }
+
+    private static Node insert(Node node, Node newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (compare(newNode.from, newNode.seq, node) < 0) {
+            node.left = insert(node.left, newNode);
+        } else {
+            node.right = insert(node.right, newNode);
+        }
+        return rebalance(node);
+    }
+
+    private Node delete(Node node, LocalDateTime from, long seq) {
+        if (node == null) {
+            return null;
+        }
+        int order = compare(from, seq, node);
+        if (order < 0) {
+            node.left = delete(node.left, from, seq);
+        } else if (order > 0) {
+            node.right = delete(node.right, from, seq);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteFirst(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private static Node deleteFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteFirst(node.left);
+        return rebalance(node);
+    }
+
+    private static int compare(LocalDateTime from, long seq, Node node) {
+        int fromOrder = from.compareTo(node.from);
+        return fromOrder != 0 ? fromOrder : Long.compare(seq, node.seq);
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.maxTo = node.event.getToDateTime();
+        if (node.left != null && node.left.maxTo.isAfter(node.maxTo)) {
+            node.maxTo = node.left.maxTo;
+        }
+        if (node.right != null && node.right.maxTo.isAfter(node.maxTo)) {
+            node.maxTo = node.right.maxTo;
+        }
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Represents an {@code Event} in the tree, along with the latest to time of its subtree.
+     */
+    private static class Node {
+        private final long seq;
+        private final Event event;
+        private final LocalDateTime from;
+        private LocalDateTime maxTo;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long seq, Event event) {
+            this.seq = seq;
+            this.event = event;
+            this.from = event.getDateTime();
+            this.maxTo = event.getToDateTime();
+        }
+    }
+}
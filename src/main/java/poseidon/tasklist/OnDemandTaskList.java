@@ -0,0 +1,16 @@
+package poseidon.tasklist;
+
+import java.util.List;
+
+import poseidon.task.Task;
+
+/**
+ * Marks a {@code List} of {@code Task}s that builds its {@code Task}s on demand rather than holding them in memory,
+ * such as the {@code PagedTaskList} of the lazy load mode or a {@link ColumnarTaskList}. A {@link TaskList} scans
+ * such a {@code List} instead of copying it into its slab and indexes, so that it keeps its small heap.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public interface OnDemandTaskList extends List<Task> {
+}
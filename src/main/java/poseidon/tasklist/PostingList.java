@@ -0,0 +1,95 @@
+package poseidon.tasklist;
+
+import java.util.Arrays;
+
+/**
+ * Represents the ascending sequence numbers of the {@code Task}s holding a key of an index, kept in a growable
+ * {@code long} array rather than boxed in a collection.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+final class PostingList {
+
+    // Approximate bytes taken by the PostingList object and the header of its array.
+    private static final long FIXED_BYTES = 40;
+
+    private long[] seqs = new long[2];
+    private int size;
+
+    /**
+     * Appends the given sequence number, which must be greater than all the ones held.
+     *
+     * @param seq Sequence number of the {@code Task}.
+     */
+    void append(long seq) {
+        assert size == 0 || seqs[size - 1] < seq : "Sequence numbers are supposed to be appended in order";
+        if (size == seqs.length) {
+            seqs = Arrays.copyOf(seqs, size * 2);
+        }
+        seqs[size++] = seq;
+    }
+
+    /**
+     * Removes the given sequence number, returning true if it was held.
+     *
+     * @param seq Sequence number of the {@code Task}.
+     * @return {@code Boolean} - true if the sequence number was removed.
+     */
+    boolean remove(long seq) {
+        int position = Arrays.binarySearch(seqs, 0, size, seq);
+        if (position < 0) {
+            return false;
+        }
+        System.arraycopy(seqs, position + 1, seqs, position, size - position - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns true if the given sequence number is held.
+     *
+     * @param seq Sequence number of the {@code Task}.
+     * @return {@code Boolean} - true if the sequence number is held.
+     */
+    boolean contains(long seq) {
+        return Arrays.binarySearch(seqs, 0, size, seq) >= 0;
+    }
+
+    /**
+     * Returns the sequence number at the given position.
+     *
+     * @param position Position of the sequence number, starting from 0.
+     * @return Sequence number.
+     */
+    long get(int position) {
+        return seqs[position];
+    }
+
+    /**
+     * Returns the number of sequence numbers held.
+     *
+     * @return Number of sequence numbers.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns a copy of the sequence numbers held.
+     *
+     * @return Ascending sequence numbers.
+     */
+    long[] toArray() {
+        return Arrays.copyOf(seqs, size);
+    }
+
+    /**
+     * Returns the approximate number of bytes of heap taken by this {@code PostingList}.
+     *
+     * @return Approximate size in bytes.
+     */
+    long estimateBytes() {
+        return FIXED_BYTES + (long) seqs.length * Long.BYTES;
+    }
+}
@@ -0,0 +1,86 @@
+package poseidon.tasklist;
+
+import java.util.BitSet;
+
+/**
+ * Represents an index of the done status of the {@code Task}s, as one bit per sequence number in a set of done
+ * {@code Task}s and another in a set of pending ones. The {@code Task}s of either status are found by walking the set
+ * bits only, and the number of {@code Task}s of either status is kept as they change, so counting takes O(1) time.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+final class StatusIndex {
+
+    private final BitSet doneSeqs = new BitSet();
+    private final BitSet pendingSeqs = new BitSet();
+    private int doneCount;
+    private int pendingCount;
+
+    /**
+     * Adds the {@code Task} with the given sequence number and status to the index.
+     *
+     * @param seq Sequence number of the {@code Task}.
+     * @param isDone Done status of the {@code Task}.
+     */
+    void add(int seq, boolean isDone) {
+        if (isDone) {
+            doneSeqs.set(seq);
+            doneCount++;
+        } else {
+            pendingSeqs.set(seq);
+            pendingCount++;
+        }
+    }
+
+    /**
+     * Removes the {@code Task} with the given sequence number from the index.
+     *
+     * @param seq Sequence number of the {@code Task}.
+     */
+    void remove(int seq) {
+        if (doneSeqs.get(seq)) {
+            doneSeqs.clear(seq);
+            doneCount--;
+        } else if (pendingSeqs.get(seq)) {
+            pendingSeqs.clear(seq);
+            pendingCount--;
+        }
+    }
+
+    /**
+     * Moves the {@code Task} with the given sequence number to the done {@code Task}s, unless it is done already.
+     *
+     * @param seq Sequence number of the {@code Task}.
+     */
+    void markDone(int seq) {
+        if (pendingSeqs.get(seq)) {
+            pendingSeqs.clear(seq);
+            pendingCount--;
+            doneSeqs.set(seq);
+            doneCount++;
+        }
+    }
+
+    /**
+     * Returns the first sequence number from the given one onwards of a {@code Task} with the given status, or -1 if
+     * there is none.
+     *
+     * @param isDone Done status of the {@code Task}s.
+     * @param fromSeq Sequence number to start from.
+     * @return Sequence number of the {@code Task}, or -1.
+     */
+    int nextSeq(boolean isDone, int fromSeq) {
+        return (isDone ? doneSeqs : pendingSeqs).nextSetBit(fromSeq);
+    }
+
+    /**
+     * Returns the number of {@code Task}s with the given status.
+     *
+     * @param isDone Done status of the {@code Task}s.
+     * @return Number of {@code Task}s.
+     */
+    int count(boolean isDone) {
+        return isDone ? doneCount : pendingCount;
+    }
+}
@@ -1,34 +1,124 @@
 package poseidon.tasklist;
 
+import java.time.LocalDateTime;
+import java.util.AbstractCollection;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import poseidon.task.Event;
 import poseidon.task.Task;
 
 /**
- * Represents an {@code TaskList} object that contains an {@code ArrayList} to keep track of the {@code Task}s during
- * runtime and dictates operations based for modifying the {@code ArrayList}.
+ * Represents an {@code TaskList} object that contains a {@code List} to keep track of the {@code Task}s during
+ * runtime and dictates operations based for modifying the {@code List}. The {@code List} may build its {@code Task}s
+ * on demand, so a changed {@code Task} is always written back to it.
+ *
+ * <p>Every {@code Task} has an ID that stays the same while other {@code Task}s are added and deleted. A {@code List}
+ * held in memory is kept in a {@link TaskSlab}, which finds a {@code Task} by its ID in O(1) time and never shifts
+ * the {@code Task}s after a deleted one. Its {@code Task}s are also indexed by the tokens of their descriptions, see
+ * {@link TokenIndex}, so that a find only visits the {@code Task}s that may match. The indexes refer to a
+ * {@code Task} by its slot in the {@link TaskSlab}. An optional {@link TrigramIndex} can
+ * narrow down finds of any content of three or more characters, within a cap on its memory. The {@code Task}s are
+ * also kept in chronological order, see {@link ChronologicalIndex}, so that a sorted listing needs no sort, and the
+ * {@code Event}s in an {@link IntervalTree}, so that the ones at a given time are found without a scan. Their done
+ * status is kept in bit sets, see {@link StatusIndex}, so that they are filtered and counted by status without a
+ * scan.</p>
+ *
+ * <p>A {@code List} that builds its {@code Task}s on demand, marked as an {@link OnDemandTaskList}, is scanned
+ * instead, so that it keeps its small heap. Any other {@code List} is copied into the slab and indexed.</p>
  *
  * @author Yeluri Ketan
  * @version CS2103T AY21/22 Sem 1 iP
  */
 public class TaskList {
 
-    private ArrayList<Task> tasks;
+    private List<Task> tasks;
+
+    // Slab and indexes of the Tasks, or null if the List builds its Tasks on demand and is scanned instead.
+    private TaskSlab taskSlab;
+    private TokenIndex tokenIndex;
+    private TrigramIndex trigramIndex;
+    private ChronologicalIndex chronologicalIndex;
+    private IntervalTree eventIntervals;
+    private StatusIndex statusIndex;
+
+    // Indexes of the Tasks that were given an ID when loaded, which the storage doesn't hold yet.
+    private ArrayList<Integer> unsavedIdIndexes = new ArrayList<>();
+
+    // Next ID to be given out when the List builds its Tasks on demand, or 0 until the Tasks are first scanned.
+    private int nextScannedId;
+
+    // Highest ID of a deleted Task, which is never given out again.
+    private int idHighWaterMark;
 
     /**
      * Constructs a new {@code TaskList} object by initializing a new {@code ArrayList} for runtime storage.
      */
     public TaskList() {
-        tasks = new ArrayList<>();
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Constructs a new {@code TaskList} object by storing the given {@code List} for runtime storage. The
+     * {@code List} is scanned if it is an {@link OnDemandTaskList}, else it is copied and indexed.
+     *
+     * @param tasks List to be used runtime storage.
+     */
+    public TaskList(List<Task> tasks) {
+        this(tasks, 0);
+    }
+
+    /**
+     * Constructs a new {@code TaskList} object by storing the given {@code List} for runtime storage, which gives out
+     * only IDs above the given ID high-water mark, so that the ID of a {@code Task} deleted before the {@code List}
+     * was saved is never given out again.
+     *
+     * @param tasks List to be used runtime storage.
+     * @param idHighWaterMark Highest ID of a deleted {@code Task}, or 0.
+     */
+    public TaskList(List<Task> tasks, int idHighWaterMark) {
+        this(tasks, !(tasks instanceof OnDemandTaskList), idHighWaterMark);
     }
 
     /**
-     * Constructs a new {@code TaskList} object by storing the given {@code ArrayList} for runtime storage.
+     * Constructs a new {@code TaskList} object by storing the given {@code List} for runtime storage, either copied
+     * and indexed or scanned as it is.
      *
-     * @param tasks ArrayList to be used runtime storage.
+     * @param tasks List to be used runtime storage.
+     * @param isIndexed True if the {@code List} is to be copied and indexed, false if it is to be scanned.
      */
-    public TaskList(ArrayList<Task> tasks) {
-        this.tasks = tasks;
+    TaskList(List<Task> tasks, boolean isIndexed) {
+        this(tasks, isIndexed, 0);
+    }
+
+    private TaskList(List<Task> tasks, boolean isIndexed, int idHighWaterMark) {
+        this.idHighWaterMark = idHighWaterMark;
+        if (!isIndexed) {
+            this.tasks = tasks;
+            return;
+        }
+
+        taskSlab = new TaskSlab(tasks, idHighWaterMark);
+        this.tasks = taskSlab;
+        tokenIndex = new TokenIndex();
+        chronologicalIndex = new ChronologicalIndex();
+        eventIntervals = new IntervalTree();
+        statusIndex = new StatusIndex();
+        for (int i = 0; i < tasks.size(); i++) {
+            indexTask(tasks.get(i), i);
+        }
+        for (int slot : taskSlab.takeSlotsWithNewIds()) {
+            unsavedIdIndexes.add(slot + 1);
+        }
     }
 
     /**
@@ -38,7 +128,11 @@ public class TaskList {
      * @return {@code String} success message.
      */
     public String addTask(Task newTask) {
+        giveId(newTask);
         tasks.add(newTask);
+        if (taskSlab != null) {
+            indexTask(newTask, taskSlab.slotAt(tasks.size() - 1));
+        }
         return "Got it. I've added this task:\n"
                 + "  " + newTask + "\n"
                 + countTasks();
@@ -51,11 +145,30 @@ public class TaskList {
      * @return {@code String} success message.
      */
     public String markTaskDone(int taskIndex) {
-        Task currTask = tasks.get(taskIndex - 1);
-        currTask.setDone();
-        assert currTask.toString().charAt(4) == 'X' : "Task is supposed to be marked done";
         return "Nice! I've marked this task as done:\n"
-                + "  " + taskIndex + ". " + currTask;
+                + "  " + setDone(taskIndex).toNumberedString(taskIndex);
+    }
+
+    /**
+     * Returns a {@code String} message indicating success after marking the {@code Task}s at the given indexes done
+     * in a single pass. A single index gives the same message as {@link #markTaskDone(int)}.
+     *
+     * @param taskIndexes Ascending indexes of the {@code Task}s, without repeats.
+     * @return {@code String} success message.
+     */
+    public String markTasksDone(int[] taskIndexes) {
+        assert isAscendingWithoutRepeats(taskIndexes) : "Task indexes are supposed to be ascending without repeats";
+        if (taskIndexes.length == 1) {
+            return "Nice! I've marked this task as done:\n"
+                    + "  " + setDone(taskIndexes[0]).toNumberedString(taskIndexes[0]);
+        }
+
+        StringBuilder message = new StringBuilder("Nice! I've marked these " + taskIndexes.length
+                + " tasks as done:");
+        for (int taskIndex : taskIndexes) {
+            message.append("\n  ").append(setDone(taskIndex).toNumberedString(taskIndex));
+        }
+        return message.toString();
     }
 
     /**
@@ -65,21 +178,83 @@ public class TaskList {
      * @return {@code String} success message.
      */
     public String deleteTask(int taskIndex) {
-        Task currTask = tasks.get(taskIndex - 1);
-        tasks.remove(taskIndex - 1);
-        assert !tasks.contains(currTask) : "Removed task is not supposed to be in the TaskList";
         return "Noted. I've removed this task:\n"
-                + "  " + taskIndex + ". " + currTask + "\n"
+                + "  " + remove(taskIndex).toNumberedString(taskIndex) + "\n"
                 + countTasks();
     }
 
     /**
-     * Returns the {@code ArrayList} of {@code Task}s maintained by this {@code TaskList} object.
+     * Returns a {@code String} message indicating success after deleting the {@code Task}s at the given indexes in a
+     * single pass. They are deleted from the highest index down, so that the indexes still to be deleted never shift.
+     * A single index gives the same message as {@link #deleteTask(int)}.
      *
-     * @return {@code ArrayList} of {@code Task} objects.
+     * @param taskIndexes Ascending indexes of the {@code Task}s, without repeats.
+     * @return {@code String} success message.
+     */
+    public String deleteTasks(int[] taskIndexes) {
+        assert isAscendingWithoutRepeats(taskIndexes) : "Task indexes are supposed to be ascending without repeats";
+        if (taskIndexes.length == 1) {
+            return "Noted. I've removed this task:\n"
+                    + "  " + remove(taskIndexes[0]).toNumberedString(taskIndexes[0]) + "\n"
+                    + countTasks();
+        }
+
+        String[] removedTasks = new String[taskIndexes.length];
+        for (int i = taskIndexes.length - 1; i >= 0; i--) {
+            removedTasks[i] = remove(taskIndexes[i]).toNumberedString(taskIndexes[i]);
+        }
+        return "Noted. I've removed these " + taskIndexes.length + " tasks:\n"
+                + "  " + String.join("\n  ", removedTasks) + "\n"
+                + countTasks();
+    }
+
+    /**
+     * Returns a read-only view of the {@code List} of {@code Task}s maintained by this {@code TaskList} object.
+     *
+     * @return {@code List} of {@code Task} objects.
      */
-    public ArrayList<Task> getList() {
-        return tasks;
+    public List<Task> getList() {
+        return Collections.unmodifiableList(tasks);
+    }
+
+    /**
+     * Gives the given new {@code Task} an ID that no other {@code Task} in the list holds, unless it already has
+     * one. To be called before the {@code Task} is saved, so that it is saved along with its ID.
+     *
+     * @param newTask New {@code Task} to be given an ID.
+     */
+    public void assignId(Task newTask) {
+        giveId(newTask);
+    }
+
+    /**
+     * Returns the index of the {@code Task} with the given ID, or 0 if there is none.
+     *
+     * @param id ID of the {@code Task}.
+     * @return Index of the {@code Task}, or 0.
+     */
+    public int findIndexById(int id) {
+        if (taskSlab != null) {
+            return taskSlab.indexOfId(id) + 1;
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            if (tasks.get(i).getId() == id) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the indexes of the {@code Task}s that were given an ID when loaded and so have to be saved again, and
+     * forgets them. The indexes hold until a {@code Task} is added or deleted.
+     *
+     * @return {@code ArrayList} of indexes.
+     */
+    public ArrayList<Integer> takeUnsavedIdIndexes() {
+        ArrayList<Integer> takenIndexes = unsavedIdIndexes;
+        unsavedIdIndexes = new ArrayList<>();
+        return takenIndexes;
     }
 
     /**
@@ -110,6 +285,20 @@ public class TaskList {
      */
     public ArrayList<Task> findTasks(String content) {
         ArrayList<Task> filteredList = new ArrayList<>();
+        long[] candidateSlots = findCandidateSlots(content);
+        if (candidateSlots != null) {
+            for (long candidateSlot : candidateSlots) {
+                Task candidate = taskSlab.getSlot((int) candidateSlot);
+                if (candidate.hasContent(content)) {
+                    filteredList.add(candidate);
+                }
+            }
+            return filteredList;
+        }
+
+        if (tasks instanceof ColumnarTaskList) {
+            return ((ColumnarTaskList) tasks).findTasks(content);
+        }
 
         tasks.stream()
                 .filter((currTask) -> currTask.hasContent(content))
@@ -119,11 +308,285 @@ public class TaskList {
     }
 
     /**
-     * Returns an {@code ArrayList} of {@code Task}s maintained by this {@code TaskList} object sorted by time.
+     * Returns the indexes of all the {@code Task}s that have the content in their description, in ascending order.
+     * The indexes are worked out during the find itself, so they hold even for {@code Task}s without a unique ID.
      *
+     * @param content Content to be searched for.
+     * @return Ascending indexes of the {@code Task}s.
+     */
+    public int[] findTaskIndexes(String content) {
+        long[] candidateSlots = findCandidateSlots(content);
+        if (candidateSlots != null) {
+            return Arrays.stream(candidateSlots)
+                    .mapToInt((candidateSlot) -> (int) candidateSlot)
+                    .filter((candidateSlot) -> taskSlab.getSlot(candidateSlot).hasContent(content))
+                    .map((candidateSlot) -> taskSlab.indexOfSlot(candidateSlot) + 1)
+                    .sorted()
+                    .toArray();
+        } else if (tasks instanceof ColumnarTaskList) {
+            return ((ColumnarTaskList) tasks).streamFoundIndexes(content).map((i) -> i + 1).toArray();
+        }
+        return IntStream.range(0, tasks.size())
+                .filter((i) -> tasks.get(i).hasContent(content))
+                .map((i) -> i + 1)
+                .toArray();
+    }
+
+    /**
+     * Returns a lazy {@code Stream} of the {@code Task}s maintained by this {@code TaskList} object, in list order.
+     * No {@code Task} is read until the {@code Stream} is consumed, so a short-circuiting one stops reading early.
+     *
+     * @return {@code Stream} of {@code Task} objects.
+     */
+    public Stream<Task> streamTasks() {
+        return tasks.stream();
+    }
+
+    /**
+     * Returns a lazy {@code Stream} of the {@code Task}s that have the content in their description, in the same order
+     * as {@link #findTasks(String)}. Only the candidates of the find indexes are visited, if there are any.
+     *
+     * @param content Content to be searched for.
+     * @return {@code Stream} of {@code Task} objects.
+     */
+    public Stream<Task> streamFoundTasks(String content) {
+        long[] candidateSlots = findCandidateSlots(content);
+        if (candidateSlots != null) {
+            return Arrays.stream(candidateSlots)
+                    .mapToObj((candidateSlot) -> taskSlab.getSlot((int) candidateSlot))
+                    .filter((currTask) -> currTask.hasContent(content));
+        } else if (tasks instanceof ColumnarTaskList) {
+            return ((ColumnarTaskList) tasks).streamFoundTasks(content);
+        }
+        return tasks.stream().filter((currTask) -> currTask.hasContent(content));
+    }
+
+    /**
+     * Returns a {@code Stream} of the {@code Task}s sorted by time, in the same order as {@link #sortTasks()}. An
+     * indexed list is streamed in order and lazily, while any other list is sorted once the {@code Stream} is
+     * consumed.
+     *
+     * @return {@code Stream} of {@code Task} objects.
+     */
+    public Stream<Task> streamSortedTasks() {
+        if (chronologicalIndex != null) {
+            return chronologicalIndex.getTasks().stream();
+        }
+        return tasks.stream().sorted();
+    }
+
+    /**
+     * Returns an {@code ArrayList} containing all the {@code Event}s whose time ranges overlap the given period, both
+     * ends included, in the order of their from times.
+     *
+     * @param from Start of the period.
+     * @param to End of the period.
      * @return {@code ArrayList} of {@code Task} objects.
      */
-    public ArrayList<Task> sortTasks() {
+    public ArrayList<Task> findEventsBetween(LocalDateTime from, LocalDateTime to) {
+        ArrayList<Task> overlappingEvents = new ArrayList<>();
+
+        if (eventIntervals != null) {
+            eventIntervals.collectOverlapping(from, to, overlappingEvents);
+        } else {
+            tasks.stream()
+                    .filter((currTask) -> currTask instanceof Event)
+                    .map((currTask) -> (Event) currTask)
+                    .filter((currEvent) -> !currEvent.getDateTime().isAfter(to)
+                            && !currEvent.getToDateTime().isBefore(from))
+                    .sorted()
+                    .forEach(overlappingEvents::add);
+        }
+
+        return overlappingEvents;
+    }
+
+    /**
+     * Returns the {@code Deadline}s due and the {@code Event}s starting within the given period, both ends included,
+     * in chronological order. {@code Todo}s have no date and time and are never listed.
+     *
+     * @param from Start of the period.
+     * @param to End of the period.
+     * @return {@code Collection} of {@code Task} objects.
+     */
+    public Collection<Task> listTasksBetween(LocalDateTime from, LocalDateTime to) {
+        if (chronologicalIndex != null) {
+            return chronologicalIndex.getTasksBetween(from, to);
+        }
+
+        ArrayList<Task> periodTasks = new ArrayList<>();
+
+        tasks.stream()
+                .filter((currTask) -> !currTask.getDateTime().isBefore(from) && !currTask.getDateTime().isAfter(to))
+                .sorted()
+                .forEach(periodTasks::add);
+
+        return periodTasks;
+    }
+
+    /**
+     * Returns a read-only view of the {@code Task}s with the given done status, in the order of the list. Walking the
+     * view of a {@code List} held in memory visits the {@code Task}s of that status only.
+     *
+     * @param isDone Done status of the {@code Task}s.
+     * @return {@code Collection} of {@code Task} objects.
+     */
+    public Collection<Task> listTasksByStatus(boolean isDone) {
+        if (taskSlab == null) {
+            return tasks.stream()
+                    .filter((currTask) -> currTask.isDone() == isDone)
+                    .collect(Collectors.toList());
+        }
+
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Task> iterator() {
+                return new Iterator<>() {
+                    private int nextSlot = statusIndex.nextSeq(isDone, 0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return nextSlot >= 0;
+                    }
+
+                    @Override
+                    public Task next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Task task = taskSlab.getSlot(nextSlot);
+                        nextSlot = statusIndex.nextSeq(isDone, nextSlot + 1);
+                        return task;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return statusIndex.count(isDone);
+            }
+        };
+    }
+
+    /**
+     * Returns the number of {@code Task}s with the given done status, which takes O(1) time for a {@code List} held
+     * in memory.
+     *
+     * @param isDone Done status of the {@code Task}s.
+     * @return Number of {@code Task}s.
+     */
+    public int countTasksByStatus(boolean isDone) {
+        if (taskSlab == null) {
+            return (int) tasks.stream().filter((currTask) -> currTask.isDone() == isDone).count();
+        }
+        return statusIndex.count(isDone);
+    }
+
+    /**
+     * Returns at most the given number of pending {@code Deadline}s and {@code Event}s that are due or start after the
+     * given date and time, earliest first. {@code Todo}s and done {@code Task}s are never returned.
+     *
+     * <p>The chronological index is walked from the given date and time until enough {@code Task}s are found. A
+     * {@code List} that builds its {@code Task}s on demand is scanned once instead, keeping the earliest
+     * {@code Task}s found so far in a heap bounded by the given number, which takes O(n log k) time.</p>
+     *
+     * @param from Date and time that the {@code Task}s come after.
+     * @param count Most {@code Task}s to be returned.
+     * @return {@code ArrayList} of {@code Task} objects.
+     */
+    public ArrayList<Task> findNextTasks(LocalDateTime from, int count) {
+        ArrayList<Task> nextTasks = new ArrayList<>();
+        if (count <= 0) {
+            return nextTasks;
+        }
+
+        if (chronologicalIndex != null) {
+            for (Task currTask : chronologicalIndex.getTasksAfter(from)) {
+                if (nextTasks.size() == count || currTask.getDateTime().equals(LocalDateTime.MAX)) {
+                    break;
+                }
+                if (!currTask.isDone()) {
+                    nextTasks.add(currTask);
+                }
+            }
+            return nextTasks;
+        }
+
+        // Positions of the earliest Tasks so far, latest first, with ties broken by position as in a stable sort.
+        PriorityQueue<Integer> earliestIndexes = new PriorityQueue<>((firstIndex, secondIndex) -> {
+            int dateTimeOrder = tasks.get(secondIndex).compareTo(tasks.get(firstIndex));
+            return dateTimeOrder != 0 ? dateTimeOrder : Integer.compare(secondIndex, firstIndex);
+        });
+        for (int i = 0; i < tasks.size(); i++) {
+            Task currTask = tasks.get(i);
+            if (currTask.isDone() || !currTask.getDateTime().isAfter(from)
+                    || currTask.getDateTime().equals(LocalDateTime.MAX)) {
+                continue;
+            }
+            if (earliestIndexes.size() == count) {
+                if (currTask.compareTo(tasks.get(earliestIndexes.peek())) >= 0) {
+                    continue;
+                }
+                earliestIndexes.poll();
+            }
+            earliestIndexes.add(i);
+        }
+        while (!earliestIndexes.isEmpty()) {
+            nextTasks.add(tasks.get(earliestIndexes.poll()));
+        }
+        Collections.reverse(nextTasks);
+        return nextTasks;
+    }
+
+    /**
+     * Builds a trigram index over the descriptions of the {@code Task}s, so that finds of any content of three or
+     * more characters only visit the {@code Task}s holding all of its trigrams. The index is dropped for good once it
+     * takes more than the given number of bytes, and finds go back to the token index. A {@code List} that builds
+     * its {@code Task}s on demand is not indexed.
+     *
+     * @param maxIndexBytes Cap on the approximate size of the trigram index in bytes.
+     */
+    public void enableTrigramIndex(long maxIndexBytes) {
+        if (taskSlab == null) {
+            return;
+        }
+        trigramIndex = new TrigramIndex(maxIndexBytes);
+        for (int i = 0; i < tasks.size(); i++) {
+            trigramIndex.add(taskSlab.slotAt(i), tasks.get(i).getDescription());
+        }
+    }
+
+    /**
+     * Returns a {@code String} describing the index used by finds and the memory it takes.
+     *
+     * @return {@code String} description of the find index.
+     */
+    public String describeFindIndex() {
+        if (tokenIndex == null) {
+            return "Find index: none, tasks are scanned.";
+        } else if (trigramIndex == null) {
+            return "Find index: " + tokenIndex.countTokens() + " tokens.";
+        } else if (trigramIndex.isOverflowed()) {
+            return "Find index: " + tokenIndex.countTokens() + " tokens, trigrams dropped after exceeding "
+                    + toKibibytes(trigramIndex.getMaxBytes()) + " KiB.";
+        } else {
+            return "Find index: " + trigramIndex.countTrigrams() + " trigrams, about "
+                    + toKibibytes(trigramIndex.estimateBytes()) + " KiB of " + toKibibytes(trigramIndex.getMaxBytes())
+                    + " KiB.";
+        }
+    }
+
+    /**
+     * Returns the {@code Task}s maintained by this {@code TaskList} object sorted by time, {@code Task}s with the same
+     * time keeping their order in the list. An indexed list is walked in order rather than sorted.
+     *
+     * @return {@code Collection} of {@code Task} objects.
+     */
+    public Collection<Task> sortTasks() {
+        if (chronologicalIndex != null) {
+            return chronologicalIndex.getTasks();
+        }
+
         ArrayList<Task> sortedList = new ArrayList<>();
 
         tasks.stream()
@@ -133,6 +596,92 @@ public class TaskList {
         return sortedList;
     }
 
+    /**
+     * Returns true if the {@code List} of {@code Task}s is held in memory and indexed, rather than built on demand
+     * and scanned.
+     *
+     * @return {@code Boolean} - true if the {@code List} is held in memory.
+     */
+    boolean isHeldInMemory() {
+        return taskSlab != null;
+    }
+
+    private static boolean isAscendingWithoutRepeats(int[] taskIndexes) {
+        for (int i = 1; i < taskIndexes.length; i++) {
+            if (taskIndexes[i] <= taskIndexes[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Returns the slots of the Tasks that may have the content, or null if no index can narrow down the find.
+    private long[] findCandidateSlots(String content) {
+        long[] candidateSlots = trigramIndex == null ? null : trigramIndex.findCandidates(content);
+        if (candidateSlots == null && tokenIndex != null) {
+            candidateSlots = tokenIndex.findCandidates(content);
+        }
+        return candidateSlots;
+    }
+
+    private void giveId(Task newTask) {
+        if (taskSlab != null) {
+            taskSlab.assignId(newTask);
+        } else if (newTask.getId() <= 0) {
+            if (nextScannedId == 0) {
+                nextScannedId = Math.max(tasks.stream().mapToInt(Task::getId).max().orElse(0), idHighWaterMark) + 1;
+            }
+            newTask.setId(nextScannedId++);
+        }
+    }
+
+    private Task setDone(int taskIndex) {
+        Task currTask = tasks.get(taskIndex - 1);
+        currTask.setDone();
+        tasks.set(taskIndex - 1, currTask);
+        if (taskSlab != null) {
+            statusIndex.markDone(taskSlab.slotAt(taskIndex - 1));
+        }
+        assert currTask.toString().charAt(4) == 'X' : "Task is supposed to be marked done";
+        return currTask;
+    }
+
+    private Task remove(int taskIndex) {
+        Task currTask = tasks.get(taskIndex - 1);
+        if (taskSlab != null) {
+            int slot = taskSlab.slotAt(taskIndex - 1);
+            tokenIndex.remove(slot, currTask.getDescription());
+            if (trigramIndex != null) {
+                trigramIndex.remove(slot, currTask.getDescription());
+            }
+            chronologicalIndex.remove(slot, currTask);
+            if (currTask instanceof Event) {
+                eventIntervals.remove(slot, (Event) currTask);
+            }
+            statusIndex.remove(slot);
+        }
+        tasks.remove(taskIndex - 1);
+        assert taskSlab == null || taskSlab.indexOfId(currTask.getId()) < 0
+                : "Removed task is not supposed to be in the TaskList";
+        return currTask;
+    }
+
+    private void indexTask(Task task, int slot) {
+        tokenIndex.add(slot, task.getDescription());
+        if (trigramIndex != null) {
+            trigramIndex.add(slot, task.getDescription());
+        }
+        chronologicalIndex.add(slot, task);
+        if (task instanceof Event) {
+            eventIntervals.add(slot, (Event) task);
+        }
+        statusIndex.add(slot, task.isDone());
+    }
+
+    private static long toKibibytes(long bytes) {
+        return (bytes + 1023) / 1024;
+    }
+
     private String countTasks() {
         if (tasks.size() > 0) {
             return "Now you have " + tasks.size() + " tasks in the list.";
@@ -0,0 +1,248 @@
+package poseidon.tasklist;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import poseidon.task.Task;
+
+/**
+ * Represents a {@code List} of {@code Task}s kept in a slab of slots that are never reused or shifted: a new
+ * {@code Task} takes the next slot and a deleted one leaves a tombstone behind. A {@code Task} is found by its ID in
+ * O(1) time through a hash index of the slots, while its position in the list is worked out from a Fenwick tree of
+ * the live slots in O(log n) time, so that no deletion renumbers or moves the {@code Task}s after it.
+ *
+ * <p>The slot of a {@code Task} stays the same for as long as the slab lives, so it doubles as the sequence number
+ * that the other indexes of the {@code TaskList} refer to the {@code Task} by. Tombstones are dropped when the
+ * {@code Task}s are next loaded.</p>
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+final class TaskSlab extends AbstractList<Task> implements RandomAccess {
+
+    private final HashMap<Integer, Integer> slotsById = new HashMap<>();
+    private final ArrayList<Integer> slotsWithNewIds = new ArrayList<>();
+    private Task[] slots = new Task[16];
+    private int[] liveSlotTree = new int[slots.length + 1];
+    private int slotCount;
+    private int size;
+    private int nextId = 1;
+
+    /**
+     * Constructs a new {@code TaskSlab} holding the given {@code Task}s in order. {@code Task}s without an ID, or
+     * with the ID of an earlier {@code Task}, are given a new one.
+     *
+     * @param tasks {@code Task}s to be held.
+     */
+    TaskSlab(List<Task> tasks) {
+        this(tasks, 0);
+    }
+
+    /**
+     * Constructs a new {@code TaskSlab} holding the given {@code Task}s in order, which gives out only IDs above the
+     * given ID high-water mark.
+     *
+     * @param tasks {@code Task}s to be held.
+     * @param idHighWaterMark Highest ID of a deleted {@code Task}, or 0.
+     */
+    TaskSlab(List<Task> tasks, int idHighWaterMark) {
+        nextId = idHighWaterMark + 1;
+        for (Task task : tasks) {
+            nextId = Math.max(nextId, task.getId() + 1);
+        }
+        for (Task task : tasks) {
+            if (task.getId() <= 0 || slotsById.containsKey(task.getId())) {
+                task.setId(nextId++);
+                slotsWithNewIds.add(slotCount);
+            }
+            append(task);
+        }
+    }
+
+    @Override
+    public Task get(int index) {
+        return slots[slotAt(index)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Task set(int index, Task task) {
+        int slot = slotAt(index);
+        Task oldTask = slots[slot];
+        assert oldTask.getId() == task.getId() : "Replacing task is supposed to keep the ID";
+        slots[slot] = task;
+        return oldTask;
+    }
+
+    @Override
+    public void add(int index, Task task) {
+        if (index != size) {
+            throw new UnsupportedOperationException("Tasks can only be added at the end of a TaskSlab");
+        }
+        assignId(task);
+        append(task);
+        modCount++;
+    }
+
+    @Override
+    public Task remove(int index) {
+        int slot = slotAt(index);
+        Task oldTask = slots[slot];
+        slots[slot] = null;
+        slotsById.remove(oldTask.getId());
+        updateLiveSlots(slot, -1);
+        size--;
+        modCount++;
+        return oldTask;
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return new Iterator<>() {
+            private int nextSlot = skipTombstones(0);
+
+            @Override
+            public boolean hasNext() {
+                return nextSlot < slotCount;
+            }
+
+            @Override
+            public Task next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Task task = slots[nextSlot];
+                nextSlot = skipTombstones(nextSlot + 1);
+                return task;
+            }
+        };
+    }
+
+    /**
+     * Gives the given {@code Task} a new ID, unless it already has one that no {@code Task} in the slab holds.
+     *
+     * @param task {@code Task} to be given an ID.
+     */
+    void assignId(Task task) {
+        if (task.getId() <= 0 || slotsById.containsKey(task.getId())) {
+            task.setId(nextId++);
+        }
+    }
+
+    /**
+     * Returns the slot of the {@code Task} at the given position.
+     *
+     * @param index Position of the {@code Task}, starting from 0.
+     * @return Slot of the {@code Task}.
+     */
+    int slotAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        int slot = 0;
+        int remaining = index + 1;
+        for (int step = Integer.highestOneBit(liveSlotTree.length - 1); step > 0; step >>= 1) {
+            if (slot + step < liveSlotTree.length && liveSlotTree[slot + step] < remaining) {
+                slot += step;
+                remaining -= liveSlotTree[slot];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the {@code Task} in the given slot, or null if the slot holds a tombstone.
+     *
+     * @param slot Slot of the {@code Task}.
+     * @return {@code Task} in the slot, or null.
+     */
+    Task getSlot(int slot) {
+        return slots[slot];
+    }
+
+    /**
+     * Returns the position of the {@code Task} with the given ID, or -1 if there is none.
+     *
+     * @param id ID of the {@code Task}.
+     * @return Position of the {@code Task}, starting from 0, or -1.
+     */
+    int indexOfId(int id) {
+        Integer slot = slotsById.get(id);
+        return slot == null ? -1 : indexOfSlot(slot);
+    }
+
+    /**
+     * Returns the position of the {@code Task} in the given slot, which is the number of live slots before it.
+     *
+     * @param slot Slot of a live {@code Task}.
+     * @return Position of the {@code Task}, starting from 0.
+     */
+    int indexOfSlot(int slot) {
+        int index = 0;
+        for (int node = slot; node > 0; node -= node & -node) {
+            index += liveSlotTree[node];
+        }
+        return index;
+    }
+
+    /**
+     * Returns the slots of the {@code Task}s that were given a new ID when the slab was constructed, which are also
+     * their positions until a {@code Task} is deleted, and forgets them.
+     *
+     * @return Slots of the {@code Task}s.
+     */
+    ArrayList<Integer> takeSlotsWithNewIds() {
+        ArrayList<Integer> takenSlots = new ArrayList<>(slotsWithNewIds);
+        slotsWithNewIds.clear();
+        return takenSlots;
+    }
+
+    private void append(Task task) {
+        if (slotCount == slots.length) {
+            slots = Arrays.copyOf(slots, slotCount * 2);
+            rebuildLiveSlots();
+        }
+        slots[slotCount] = task;
+        slotsById.put(task.getId(), slotCount);
+        nextId = Math.max(nextId, task.getId() + 1);
+        updateLiveSlots(slotCount, 1);
+        slotCount++;
+        size++;
+    }
+
+    private int skipTombstones(int slot) {
+        while (slot < slotCount && slots[slot] == null) {
+            slot++;
+        }
+        return slot;
+    }
+
+    private void updateLiveSlots(int slot, int change) {
+        for (int node = slot + 1; node < liveSlotTree.length; node += node & -node) {
+            liveSlotTree[node] += change;
+        }
+    }
+
+    private void rebuildLiveSlots() {
+        liveSlotTree = new int[slots.length + 1];
+        for (int node = 1; node < liveSlotTree.length; node++) {
+            if (node <= slotCount && slots[node - 1] != null) {
+                liveSlotTree[node]++;
+            }
+            int parent = node + (node & -node);
+            if (parent < liveSlotTree.length) {
+                liveSlotTree[parent] += liveSlotTree[node];
+            }
+        }
+    }
+}
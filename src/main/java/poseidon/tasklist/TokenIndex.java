@@ -0,0 +1,161 @@
+package poseidon.tasklist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+/**
+ * Represents an inverted index from the whitespace-separated tokens of the {@code Task} descriptions to the sequence
+ * numbers of the {@code Task}s holding them, kept in ascending order.
+ *
+ * <p>Tokens never contain whitespace, so every whitespace-free part of a searched content must lie inside a single
+ * token of any description holding the content. A part with whitespace on both sides must even be a whole token, and
+ * the first and last of several parts must end and start one. The candidates of a find are hence the {@code Task}s
+ * holding the rarest inner part, found by a lookup without any scan. A content of one or two parts has no inner part,
+ * and its candidates are found by a scan of the distinct tokens for the ones that contain, end with or start with its
+ * parts. The candidates are a superset of the matches, which the caller confirms.</p>
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+final class TokenIndex {
+
+    private final HashMap<String, PostingList> postingsByToken = new HashMap<>();
+
+    /**
+     * Adds the {@code Task} with the given sequence number and description to the index. Sequence numbers must be
+     * added in ascending order.
+     *
+     * @param seq Sequence number of the {@code Task}.
+     * @param description Description of the {@code Task}.
+     */
+    void add(long seq, String description) {
+        for (String token : tokenize(description)) {
+            postingsByToken.computeIfAbsent(token, (newToken) -> new PostingList()).append(seq);
+        }
+    }
+
+    /**
+     * Removes the {@code Task} with the given sequence number and description from the index.
+     *
+     * @param seq Sequence number of the {@code Task}.
+     * @param description Description of the {@code Task}.
+     */
+    void remove(long seq, String description) {
+        for (String token : tokenize(description)) {
+            PostingList postings = postingsByToken.get(token);
+            if (postings != null && postings.remove(seq) && postings.size() == 0) {
+                postingsByToken.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Returns the ascending sequence numbers of the {@code Task}s whose descriptions may contain the given content,
+     * or null if the content has no whitespace-free part to look up.
+     *
+     * @param content Content to be searched for.
+     * @return Ascending sequence numbers of the candidate {@code Task}s, or null.
+     */
+    long[] findCandidates(String content) {
+        String[] parts = content.trim().split("\\s+");
+        if (parts[0].isEmpty()) {
+            return null;
+        }
+
+        ArrayList<PostingList> rarestPostings;
+        if (parts.length > 2) {
+            PostingList rarestToken = null;
+            for (int i = 1; i < parts.length - 1; i++) {
+                PostingList wholeToken = postingsByToken.get(parts[i]);
+                if (wholeToken == null) {
+                    return new long[0];
+                } else if (rarestToken == null || wholeToken.size() < rarestToken.size()) {
+                    rarestToken = wholeToken;
+                }
+            }
+            rarestPostings = new ArrayList<>();
+            rarestPostings.add(rarestToken);
+        } else if (parts.length == 2) {
+            rarestPostings = findTokensAround(parts[0], parts[1]);
+        } else {
+            rarestPostings = findTokensContaining(parts[0]);
+        }
+
+        long[] candidates = new long[0];
+        for (PostingList postings : rarestPostings) {
+            candidates = union(candidates, postings);
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the number of distinct tokens in the index.
+     *
+     * @return Number of distinct tokens.
+     */
+    int countTokens() {
+        return postingsByToken.size();
+    }
+
+    private ArrayList<PostingList> findTokensContaining(String part) {
+        ArrayList<PostingList> matchingPostings = new ArrayList<>();
+        for (Map.Entry<String, PostingList> entry : postingsByToken.entrySet()) {
+            if (entry.getKey().contains(part)) {
+                matchingPostings.add(entry.getValue());
+            }
+        }
+        return matchingPostings;
+    }
+
+    // Returns the rarer of the tokens ending with the part before the whitespace and those starting with the part
+    // after it, found in a single scan.
+    private ArrayList<PostingList> findTokensAround(String firstPart, String lastPart) {
+        ArrayList<PostingList> firstPostings = new ArrayList<>();
+        ArrayList<PostingList> lastPostings = new ArrayList<>();
+        for (Map.Entry<String, PostingList> entry : postingsByToken.entrySet()) {
+            if (entry.getKey().endsWith(firstPart)) {
+                firstPostings.add(entry.getValue());
+            }
+            if (entry.getKey().startsWith(lastPart)) {
+                lastPostings.add(entry.getValue());
+            }
+        }
+        return countSeqs(firstPostings) <= countSeqs(lastPostings) ? firstPostings : lastPostings;
+    }
+
+    private static int countSeqs(ArrayList<PostingList> postings) {
+        return postings.stream().mapToInt(PostingList::size).sum();
+    }
+
+    private static HashSet<String> tokenize(String description) {
+        HashSet<String> tokens = new HashSet<>();
+        for (String token : description.split("\\s+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static long[] union(long[] seqs, PostingList postings) {
+        long[] merged = new long[seqs.length + postings.size()];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < seqs.length || j < postings.size()) {
+            long next;
+            if (j == postings.size() || i < seqs.length && seqs[i] <= postings.get(j)) {
+                next = seqs[i++];
+            } else {
+                next = postings.get(j++);
+            }
+            if (k == 0 || merged[k - 1] != next) {
+                merged[k++] = next;
+            }
+        }
+        return Arrays.copyOf(merged, k);
+    }
+}
@@ -0,0 +1,169 @@
+package poseidon.tasklist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+
+/**
+ * Represents an index from every run of three consecutive characters, or trigram, of the {@code Task} descriptions
+ * to the sequence numbers of the {@code Task}s holding it, kept in ascending order.
+ *
+ * <p>A description containing a content of three or more characters must hold every trigram of that content, so the
+ * candidates of a find are the intersection of the posting lists of those trigrams, whatever the content. The
+ * candidates are a superset of the matches, which the caller confirms.</p>
+ *
+ * <p>The approximate heap taken by the index is tracked as it grows. Once it goes over the given cap the index drops
+ * all of its postings and reports itself as overflowed, leaving finds to the caller.</p>
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+final class TrigramIndex {
+
+    /** Shortest content that the index can narrow down */
+    static final int TRIGRAM_LENGTH = 3;
+
+    // Approximate bytes taken by a HashMap entry, its table slot and its boxed key.
+    private static final long ENTRY_BYTES = 64;
+
+    private final HashMap<Long, PostingList> postingsByTrigram = new HashMap<>();
+    private final long maxBytes;
+    private long bytes;
+    private boolean isOverflowed;
+
+    /**
+     * Constructs a new, empty {@code TrigramIndex} that may take at most the given number of bytes of heap.
+     *
+     * @param maxBytes Cap on the approximate size of the index in bytes.
+     */
+    TrigramIndex(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Adds the {@code Task} with the given sequence number and description to the index. Sequence numbers must be
+     * added in ascending order.
+     *
+     * @param seq Sequence number of the {@code Task}.
+     * @param description Description of the {@code Task}.
+     */
+    void add(long seq, String description) {
+        if (isOverflowed) {
+            return;
+        }
+        for (long trigram : trigrams(description)) {
+            PostingList postings = postingsByTrigram.get(trigram);
+            if (postings == null) {
+                postings = new PostingList();
+                postingsByTrigram.put(trigram, postings);
+                bytes += ENTRY_BYTES + postings.estimateBytes();
+            }
+            long oldBytes = postings.estimateBytes();
+            postings.append(seq);
+            bytes += postings.estimateBytes() - oldBytes;
+        }
+        if (bytes > maxBytes) {
+            postingsByTrigram.clear();
+            bytes = 0;
+            isOverflowed = true;
+        }
+    }
+
+    /**
+     * Removes the {@code Task} with the given sequence number and description from the index.
+     *
+     * @param seq Sequence number of the {@code Task}.
+     * @param description Description of the {@code Task}.
+     */
+    void remove(long seq, String description) {
+        for (long trigram : trigrams(description)) {
+            PostingList postings = postingsByTrigram.get(trigram);
+            if (postings != null && postings.remove(seq) && postings.size() == 0) {
+                postingsByTrigram.remove(trigram);
+                bytes -= ENTRY_BYTES + postings.estimateBytes();
+            }
+        }
+    }
+
+    /**
+     * Returns the ascending sequence numbers of the {@code Task}s whose descriptions may contain the given content,
+     * or null if the content is too short to be narrowed down or the index has overflowed.
+     *
+     * @param content Content to be searched for.
+     * @return Ascending sequence numbers of the candidate {@code Task}s, or null.
+     */
+    long[] findCandidates(String content) {
+        if (isOverflowed || content.length() < TRIGRAM_LENGTH) {
+            return null;
+        }
+
+        ArrayList<PostingList> contentPostings = new ArrayList<>();
+        for (long trigram : trigrams(content)) {
+            PostingList postings = postingsByTrigram.get(trigram);
+            if (postings == null) {
+                return new long[0];
+            }
+            contentPostings.add(postings);
+        }
+        contentPostings.sort(Comparator.comparingInt(PostingList::size));
+
+        long[] candidates = contentPostings.get(0).toArray();
+        int candidateCount = candidates.length;
+        for (int i = 1; i < contentPostings.size() && candidateCount > 0; i++) {
+            int keptCount = 0;
+            for (int j = 0; j < candidateCount; j++) {
+                if (contentPostings.get(i).contains(candidates[j])) {
+                    candidates[keptCount++] = candidates[j];
+                }
+            }
+            candidateCount = keptCount;
+        }
+        return candidateCount == candidates.length ? candidates : Arrays.copyOf(candidates, candidateCount);
+    }
+
+    /**
+     * Returns the approximate number of bytes of heap taken by the index.
+     *
+     * @return Approximate size in bytes.
+     */
+    long estimateBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the cap on the approximate size of the index in bytes.
+     *
+     * @return Cap in bytes.
+     */
+    long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Returns the number of distinct trigrams in the index.
+     *
+     * @return Number of distinct trigrams.
+     */
+    int countTrigrams() {
+        return postingsByTrigram.size();
+    }
+
+    /**
+     * Returns true if the index went over its cap and no longer narrows down finds.
+     *
+     * @return {@code Boolean} - true if the index has overflowed.
+     */
+    boolean isOverflowed() {
+        return isOverflowed;
+    }
+
+    private static HashSet<Long> trigrams(String text) {
+        HashSet<Long> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= text.length(); i++) {
+            trigrams.add((long) text.charAt(i) << 32 | (long) text.charAt(i + 1) << 16 | text.charAt(i + 2));
+        }
+        return trigrams;
+    }
+}
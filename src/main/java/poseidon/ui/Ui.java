@@ -1,16 +1,25 @@
 package poseidon.ui;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 import poseidon.command.AddDeadline;
 import poseidon.command.AddEvent;
 import poseidon.command.AddTodo;
+import poseidon.command.At;
+import poseidon.command.Between;
 import poseidon.command.Bye;
 import poseidon.command.Delete;
 import poseidon.command.Done;
 import poseidon.command.Find;
 import poseidon.command.Help;
 import poseidon.command.List;
+import poseidon.command.ListDone;
+import poseidon.command.ListPending;
+import poseidon.command.ListPeriod;
+import poseidon.command.Next;
+import poseidon.command.Pipeline;
 import poseidon.command.Sort;
 import poseidon.task.Task;
 
@@ -43,6 +52,16 @@ public class Ui {
     private static final String LIST_TASKS_EMPTY_MSG = "There are no tasks in your list.";
     private static final String LIST_TASKS_FIND_INTRO_MSG = "Here are the matching tasks in your list:\n";
     private static final String LIST_TASKS_FIND_EMPTY_MSG = "There are no matching tasks in your list.";
+    private static final String LIST_EVENTS_INTRO_MSG = "Here are the events taking place then:\n";
+    private static final String LIST_EVENTS_EMPTY_MSG = "There are no events taking place then.";
+    private static final String LIST_PERIOD_INTRO_MSG = "Here are the tasks due or starting then:\n";
+    private static final String LIST_PERIOD_EMPTY_MSG = "There are no tasks due or starting then.";
+    private static final String LIST_STATUS_INTRO_MSG = "Here are the %s tasks in your list, %d in all:\n";
+    private static final String LIST_STATUS_EMPTY_MSG = "There are no %s tasks in your list.";
+    private static final String LIST_NEXT_INTRO_MSG = "Here are your upcoming tasks:\n";
+    private static final String LIST_NEXT_EMPTY_MSG = "There are no upcoming tasks.";
+    private static final String LIST_PIPELINE_INTRO_MSG = "Here are the tasks coming out of your pipeline:\n";
+    private static final String LIST_PIPELINE_EMPTY_MSG = "There are no tasks coming out of your pipeline.";
     private static final String COMMAND_FAIL_MSG = "I didn't get that. Please try again.";
     private static final String EXCEPTION_INTRO_MSG = "Oops... Something's wrong.\n";
     private static final String GOODBYE_MSG = "Bye. Hope to see you again soon!";
@@ -55,7 +74,14 @@ public class Ui {
             + "DELETE TASK - " + Delete.CMD_USER_FORMAT + "\n\n"
             + "LIST TASKS - " + List.CMD_USER_FORMAT + "\n\n"
             + "SORT TASKS - " + Sort.CMD_USER_FORMAT + "\n\n"
+            + "LIST DONE TASKS - " + ListDone.CMD_USER_FORMAT + "\n\n"
+            + "LIST PENDING TASKS - " + ListPending.CMD_USER_FORMAT + "\n\n"
+            + "LIST TASKS IN A PERIOD - " + ListPeriod.CMD_USER_FORMAT + "\n\n"
             + "FIND CONTENT - " + Find.CMD_USER_FORMAT + "\n\n"
+            + "EVENTS AT A TIME - " + At.CMD_USER_FORMAT + "\n\n"
+            + "EVENTS IN A PERIOD - " + Between.CMD_USER_FORMAT + "\n\n"
+            + "UPCOMING TASKS - " + Next.CMD_USER_FORMAT + "\n\n"
+            + "PIPELINE OF LISTS - " + Pipeline.CMD_USER_FORMAT + "\n\n"
             + "EXIT - " + Bye.CMD_USER_FORMAT;
 
     /**
@@ -80,12 +106,13 @@ public class Ui {
      * @param tasks List of {@code Task}s to be converted to {@code String}.
      * @return {@code String} list representation.
      */
-    public String getListMessage(ArrayList<Task> tasks) {
+    public String getListMessage(Collection<Task> tasks) {
         StringBuilder message = new StringBuilder();
         if (tasks.size() > 0) {
             message.append(LIST_TASKS_INTRO_MSG);
-            for (int i = 0; i < tasks.size(); i++) {
-                message.append("  " + (i + 1) + ". " + tasks.get(i) + "\n");
+            int taskNumber = 1;
+            for (Task task : tasks) {
+                message.append("  " + task.toNumberedString(taskNumber++) + "\n");
             }
         } else {
             message.append(LIST_TASKS_EMPTY_MSG);
@@ -99,12 +126,12 @@ public class Ui {
      * @param tasks List of {@code Task}s to be converted to {@code String}.
      * @return {@code String} list representation with added "find" message.
      */
-    public String showFindList(ArrayList<Task> tasks) {
+    public String showFindList(java.util.List<Task> tasks) {
         StringBuilder message = new StringBuilder();
         if (tasks.size() > 0) {
             message.append(LIST_TASKS_FIND_INTRO_MSG);
             for (int i = 0; i < tasks.size(); i++) {
-                message.append("  " + (i + 1) + ". " + tasks.get(i) + "\n");
+                message.append("  " + tasks.get(i).toNumberedString(i + 1) + "\n");
             }
         } else {
             message.append(LIST_TASKS_FIND_EMPTY_MSG);
@@ -112,6 +139,99 @@ public class Ui {
         return message.toString();
     }
 
+    /**
+     * Returns a human-readable {@code String} representation of a list of {@code Event}s taking place at a given time
+     * or within a given period.
+     *
+     * @param tasks List of {@code Event}s to be converted to {@code String}.
+     * @return {@code String} list representation with added "events" message.
+     */
+    public String showEventList(java.util.List<Task> tasks) {
+        StringBuilder message = new StringBuilder();
+        if (tasks.size() > 0) {
+            message.append(LIST_EVENTS_INTRO_MSG);
+            for (int i = 0; i < tasks.size(); i++) {
+                message.append("  " + tasks.get(i).toNumberedString(i + 1) + "\n");
+            }
+        } else {
+            message.append(LIST_EVENTS_EMPTY_MSG);
+        }
+        return message.toString();
+    }
+
+    /**
+     * Returns a human-readable {@code String} representation of a list of the done or the pending {@code Task}s,
+     * headed by their number.
+     *
+     * @param tasks {@code Task}s to be converted to {@code String}.
+     * @param isDone Done status of the {@code Task}s.
+     * @return {@code String} list representation with added "status" message.
+     */
+    public String showStatusList(Collection<Task> tasks, boolean isDone) {
+        String status = isDone ? "done" : "pending";
+        if (tasks.size() == 0) {
+            return String.format(LIST_STATUS_EMPTY_MSG, status);
+        }
+        StringBuilder message = new StringBuilder(String.format(LIST_STATUS_INTRO_MSG, status, tasks.size()));
+        int taskNumber = 1;
+        for (Task task : tasks) {
+            message.append("  " + task.toNumberedString(taskNumber++) + "\n");
+        }
+        return message.toString();
+    }
+
+    /**
+     * Returns a human-readable {@code String} representation of a list of upcoming {@code Task}s.
+     *
+     * @param tasks List of {@code Task}s to be converted to {@code String}.
+     * @return {@code String} list representation with added "upcoming" message.
+     */
+    public String showNextList(java.util.List<Task> tasks) {
+        StringBuilder message = new StringBuilder();
+        if (tasks.size() > 0) {
+            message.append(LIST_NEXT_INTRO_MSG);
+            for (int i = 0; i < tasks.size(); i++) {
+                message.append("  " + tasks.get(i).toNumberedString(i + 1) + "\n");
+            }
+        } else {
+            message.append(LIST_NEXT_EMPTY_MSG);
+        }
+        return message.toString();
+    }
+
+    /**
+     * Returns a human-readable {@code String} representation of a list of {@code Task}s due or starting within a given
+     * period. The {@code Task}s are walked once, as a view of a period may not know its size up front.
+     *
+     * @param tasks {@code Task}s to be converted to {@code String}.
+     * @return {@code String} list representation with added "period" message.
+     */
+    public String showPeriodList(Collection<Task> tasks) {
+        StringBuilder message = new StringBuilder(LIST_PERIOD_INTRO_MSG);
+        int taskNumber = 1;
+        for (Task task : tasks) {
+            message.append("  " + task.toNumberedString(taskNumber++) + "\n");
+        }
+        return taskNumber > 1 ? message.toString() : LIST_PERIOD_EMPTY_MSG;
+    }
+
+    /**
+     * Returns a human-readable {@code String} representation of the {@code Task}s coming out of a pipeline of lists.
+     * The {@code Stream} is consumed here, so none of its stages runs before the {@code Task}s are rendered.
+     *
+     * @param tasks {@code Stream} of {@code Task}s to be converted to {@code String}.
+     * @return {@code String} representation.
+     */
+    public String showPipelineList(Stream<Task> tasks) {
+        StringBuilder message = new StringBuilder(LIST_PIPELINE_INTRO_MSG);
+        int taskNumber = 1;
+        Iterator<Task> taskIterator = tasks.iterator();
+        while (taskIterator.hasNext()) {
+            message.append("  " + taskIterator.next().toNumberedString(taskNumber++) + "\n");
+        }
+        return taskNumber > 1 ? message.toString() : LIST_PIPELINE_EMPTY_MSG;
+    }
+
     /**
      * Returns a human-readable {@code String} that conveys that an unknown/non-existent command has been encountered.
      *
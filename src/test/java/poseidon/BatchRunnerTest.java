@@ -0,0 +1,100 @@
+package poseidon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.storage.StorageFactory;
+import poseidon.storage.WriteBehindStorage;
+
+/**
+ * Represents a testing class for {@code BatchRunner}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class BatchRunnerTest {
+
+    private String oldStorageEngine;
+
+    @BeforeEach
+    public void setUp() {
+        oldStorageEngine = System.getProperty(Poseidon.STORAGE_PROPERTY);
+        System.setProperty(Poseidon.STORAGE_PROPERTY, StorageFactory.ENGINE_MEMORY);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (oldStorageEngine == null) {
+            System.clearProperty(Poseidon.STORAGE_PROPERTY);
+        } else {
+            System.setProperty(Poseidon.STORAGE_PROPERTY, oldStorageEngine);
+        }
+    }
+
+    @Test
+    public void run_script_responsesInOrderUntilBye() throws IOException, PoseidonStorageReadWriteException {
+        String script = "todo read book\n\ntodo return book\ndone 1\nfind book\nbye\ntodo never run\n";
+        StringWriter responses = new StringWriter();
+
+        int commandCount = new BatchRunner(new Poseidon(WriteBehindStorage.DURABILITY_ON_EXIT),
+                BatchRunner.COMMIT_AT_END).run(new BufferedReader(new StringReader(script)), responses);
+
+        assertEquals(5, commandCount);
+        String output = responses.toString();
+        assertTrue(output.indexOf("Got it. I've added this task:") < output.indexOf("Nice! I've marked this task"));
+        assertTrue(output.contains("Now you have 2 tasks in the list."));
+        assertTrue(output.contains("[T][X] read book"));
+        assertFalse(output.contains("never run"));
+    }
+
+    @Test
+    public void constructor_unknownFindIndex_messageOnlyOnDiagnostics() {
+        System.setProperty(Poseidon.FIND_PROPERTY, "bogus");
+        PrintStream oldOut = System.out;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+        try {
+            System.setOut(new PrintStream(out, true));
+            new Poseidon(WriteBehindStorage.DURABILITY_ON_EXIT, new PrintStream(diagnostics, true));
+        } finally {
+            System.setOut(oldOut);
+            System.clearProperty(Poseidon.FIND_PROPERTY);
+        }
+
+        assertEquals(0, out.size());
+        assertTrue(diagnostics.toString().startsWith("Unknown find index 'bogus', using token."));
+    }
+
+    @Test
+    public void run_commitEveryTwoCommands_sameResponsesAsSingleCommit() throws IOException,
+            PoseidonStorageReadWriteException {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 25; i++) {
+            script.append("todo task ").append(i).append('\n');
+        }
+        script.append("delete 3\ndone 4\nlist\n");
+
+        StringWriter singleCommitResponses = new StringWriter();
+        new BatchRunner(new Poseidon(WriteBehindStorage.DURABILITY_ON_EXIT), BatchRunner.COMMIT_AT_END)
+                .run(new BufferedReader(new StringReader(script.toString())), singleCommitResponses);
+        StringWriter intervalCommitResponses = new StringWriter();
+        int commandCount = new BatchRunner(new Poseidon(WriteBehindStorage.DURABILITY_ON_EXIT), 2)
+                .run(new BufferedReader(new StringReader(script.toString())), intervalCommitResponses);
+
+        assertEquals(28, commandCount);
+        assertEquals(singleCommitResponses.toString(), intervalCommitResponses.toString());
+    }
+}
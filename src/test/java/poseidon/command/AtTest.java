@@ -0,0 +1,123 @@
+package poseidon.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import poseidon.exception.PoseidonDateTimeParseException;
+import poseidon.exception.PoseidonException;
+import poseidon.exception.PoseidonIncorrectCommandFormatException;
+import poseidon.stub.StorageStub;
+import poseidon.tasklist.TaskList;
+import poseidon.ui.Ui;
+
+/**
+ * Represents a testing class for {@code At}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class AtTest {
+
+    private static final String CMD_AT_1 = "at";
+    private static final String CMD_AT_2 = "at 2021 09 30";
+
+    private static final String CMD_VALID_AT_1 = "at 2021 09 30 2100";
+    private static final String CMD_VALID_AT_2 = "AT   2021 09 30 2130  ";
+
+    private static final String CMD_NON_AT_1 = "todo finish work";
+    private static final String CMD_NON_AT_2 = "event finish work /from 2021 09 30 2000 to 2021 09 30 2200";
+    private static final String CMD_NON_AT_3 = "attend class";
+    private static final String CMD_NON_AT_4 = "between 2021 09 30 2000 and 2021 09 30 2200";
+    private static final String CMD_NON_AT_5 = "gibberish";
+
+    private static StorageStub storageStub;
+    private static Ui ui;
+    private static TaskList taskList;
+
+    @BeforeAll
+    public static void setUp() {
+        try {
+            storageStub = new StorageStub();
+            storageStub.clear();
+
+            String atTestStorageStub = "T\tfalse\tfinish work\n"
+                    + "E\tfalse\tfinish dinner\t2021-09-30T20:00\t2021-09-30T22:00\n"
+                    + "D\ttrue\tcomplete work\t2021-09-30T21:00\n"
+                    + "E\ttrue\tcatch up\t2021-09-30T18:00\t2021-09-30T21:00";
+            storageStub.storeAdd(atTestStorageStub);
+            taskList = new TaskList(storageStub.load());
+            ui = new Ui();
+        } catch (PoseidonException ex) {
+            System.out.println(ex.getMessage());
+        }
+    }
+
+    @AfterAll
+    public static void closeUp() {
+        try {
+            storageStub.clear();
+            storageStub = null;
+            taskList = null;
+            ui = null;
+        } catch (PoseidonException ex) {
+            System.out.println(ex.getMessage());
+        }
+    }
+
+    @Test
+    public void isThisCmd_atCommands_true() {
+        assertTrue(At.isThisCmd(CMD_AT_1));
+        assertTrue(At.isThisCmd(CMD_AT_2));
+
+        assertTrue(At.isThisCmd(CMD_VALID_AT_1));
+        assertTrue(At.isThisCmd(CMD_VALID_AT_2));
+    }
+
+    @Test
+    public void isThisCmd_nonAtCommands_false() {
+        assertFalse(At.isThisCmd(CMD_NON_AT_1));
+        assertFalse(At.isThisCmd(CMD_NON_AT_2));
+        assertFalse(At.isThisCmd(CMD_NON_AT_3));
+        assertFalse(At.isThisCmd(CMD_NON_AT_4));
+        assertFalse(At.isThisCmd(CMD_NON_AT_5));
+    }
+
+    @Test
+    public void execute_validAtCommand_correctResponse() throws PoseidonException {
+        String expectedResponse1 = "Here are the events taking place then:\\n"
+                + "  1\\. #\\d+ \\[E]\\[X] catch up \\(from: .+ to .+\\)\\n"
+                + "  2\\. #\\d+ \\[E]\\[ ] finish dinner \\(from: .+ to .+\\)\\n";
+        String expectedResponse2 = "Here are the events taking place then:\\n"
+                + "  1\\. #\\d+ \\[E]\\[ ] finish dinner \\(from: .+ to .+\\)\\n";
+
+        String response1 = new At(CMD_VALID_AT_1).execute(storageStub, taskList, ui);
+        String response2 = new At(CMD_VALID_AT_2).execute(storageStub, taskList, ui);
+        String response3 = new At("at 2021 10 01 0000").execute(storageStub, taskList, ui);
+
+        assertTrue(Pattern.compile(expectedResponse1).matcher(response1).matches());
+        assertTrue(Pattern.compile(expectedResponse2).matcher(response2).matches());
+        assertEquals("There are no events taking place then.", response3);
+    }
+
+    @Test
+    public void execute_invalidCommandFormat_correctExceptionMsg() {
+        String expectedExceptionMsg = "There appears to be a typo in your AT command.\n"
+                + "The command should be of the form:\n"
+                + "  at 'yyyy mm dd hhmm'\n"
+                + "Please try again.";
+
+        PoseidonIncorrectCommandFormatException ex = assertThrows(PoseidonIncorrectCommandFormatException.class, () ->
+                new At(CMD_AT_2).execute(storageStub, taskList, ui));
+        assertEquals(expectedExceptionMsg, ex.getMessage());
+        assertThrows(PoseidonDateTimeParseException.class, () ->
+                new At("at 2021 13 30 2100").execute(storageStub, taskList, ui));
+    }
+}
@@ -0,0 +1,120 @@
+package poseidon.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import poseidon.exception.PoseidonException;
+import poseidon.exception.PoseidonIncorrectCommandFormatException;
+import poseidon.stub.StorageStub;
+import poseidon.tasklist.TaskList;
+import poseidon.ui.Ui;
+
+/**
+ * Represents a testing class for {@code Between}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class BetweenTest {
+
+    private static final String CMD_BETWEEN_1 = "between";
+    private static final String CMD_BETWEEN_2 = "between 2021 09 30 2000 to 2021 09 30 2200";
+
+    private static final String CMD_VALID_BETWEEN_1 = "between 2021 09 30 1700 and 2021 09 30 1900";
+    private static final String CMD_VALID_BETWEEN_2 = "BETWEEN 2021 09 30 2100 and 2021 10 01 0000 ";
+
+    private static final String CMD_NON_BETWEEN_1 = "todo finish work";
+    private static final String CMD_NON_BETWEEN_2 = "at 2021 09 30 2100";
+    private static final String CMD_NON_BETWEEN_3 = "betweenness";
+    private static final String CMD_NON_BETWEEN_4 = "gibberish";
+
+    private static StorageStub storageStub;
+    private static Ui ui;
+    private static TaskList taskList;
+
+    @BeforeAll
+    public static void setUp() {
+        try {
+            storageStub = new StorageStub();
+            storageStub.clear();
+
+            String betweenTestStorageStub = "T\tfalse\tfinish work\n"
+                    + "E\tfalse\tfinish dinner\t2021-09-30T20:00\t2021-09-30T22:00\n"
+                    + "D\ttrue\tcomplete work\t2021-09-30T21:00\n"
+                    + "E\ttrue\tcatch up\t2021-09-30T18:00\t2021-09-30T21:00";
+            storageStub.storeAdd(betweenTestStorageStub);
+            taskList = new TaskList(storageStub.load());
+            ui = new Ui();
+        } catch (PoseidonException ex) {
+            System.out.println(ex.getMessage());
+        }
+    }
+
+    @AfterAll
+    public static void closeUp() {
+        try {
+            storageStub.clear();
+            storageStub = null;
+            taskList = null;
+            ui = null;
+        } catch (PoseidonException ex) {
+            System.out.println(ex.getMessage());
+        }
+    }
+
+    @Test
+    public void isThisCmd_betweenCommands_true() {
+        assertTrue(Between.isThisCmd(CMD_BETWEEN_1));
+        assertTrue(Between.isThisCmd(CMD_BETWEEN_2));
+
+        assertTrue(Between.isThisCmd(CMD_VALID_BETWEEN_1));
+        assertTrue(Between.isThisCmd(CMD_VALID_BETWEEN_2));
+    }
+
+    @Test
+    public void isThisCmd_nonBetweenCommands_false() {
+        assertFalse(Between.isThisCmd(CMD_NON_BETWEEN_1));
+        assertFalse(Between.isThisCmd(CMD_NON_BETWEEN_2));
+        assertFalse(Between.isThisCmd(CMD_NON_BETWEEN_3));
+        assertFalse(Between.isThisCmd(CMD_NON_BETWEEN_4));
+    }
+
+    @Test
+    public void execute_validBetweenCommand_correctResponse() throws PoseidonException {
+        String expectedResponse1 = "Here are the events taking place then:\\n"
+                + "  1\\. #\\d+ \\[E]\\[X] catch up \\(from: .+ to .+\\)\\n";
+        String expectedResponse2 = "Here are the events taking place then:\\n"
+                + "  1\\. #\\d+ \\[E]\\[X] catch up \\(from: .+ to .+\\)\\n"
+                + "  2\\. #\\d+ \\[E]\\[ ] finish dinner \\(from: .+ to .+\\)\\n";
+
+        String response1 = new Between(CMD_VALID_BETWEEN_1).execute(storageStub, taskList, ui);
+        String response2 = new Between(CMD_VALID_BETWEEN_2).execute(storageStub, taskList, ui);
+
+        assertTrue(Pattern.compile(expectedResponse1).matcher(response1).matches());
+        assertTrue(Pattern.compile(expectedResponse2).matcher(response2).matches());
+    }
+
+    @Test
+    public void execute_invalidCommandFormat_correctExceptionMsg() {
+        String expectedExceptionMsg = "There appears to be a typo in your BETWEEN command.\n"
+                + "The command should be of the form:\n"
+                + "  between 'yyyy mm dd hhmm' and 'yyyy mm dd hhmm'\n"
+                + "Please try again.";
+
+        PoseidonIncorrectCommandFormatException ex = assertThrows(PoseidonIncorrectCommandFormatException.class, () ->
+                new Between(CMD_BETWEEN_2).execute(storageStub, taskList, ui));
+        assertEquals(expectedExceptionMsg, ex.getMessage());
+
+        ex = assertThrows(PoseidonIncorrectCommandFormatException.class, () ->
+                new Between("between 2021 10 01 0000 and 2021 09 30 0000").execute(storageStub, taskList, ui));
+        assertTrue(ex.getMessage().contains("The start of the period is after its end."));
+    }
+}
@@ -5,6 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.AfterAll;
@@ -13,7 +17,11 @@ import org.junit.jupiter.api.Test;
 
 import poseidon.exception.PoseidonException;
 import poseidon.exception.PoseidonIncorrectCommandFormatException;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.storage.Storage;
+import poseidon.storage.StorageMutation;
 import poseidon.stub.StorageStub;
+import poseidon.tasklist.ColumnarTaskList;
 import poseidon.tasklist.TaskList;
 import poseidon.ui.Ui;
 
@@ -130,7 +138,7 @@ public class DeleteTest {
     @Test
     public void execute_validDeleteCommand_correctResponse() {
         String expectedResponse = "Noted\\. I've removed this task:\\n"
-                + "  \\d+\\. \\[(T|D|E)]\\[(\\s|X)] .+\\n"
+                + "  \\d+\\. #\\d+ \\[(T|D|E)]\\[(\\s|X)] .+\\n"
                 + "(Now you have \\d+ tasks in the list\\.|There are no tasks in your list\\.)";
 
         Delete delete1 = new Delete(CMD_VALID_DELETE_1);
@@ -182,7 +190,7 @@ public class DeleteTest {
     public void execute_invalidCommandFormat_correctExceptionMsg() throws PoseidonException {
         String expectedExceptionMsg = "There appears to be a typo in your DELETE command.\n"
                 + "The command should be of the form:\n"
-                + "  delete 'index'\n"
+                + "  delete 'index' or delete #'id', many at once as in delete 3,#7,9-20 or delete /find 'content'\n"
                 + "Please try again.";
 
         Delete invalidDelete1 = new Delete(CMD_DELETE_1);
@@ -218,5 +226,95 @@ public class DeleteTest {
             assertEquals(expectedExceptionMsg, ex.getMessage());
         }
     }
-}
 
+    @Test
+    public void execute_manyTargetsDeleteCommand_allDeletedInOneWrite() throws PoseidonException {
+        CountingStorageStub storage = new CountingStorageStub(20);
+        TaskList tasks = new TaskList(storage.load());
+
+        String response = new Delete("delete 3,7,9-20").execute(storage, tasks, ui);
+        assertTrue(response.startsWith("Noted. I've removed these 14 tasks:\n"
+                + "  3. #3 [T][ ] task 3\n"
+                + "  7. #7 [T][ ] task 7\n"
+                + "  9. #9 [T][ ] task 9\n"), response);
+        assertTrue(response.endsWith("  20. #20 [T][ ] team meeting 20\n"
+                + "Now you have 6 tasks in the list."), response);
+        assertEquals(1, storage.writeCount);
+        assertStorageMatches(storage, tasks);
+
+        assertEquals("Noted. I've removed these 4 tasks:\n"
+                + "  2. #2 [T][ ] team meeting 2\n"
+                + "  3. #4 [T][ ] team meeting 4\n"
+                + "  5. #6 [T][ ] team meeting 6\n"
+                + "  6. #8 [T][ ] team meeting 8\n"
+                + "Now you have 2 tasks in the list.", new Delete("delete /find meeting").execute(storage, tasks, ui));
+        assertEquals(2, storage.writeCount);
+        assertStorageMatches(storage, tasks);
+        assertEquals("[T][ ] task 5", tasks.getList().get(1).toString());
+    }
+
+    @Test
+    public void execute_findTargetsOfUntaggedLazyList_matchingTasksDeleted() throws PoseidonException, IOException {
+        Path taskDataPath = Files.createTempDirectory("poseidon").resolve("taskData.txt");
+        Storage storage = new Storage(taskDataPath);
+        storage.storeAdd("T\tfalse\tother\nT\tfalse\treport a\nT\tfalse\treport b\n");
+
+        for (TaskList tasks : new TaskList[] {new TaskList(storage.loadPaged(1)),
+            new TaskList(new ColumnarTaskList(storage.load()))}) {
+            assertEquals("Noted. I've removed these 2 tasks:\n"
+                    + "  2. [T][ ] report a\n"
+                    + "  3. [T][ ] report b\n"
+                    + "Now you have 1 tasks in the list.",
+                    new Delete("delete /find report").execute(storage, tasks, ui));
+            assertEquals(1, tasks.getList().size());
+            assertEquals("[T][ ] other", tasks.getList().get(0).toString());
+            assertEquals("T\tfalse\tother\n", storage.load().get(0).toStorage());
+
+            storage.storeAdd("T\tfalse\treport a\nT\tfalse\treport b\n");
+        }
+    }
+
+    @Test
+    public void execute_oneNonExistentTarget_nothingDeleted() throws PoseidonException {
+        CountingStorageStub storage = new CountingStorageStub(6);
+        TaskList tasks = new TaskList(storage.load());
+
+        try {
+            new Delete("delete 1,#3,#7").execute(storage, tasks, ui);
+            fail();
+        } catch (PoseidonException ex) {
+            assertEquals("That task doesn't exist.\nPlease Try again.", ex.getMessage());
+        }
+        assertEquals(0, storage.writeCount);
+        assertEquals(6, tasks.getList().size());
+    }
+
+    // Asserts that the storage holds exactly the Tasks of the given TaskList.
+    private static void assertStorageMatches(StorageStub storage, TaskList tasks)
+            throws PoseidonStorageReadWriteException {
+        TaskList storedTasks = new TaskList(storage.load());
+        assertEquals(tasks.getList().size(), storedTasks.getList().size());
+        for (int i = 1; i <= tasks.getList().size(); i++) {
+            assertEquals(tasks.getTaskStorage(i), storedTasks.getTaskStorage(i));
+        }
+    }
+
+    // Storage stub holding the given number of Todos with their IDs, every even one a meeting, counting batch writes.
+    private static class CountingStorageStub extends StorageStub {
+
+        private int writeCount;
+
+        private CountingStorageStub(int taskCount) {
+            for (int i = 1; i <= taskCount; i++) {
+                storeAdd("T\tfalse\t" + (i % 2 == 0 ? "team meeting " : "task ") + i + "\t@" + i + "\n");
+            }
+        }
+
+        @Override
+        public synchronized void storeBatch(List<StorageMutation> mutations)
+                throws PoseidonStorageReadWriteException {
+            writeCount++;
+            super.storeBatch(mutations);
+        }
+    }
+}
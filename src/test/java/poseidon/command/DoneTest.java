@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.List;
 import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.AfterAll;
@@ -13,6 +14,8 @@ import org.junit.jupiter.api.Test;
 
 import poseidon.exception.PoseidonException;
 import poseidon.exception.PoseidonIncorrectCommandFormatException;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.storage.StorageMutation;
 import poseidon.stub.StorageStub;
 import poseidon.tasklist.TaskList;
 import poseidon.ui.Ui;
@@ -34,8 +37,11 @@ public class DoneTest {
     private static final String CMD_VALID_DONE_1 = "done 2";
     private static final String CMD_VALID_DONE_2 = "done     2     ";
 
+    private static final String CMD_ID_DONE = "done #1";
+
     private static final String CMD_NON_EXISTENT_DONE_1 = "done 4";
     private static final String CMD_NON_EXISTENT_DONE_2 = "done     5     ";
+    private static final String CMD_NON_EXISTENT_DONE_3 = "done #9";
 
     private static final String CMD_NON_DONE_1 = "todo finish work";
     private static final String CMD_NON_DONE_2 = "deadline finish work /by 2021 09 30 2359";
@@ -130,7 +136,7 @@ public class DoneTest {
     @Test
     public void execute_validDoneCommand_correctResponse() {
         String expectedResponse = "Nice! I've marked this task as done:\\n"
-                + "  \\d+\\. \\[(T|D|E)]\\[X] .+";
+                + "  \\d+\\. #\\d+ \\[(T|D|E)]\\[X] .+";
 
         Done done1 = new Done(CMD_VALID_DONE_1);
         Done done2 = new Done(CMD_VALID_DONE_2);
@@ -154,6 +160,15 @@ public class DoneTest {
         assertTrue(Pattern.compile(expectedResponse).matcher(response2).matches());
     }
 
+    @Test
+    public void execute_idDoneCommand_correctResponse() throws PoseidonException {
+        String expectedResponse = "Nice! I've marked this task as done:\n"
+                + "  1. #1 [T][X] finish work";
+
+        assertTrue(Done.isThisCmd(CMD_ID_DONE));
+        assertEquals(expectedResponse, new Done(CMD_ID_DONE).execute(storageStub, taskList, ui));
+    }
+
     @Test
     public void execute_nonExistentTaskDoneCommand_correctExceptionMsg() {
         String expectedExceptionMsg = "That task doesn't exist.\n"
@@ -175,13 +190,20 @@ public class DoneTest {
         } catch (PoseidonException ex) {
             assertEquals(expectedExceptionMsg, ex.getMessage());
         }
+
+        try {
+            String response3 = new Done(CMD_NON_EXISTENT_DONE_3).execute(storageStub, taskList, ui);
+            fail();
+        } catch (PoseidonException ex) {
+            assertEquals(expectedExceptionMsg, ex.getMessage());
+        }
     }
 
     @Test
     public void execute_invalidCommandFormat_correctExceptionMsg() throws PoseidonException {
         String expectedExceptionMsg = "There appears to be a typo in your DONE command.\n"
                 + "The command should be of the form:\n"
-                + "  done 'index'\n"
+                + "  done 'index' or done #'id', many at once as in done 3,#7,9-20 or done /find 'content'\n"
                 + "Please try again.";
 
         Done invalidDone1 = new Done(CMD_DONE_1);
@@ -217,5 +239,70 @@ public class DoneTest {
             assertEquals(expectedExceptionMsg, ex.getMessage());
         }
     }
-}
 
+    @Test
+    public void execute_manyTargetsDoneCommand_allMarkedInOneWrite() throws PoseidonException {
+        CountingStorageStub storage = new CountingStorageStub(6);
+        TaskList tasks = new TaskList(storage.load());
+        String expectedResponse = "Nice! I've marked these 4 tasks as done:\n"
+                + "  1. #1 [T][X] task 1\n"
+                + "  2. #2 [T][X] team meeting 2\n"
+                + "  5. #5 [T][X] task 5\n"
+                + "  6. #6 [T][X] team meeting 6";
+
+        assertEquals(expectedResponse, new Done("done 1-2, 5,#6, 2").execute(storage, tasks, ui));
+        assertEquals(1, storage.writeCount);
+        assertStorageMatches(storage, tasks);
+
+        assertEquals("Nice! I've marked these 3 tasks as done:\n"
+                + "  2. #2 [T][X] team meeting 2\n"
+                + "  4. #4 [T][X] team meeting 4\n"
+                + "  6. #6 [T][X] team meeting 6", new Done("done /find meeting").execute(storage, tasks, ui));
+        assertEquals(2, storage.writeCount);
+        assertStorageMatches(storage, tasks);
+    }
+
+    @Test
+    public void execute_oneNonExistentTarget_nothingMarked() throws PoseidonException {
+        CountingStorageStub storage = new CountingStorageStub(6);
+        TaskList tasks = new TaskList(storage.load());
+
+        try {
+            new Done("done 1,3-7").execute(storage, tasks, ui);
+            fail();
+        } catch (PoseidonException ex) {
+            assertEquals("That task doesn't exist.\nPlease Try again.", ex.getMessage());
+        }
+        assertEquals(0, storage.writeCount);
+        assertEquals(0, tasks.countTasksByStatus(true));
+    }
+
+    // Asserts that the storage holds exactly the Tasks of the given TaskList.
+    private static void assertStorageMatches(StorageStub storage, TaskList tasks)
+            throws PoseidonStorageReadWriteException {
+        TaskList storedTasks = new TaskList(storage.load());
+        assertEquals(tasks.getList().size(), storedTasks.getList().size());
+        for (int i = 1; i <= tasks.getList().size(); i++) {
+            assertEquals(tasks.getTaskStorage(i), storedTasks.getTaskStorage(i));
+        }
+    }
+
+    // Storage stub holding the given number of Todos with their IDs, every even one a meeting, counting batch writes.
+    private static class CountingStorageStub extends StorageStub {
+
+        private int writeCount;
+
+        private CountingStorageStub(int taskCount) {
+            for (int i = 1; i <= taskCount; i++) {
+                storeAdd("T\tfalse\t" + (i % 2 == 0 ? "team meeting " : "task ") + i + "\t@" + i + "\n");
+            }
+        }
+
+        @Override
+        public synchronized void storeBatch(List<StorageMutation> mutations)
+                throws PoseidonStorageReadWriteException {
+            writeCount++;
+            super.storeBatch(mutations);
+        }
+    }
+}
@@ -119,12 +119,12 @@ public class FindTest {
     @Test
     public void execute_validFindCommand_correctResponse() throws PoseidonException {
         String expectedResponse1 = "Here are the matching tasks in your list:\\n"
-                + "  1\\. \\[T]\\[ ] finish work\\n"
-                + "  2\\. \\[D]\\[X] complete work \\(by: .+\\)\\n";
+                + "  1\\. #\\d+ \\[T]\\[ ] finish work\\n"
+                + "  2\\. #\\d+ \\[D]\\[X] complete work \\(by: .+\\)\\n";
 
         String expectedResponse2 = "Here are the matching tasks in your list:\\n"
-                + "  1\\. \\[E]\\[ ] finish dinner \\(from: .+ to .+\\)\\n"
-                + "  2\\. \\[T]\\[X] complete dinner\\n";
+                + "  1\\. #\\d+ \\[E]\\[ ] finish dinner \\(from: .+ to .+\\)\\n"
+                + "  2\\. #\\d+ \\[T]\\[X] complete dinner\\n";
 
         Find validFind1 = new Find(CMD_VALID_FIND_1);
         Find validFind2 = new Find(CMD_VALID_FIND_2);
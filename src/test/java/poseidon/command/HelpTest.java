@@ -105,7 +105,14 @@ public class HelpTest {
                 + "DELETE TASK - " + Delete.CMD_USER_FORMAT + "\n\n"
                 + "LIST TASKS - " + List.CMD_USER_FORMAT + "\n\n"
                 + "SORT TASKS - " + Sort.CMD_USER_FORMAT + "\n\n"
+                + "LIST DONE TASKS - " + ListDone.CMD_USER_FORMAT + "\n\n"
+                + "LIST PENDING TASKS - " + ListPending.CMD_USER_FORMAT + "\n\n"
+                + "LIST TASKS IN A PERIOD - " + ListPeriod.CMD_USER_FORMAT + "\n\n"
                 + "FIND CONTENT - " + Find.CMD_USER_FORMAT + "\n\n"
+                + "EVENTS AT A TIME - " + At.CMD_USER_FORMAT + "\n\n"
+                + "EVENTS IN A PERIOD - " + Between.CMD_USER_FORMAT + "\n\n"
+                + "UPCOMING TASKS - " + Next.CMD_USER_FORMAT + "\n\n"
+                + "PIPELINE OF LISTS - " + Pipeline.CMD_USER_FORMAT + "\n\n"
                 + "EXIT - " + Bye.CMD_USER_FORMAT;
 
         Help help1 = new Help(CMD_HELP_1);
@@ -0,0 +1,85 @@
+package poseidon.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import poseidon.exception.PoseidonException;
+import poseidon.stub.StorageStub;
+import poseidon.tasklist.TaskList;
+import poseidon.ui.Ui;
+
+/**
+ * Represents a testing class for {@code ListPending}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class ListPendingTest {
+
+    private static final String CMD_LIST_PENDING_1 = "list -p";
+    private static final String CMD_LIST_PENDING_2 = "LIST      -p      ";
+
+    private static final String CMD_NON_LIST_PENDING_1 = "list";
+    private static final String CMD_NON_LIST_PENDING_2 = "list -s";
+    private static final String CMD_NON_LIST_PENDING_3 = "list -d";
+    private static final String CMD_NON_LIST_PENDING_4 = "gibberish";
+
+    private StorageStub storageStub;
+    private Ui ui;
+    private TaskList taskList;
+
+    @BeforeEach
+    public void setUp() throws PoseidonException {
+        storageStub = new StorageStub();
+        storageStub.clear();
+
+        String listPendingTestStorageStub = "T\tfalse\tfinish work\n"
+                + "D\ttrue\tcomplete work\t2021-09-30T23:59\n"
+                + "E\tfalse\tfinish dinner\t2021-09-30T20:00\t2021-09-30T22:00\n"
+                + "T\ttrue\tcomplete dinner";
+        storageStub.storeAdd(listPendingTestStorageStub);
+        taskList = new TaskList(storageStub.load());
+        ui = new Ui();
+    }
+
+    @Test
+    public void isThisCmd_listPendingCommands_true() {
+        assertTrue(ListPending.isThisCmd(CMD_LIST_PENDING_1));
+        assertTrue(ListPending.isThisCmd(CMD_LIST_PENDING_2));
+    }
+
+    @Test
+    public void isThisCmd_nonListWCommands_false() {
+        assertFalse(ListPending.isThisCmd(CMD_NON_LIST_PENDING_1));
+        assertFalse(ListPending.isThisCmd(CMD_NON_LIST_PENDING_2));
+        assertFalse(ListPending.isThisCmd(CMD_NON_LIST_PENDING_3));
+        assertFalse(ListPending.isThisCmd(CMD_NON_LIST_PENDING_4));
+    }
+
+    @Test
+    public void execute_afterDoneAndDelete_correctResponse() throws PoseidonException {
+        String expectedResponse1 = "Here are the pending tasks in your list, 2 in all:\\n"
+                + "  1\\. #1 \\[T]\\[ ] finish work\\n"
+                + "  2\\. #3 \\[E]\\[ ] finish dinner \\(from: .+ to .+\\)\\n";
+        String expectedResponse2 = "Here are the pending tasks in your list, 1 in all:\\n"
+                + "  1\\. #1 \\[T]\\[ ] finish work\\n";
+
+        String response1 = new ListPending(CMD_LIST_PENDING_1).execute(storageStub, taskList, ui);
+        new Done("done 3").execute(storageStub, taskList, ui);
+        String response2 = new ListPending(CMD_LIST_PENDING_2).execute(storageStub, taskList, ui);
+        new Delete("delete 1").execute(storageStub, taskList, ui);
+        new Delete("delete 1").execute(storageStub, taskList, ui);
+        new Delete("delete 1").execute(storageStub, taskList, ui);
+        String response3 = new ListPending(CMD_LIST_PENDING_1).execute(storageStub, taskList, ui);
+
+        assertTrue(Pattern.compile(expectedResponse1).matcher(response1).matches());
+        assertTrue(Pattern.compile(expectedResponse2).matcher(response2).matches());
+        assertEquals("There are no pending tasks in your list.", response3);
+    }
+}
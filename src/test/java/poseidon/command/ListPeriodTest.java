@@ -0,0 +1,119 @@
+package poseidon.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import poseidon.exception.PoseidonException;
+import poseidon.exception.PoseidonIncorrectCommandFormatException;
+import poseidon.stub.StorageStub;
+import poseidon.tasklist.TaskList;
+import poseidon.ui.Ui;
+
+/**
+ * Represents a testing class for {@code ListPeriod}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class ListPeriodTest {
+
+    private static final String CMD_LIST_PERIOD_1 = "list /from";
+    private static final String CMD_LIST_PERIOD_2 = "list /from 2021 09 30 2000 and 2021 09 30 2200";
+
+    private static final String CMD_VALID_LIST_PERIOD_1 = "list /from 2021 09 30 2000 /to 2021 09 30 2100";
+    private static final String CMD_VALID_LIST_PERIOD_2 = "LIST  /FROM 2021 10 01 0000  /TO 2021 10 31 0000 ";
+
+    private static final String CMD_NON_LIST_PERIOD_1 = "list";
+    private static final String CMD_NON_LIST_PERIOD_2 = "list -s";
+    private static final String CMD_NON_LIST_PERIOD_3 = "between 2021 09 30 2000 and 2021 09 30 2100";
+    private static final String CMD_NON_LIST_PERIOD_4 = "gibberish";
+
+    private static StorageStub storageStub;
+    private static Ui ui;
+    private static TaskList taskList;
+
+    @BeforeAll
+    public static void setUp() {
+        try {
+            storageStub = new StorageStub();
+            storageStub.clear();
+
+            String listPeriodTestStorageStub = "T\tfalse\tfinish work\n"
+                    + "E\tfalse\tfinish dinner\t2021-09-30T20:00\t2021-09-30T22:00\n"
+                    + "D\ttrue\tcomplete work\t2021-09-30T21:00\n"
+                    + "E\ttrue\tcatch up\t2021-09-30T18:00\t2021-09-30T21:00";
+            storageStub.storeAdd(listPeriodTestStorageStub);
+            taskList = new TaskList(storageStub.load());
+            ui = new Ui();
+        } catch (PoseidonException ex) {
+            System.out.println(ex.getMessage());
+        }
+    }
+
+    @AfterAll
+    public static void closeUp() {
+        try {
+            storageStub.clear();
+            storageStub = null;
+            taskList = null;
+            ui = null;
+        } catch (PoseidonException ex) {
+            System.out.println(ex.getMessage());
+        }
+    }
+
+    @Test
+    public void isThisCmd_listPeriodCommands_true() {
+        assertTrue(ListPeriod.isThisCmd(CMD_LIST_PERIOD_1));
+        assertTrue(ListPeriod.isThisCmd(CMD_LIST_PERIOD_2));
+
+        assertTrue(ListPeriod.isThisCmd(CMD_VALID_LIST_PERIOD_1));
+        assertTrue(ListPeriod.isThisCmd(CMD_VALID_LIST_PERIOD_2));
+    }
+
+    @Test
+    public void isThisCmd_nonListPeriodCommands_false() {
+        assertFalse(ListPeriod.isThisCmd(CMD_NON_LIST_PERIOD_1));
+        assertFalse(ListPeriod.isThisCmd(CMD_NON_LIST_PERIOD_2));
+        assertFalse(ListPeriod.isThisCmd(CMD_NON_LIST_PERIOD_3));
+        assertFalse(ListPeriod.isThisCmd(CMD_NON_LIST_PERIOD_4));
+    }
+
+    @Test
+    public void execute_validListPeriodCommand_correctResponse() throws PoseidonException {
+        String expectedResponse1 = "Here are the tasks due or starting then:\\n"
+                + "  1\\. #\\d+ \\[E]\\[ ] finish dinner \\(from: .+ to .+\\)\\n"
+                + "  2\\. #\\d+ \\[D]\\[X] complete work \\(by: .+\\)\\n";
+        String expectedResponse2 = "There are no tasks due or starting then.";
+
+        String response1 = new ListPeriod(CMD_VALID_LIST_PERIOD_1).execute(storageStub, taskList, ui);
+        String response2 = new ListPeriod(CMD_VALID_LIST_PERIOD_2).execute(storageStub, taskList, ui);
+
+        assertTrue(Pattern.compile(expectedResponse1).matcher(response1).matches());
+        assertEquals(expectedResponse2, response2);
+    }
+
+    @Test
+    public void execute_invalidCommandFormat_correctExceptionMsg() {
+        String expectedExceptionMsg = "There appears to be a typo in your LIST command.\n"
+                + "The command should be of the form:\n"
+                + "  list /from 'yyyy mm dd hhmm' /to 'yyyy mm dd hhmm'\n"
+                + "Please try again.";
+
+        PoseidonIncorrectCommandFormatException ex = assertThrows(PoseidonIncorrectCommandFormatException.class, () ->
+                new ListPeriod(CMD_LIST_PERIOD_2).execute(storageStub, taskList, ui));
+        assertEquals(expectedExceptionMsg, ex.getMessage());
+
+        ex = assertThrows(PoseidonIncorrectCommandFormatException.class, () ->
+                new ListPeriod("list /from 2021 10 01 0000 /to 2021 09 30 0000").execute(storageStub, taskList, ui));
+        assertTrue(ex.getMessage().contains("The start of the period is after its end."));
+    }
+}
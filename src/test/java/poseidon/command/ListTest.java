@@ -105,10 +105,10 @@ public class ListTest {
     @Test
     public void execute_validListCommand_correctResponse() throws PoseidonException {
         String expectedResponse = "Here are the tasks in your list:\\n"
-                + "  1\\. \\[T]\\[ ] finish work\\n"
-                + "  2\\. \\[D]\\[X] complete work \\(by: .+\\)\\n"
-                + "  3\\. \\[E]\\[ ] finish dinner \\(from: .+ to .+\\)\\n"
-                + "  4\\. \\[T]\\[X] complete dinner\\n";
+                + "  1\\. #\\d+ \\[T]\\[ ] finish work\\n"
+                + "  2\\. #\\d+ \\[D]\\[X] complete work \\(by: .+\\)\\n"
+                + "  3\\. #\\d+ \\[E]\\[ ] finish dinner \\(from: .+ to .+\\)\\n"
+                + "  4\\. #\\d+ \\[T]\\[X] complete dinner\\n";
 
         List validList1 = new List(CMD_LIST_1);
         List validList2 = new List(CMD_LIST_2);
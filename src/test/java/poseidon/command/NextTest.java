@@ -0,0 +1,126 @@
+package poseidon.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import poseidon.exception.PoseidonException;
+import poseidon.exception.PoseidonIncorrectCommandFormatException;
+import poseidon.stub.StorageStub;
+import poseidon.tasklist.TaskList;
+import poseidon.ui.Ui;
+
+/**
+ * Represents a testing class for {@code Next}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class NextTest {
+
+    private static final String CMD_NEXT_1 = "next";
+    private static final String CMD_NEXT_2 = "next two";
+
+    private static final String CMD_VALID_NEXT_1 = "next 2";
+    private static final String CMD_VALID_NEXT_2 = "NEXT   10 ";
+    private static final String CMD_VALID_NEXT_3 = "next 0";
+
+    private static final String CMD_NON_NEXT_1 = "todo finish work";
+    private static final String CMD_NON_NEXT_2 = "list -s";
+    private static final String CMD_NON_NEXT_3 = "nextly 2";
+    private static final String CMD_NON_NEXT_4 = "gibberish";
+
+    private static StorageStub storageStub;
+    private static Ui ui;
+    private static TaskList taskList;
+
+    @BeforeAll
+    public static void setUp() {
+        try {
+            storageStub = new StorageStub();
+            storageStub.clear();
+
+            String nextTestStorageStub = "T\tfalse\tfinish work\n"
+                    + "E\tfalse\tfinish dinner\t2099-09-30T20:00\t2099-09-30T22:00\n"
+                    + "D\ttrue\tcomplete work\t2099-09-30T19:00\n"
+                    + "D\tfalse\tsubmit report\t2099-10-01T09:00\n"
+                    + "D\tfalse\tpay rent\t2021-09-30T21:00\n"
+                    + "E\tfalse\tcatch up\t2099-09-30T18:00\t2099-09-30T21:00";
+            storageStub.storeAdd(nextTestStorageStub);
+            taskList = new TaskList(storageStub.load());
+            ui = new Ui();
+        } catch (PoseidonException ex) {
+            System.out.println(ex.getMessage());
+        }
+    }
+
+    @AfterAll
+    public static void closeUp() {
+        try {
+            storageStub.clear();
+            storageStub = null;
+            taskList = null;
+            ui = null;
+        } catch (PoseidonException ex) {
+            System.out.println(ex.getMessage());
+        }
+    }
+
+    @Test
+    public void isThisCmd_nextCommands_true() {
+        assertTrue(Next.isThisCmd(CMD_NEXT_1));
+        assertTrue(Next.isThisCmd(CMD_NEXT_2));
+
+        assertTrue(Next.isThisCmd(CMD_VALID_NEXT_1));
+        assertTrue(Next.isThisCmd(CMD_VALID_NEXT_2));
+        assertTrue(Next.isThisCmd(CMD_VALID_NEXT_3));
+    }
+
+    @Test
+    public void isThisCmd_nonNextCommands_false() {
+        assertFalse(Next.isThisCmd(CMD_NON_NEXT_1));
+        assertFalse(Next.isThisCmd(CMD_NON_NEXT_2));
+        assertFalse(Next.isThisCmd(CMD_NON_NEXT_3));
+        assertFalse(Next.isThisCmd(CMD_NON_NEXT_4));
+    }
+
+    @Test
+    public void execute_validNextCommand_correctResponse() throws PoseidonException {
+        String expectedResponse1 = "Here are your upcoming tasks:\\n"
+                + "  1\\. #\\d+ \\[E]\\[ ] catch up \\(from: .+ to .+\\)\\n"
+                + "  2\\. #\\d+ \\[E]\\[ ] finish dinner \\(from: .+ to .+\\)\\n";
+        String expectedResponse2 = expectedResponse1
+                + "  3\\. #\\d+ \\[D]\\[ ] submit report \\(by: .+\\)\\n";
+
+        String response1 = new Next(CMD_VALID_NEXT_1).execute(storageStub, taskList, ui);
+        String response2 = new Next(CMD_VALID_NEXT_2).execute(storageStub, taskList, ui);
+        String response3 = new Next(CMD_VALID_NEXT_3).execute(storageStub, taskList, ui);
+
+        assertTrue(Pattern.compile(expectedResponse1).matcher(response1).matches());
+        assertTrue(Pattern.compile(expectedResponse2).matcher(response2).matches());
+        assertEquals("There are no upcoming tasks.", response3);
+    }
+
+    @Test
+    public void execute_invalidCommandFormat_correctExceptionMsg() {
+        String expectedExceptionMsg = "There appears to be a typo in your NEXT command.\n"
+                + "The command should be of the form:\n"
+                + "  next 'count'\n"
+                + "Please try again.";
+
+        PoseidonIncorrectCommandFormatException ex = assertThrows(PoseidonIncorrectCommandFormatException.class, () ->
+                new Next(CMD_NEXT_1).execute(storageStub, taskList, ui));
+        assertEquals(expectedExceptionMsg, ex.getMessage());
+
+        ex = assertThrows(PoseidonIncorrectCommandFormatException.class, () ->
+                new Next(CMD_NEXT_2).execute(storageStub, taskList, ui));
+        assertEquals(expectedExceptionMsg, ex.getMessage());
+    }
+}
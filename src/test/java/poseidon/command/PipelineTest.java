@@ -0,0 +1,170 @@
+package poseidon.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import poseidon.exception.PoseidonException;
+import poseidon.exception.PoseidonIncorrectCommandFormatException;
+import poseidon.parser.Parser;
+import poseidon.stub.StorageStub;
+import poseidon.task.Deadline;
+import poseidon.task.Task;
+import poseidon.task.Todo;
+import poseidon.tasklist.ColumnarTaskList;
+import poseidon.tasklist.ConcurrentTaskList;
+import poseidon.tasklist.TaskList;
+import poseidon.ui.Ui;
+
+/**
+ * Represents a testing class for {@code Pipeline}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class PipelineTest {
+
+    private static final String CMD_PIPELINE_1 = "find report | list -s | first 2";
+    private static final String CMD_PIPELINE_2 = "list -d|find report";
+    private static final String CMD_PIPELINE_3 = "LIST -S | FIRST 1";
+
+    private static final String CMD_NON_PIPELINE_1 = "find report";
+    private static final String CMD_NON_PIPELINE_2 = "todo read | write";
+    private static final String CMD_NON_PIPELINE_3 = "list -s";
+    private static final String CMD_NON_PIPELINE_4 = "find report\n| first 2";
+    private static final String CMD_NON_PIPELINE_5 = "find a|b";
+    private static final String CMD_NON_PIPELINE_6 = "find report |firsts";
+
+    @Test
+    public void isThisCmd_pipelineCommands_true() {
+        assertTrue(Pipeline.isThisCmd(CMD_PIPELINE_1));
+        assertTrue(Pipeline.isThisCmd(CMD_PIPELINE_2));
+        assertTrue(Pipeline.isThisCmd(CMD_PIPELINE_3));
+        assertTrue(Parser.parse(CMD_PIPELINE_1) instanceof Pipeline);
+    }
+
+    @Test
+    public void isThisCmd_nonPipelineCommands_false() {
+        assertFalse(Pipeline.isThisCmd(CMD_NON_PIPELINE_1));
+        assertFalse(Pipeline.isThisCmd(CMD_NON_PIPELINE_2));
+        assertFalse(Pipeline.isThisCmd(CMD_NON_PIPELINE_3));
+        assertFalse(Pipeline.isThisCmd(CMD_NON_PIPELINE_4));
+        assertFalse(Pipeline.isThisCmd(CMD_NON_PIPELINE_5));
+        assertFalse(Pipeline.isThisCmd(CMD_NON_PIPELINE_6));
+        assertTrue(Parser.parse(CMD_NON_PIPELINE_5) instanceof Find);
+    }
+
+    @Test
+    public void execute_findWithLiteralBar_literalTextFound() throws PoseidonException {
+        ArrayList<Task> tasks = sampleTasks();
+        tasks.add(new Todo("pick a|b"));
+        tasks.get(5).setId(6);
+
+        assertEquals("Here are the matching tasks in your list:\n  1. #6 [T][ ] pick a|b\n",
+                Parser.parse(CMD_NON_PIPELINE_5).execute(new StorageStub(), new TaskList(tasks), new Ui()));
+    }
+
+    @Test
+    public void execute_findSortFirst_sameAsSortingTheFoundTasks() throws PoseidonException {
+        String expectedResponse = "Here are the tasks coming out of your pipeline:\n"
+                + "  1. #4 [D][ ] report 3 (by: Sep 27, 2021, 9:00 AM)\n"
+                + "  2. #2 [D][X] report 1 (by: Sep 28, 2021, 9:00 AM)\n";
+
+        for (TaskList taskList : new TaskList[] {new TaskList(sampleTasks()), new ConcurrentTaskList(sampleTasks()),
+            new TaskList(new ColumnarTaskList(sampleTasks()))}) {
+            assertEquals(expectedResponse, execute(CMD_PIPELINE_1, taskList));
+            assertEquals("Here are the tasks coming out of your pipeline:\n"
+                    + "  1. #2 [D][X] report 1 (by: Sep 28, 2021, 9:00 AM)\n", execute(CMD_PIPELINE_2, taskList));
+            assertEquals("Here are the tasks coming out of your pipeline:\n"
+                    + "  1. #3 [D][ ] gym (by: Sep 20, 2021, 9:00 AM)\n", execute(CMD_PIPELINE_3, taskList));
+            assertEquals("There are no tasks coming out of your pipeline.",
+                    execute("find report | list -p | find gym", taskList));
+        }
+    }
+
+    @Test
+    public void execute_firstStage_stopsUpstreamEarly() throws PoseidonException {
+        AtomicInteger readCount = new AtomicInteger();
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            tasks.add(new Todo("report " + i) {
+                @Override
+                public boolean hasContent(String content) {
+                    readCount.incrementAndGet();
+                    return super.hasContent(content);
+                }
+            });
+        }
+
+        String response = execute("list | find report | list -p | first 3", new TaskList(tasks));
+        assertTrue(response.endsWith("  3. #3 [T][ ] report 3\n"), response);
+        assertEquals(3, readCount.get());
+
+        for (TaskList taskList : new TaskList[] {new TaskList(new ArrayList<>(tasks)),
+            new ConcurrentTaskList(new ArrayList<>(tasks))}) {
+            readCount.set(0);
+            response = execute("find report | list -p | first 3", taskList);
+            assertTrue(response.endsWith("  3. #3 [T][ ] report 3\n"), response);
+            assertEquals(3, readCount.get());
+        }
+    }
+
+    @Test
+    public void streams_concurrentTaskListChangedBeforeConsumed_snapshotStreamed() throws PoseidonException {
+        ConcurrentTaskList taskList = new ConcurrentTaskList(sampleTasks());
+        Stream<Task> allTasks = taskList.streamTasks();
+        Stream<Task> foundTasks = taskList.streamFoundTasks("report");
+        Stream<Task> sortedTasks = taskList.streamSortedTasks();
+        taskList.deleteTask(3);
+        taskList.addTask(new Todo("report 5"));
+
+        assertEquals(5, allTasks.count());
+        assertEquals(4, foundTasks.count());
+        assertEquals("[D][ ] gym (by: Sep 20, 2021, 9:00 AM)", sortedTasks.findFirst().get().toString());
+        assertEquals(5, taskList.streamFoundTasks("report").count());
+    }
+
+    @Test
+    public void execute_invalidStage_correctExceptionMsg() throws PoseidonException {
+        String expectedExceptionMsg = "There appears to be a typo in your PIPELINE command.\n"
+                + "The command should be of the form:\n"
+                + "  " + Pipeline.CMD_USER_FORMAT + "\n"
+                + "Please try again.";
+
+        String[] invalidCmds = {"find report | ", "list | first", "list || list", "list | next", "find | list"};
+        for (String cmd : invalidCmds) {
+            try {
+                execute(cmd, new TaskList(sampleTasks()));
+                fail(cmd);
+            } catch (PoseidonIncorrectCommandFormatException ex) {
+                assertEquals(expectedExceptionMsg, ex.getMessage());
+            }
+        }
+    }
+
+    private static String execute(String cmd, TaskList taskList) throws PoseidonException {
+        return new Pipeline(cmd).execute(new StorageStub(), taskList, new Ui());
+    }
+
+    private static ArrayList<Task> sampleTasks() throws PoseidonException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Todo("write report 0"));
+        Deadline doneReport = new Deadline("report 1", Parser.parseDateTime("2021 09 28 0900"));
+        doneReport.setDone();
+        tasks.add(doneReport);
+        tasks.add(new Deadline("gym", Parser.parseDateTime("2021 09 20 0900")));
+        tasks.add(new Deadline("report 3", Parser.parseDateTime("2021 09 27 0900")));
+        tasks.add(new Deadline("report 4", Parser.parseDateTime("2021 09 29 0900")));
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setId(i + 1);
+        }
+        return tasks;
+    }
+}
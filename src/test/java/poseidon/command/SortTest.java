@@ -105,10 +105,10 @@ public class SortTest {
     @Test
     public void execute_validSortCommand_correctResponse() throws PoseidonException {
         String expectedResponse = "Here are the tasks in your list:\\n"
-                + "  1\\. \\[E]\\[ ] finish dinner \\(from: .+ to .+\\)\\n"
-                + "  2\\. \\[D]\\[X] complete work \\(by: .+\\)\\n"
-                + "  3\\. \\[T]\\[ ] finish work\\n"
-                + "  4\\. \\[T]\\[X] complete dinner\\n";
+                + "  1\\. #\\d+ \\[E]\\[ ] finish dinner \\(from: .+ to .+\\)\\n"
+                + "  2\\. #\\d+ \\[D]\\[X] complete work \\(by: .+\\)\\n"
+                + "  3\\. #\\d+ \\[T]\\[ ] finish work\\n"
+                + "  4\\. #\\d+ \\[T]\\[X] complete dinner\\n";
 
         Sort validSort1 = new Sort(CMD_SORT_1);
         Sort validSort2 = new Sort(CMD_SORT_2);
@@ -0,0 +1,84 @@
+package poseidon.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents a testing class for {@code DateTimeParser}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class DateTimeParserTest {
+
+    // Characters that generated date and times are pieced together from, weighted towards digits.
+    private static final String DATE_TIME_CHARS = "00112233445566778899 -:T+t.\u0660";
+
+    @Test
+    public void parseCommandDateTime_edgeCases_sameAsFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy MM dd HHmm");
+        String[] dateTimes = {"2021 09 30 2359", "2024 02 29 0000", "0001 01 01 0000", "9999 12 31 2359",
+            "2021 02 29 1200", "2021 04 31 1200", "2021 09 30 2400", "20210 09 30 2359", "+20210 09 30 2359",
+            "0000 01 01 0000", "2021 13 01 1200", "2021 09 30 2360", "2021 9 30 2359", "2021-09-30 2359", ""};
+
+        for (String dateTime : dateTimes) {
+            assertEquals(parse((text) -> LocalDateTime.parse(text, formatter), dateTime),
+                    parse(DateTimeParser::parseCommandDateTime, dateTime), dateTime);
+        }
+    }
+
+    @Test
+    public void parseStorageDateTime_edgeCases_sameAsLocalDateTime() {
+        String[] dateTimes = {"2021-09-30T23:59", "2021-09-30T23:59:30", "2024-02-29T00:00", "0000-01-01T00:00",
+            "2021-02-29T12:00", "2021-09-30t23:59", "2021-09-30T23:59:60", "2021-09-30T23:59:30.5",
+            "+12021-09-30T23:59", "2021-09-30T24:00", "2021-09-30 23:59", "2021-09-30", ""};
+
+        for (String dateTime : dateTimes) {
+            assertEquals(parse(LocalDateTime::parse, dateTime),
+                    parse(DateTimeParser::parseStorageDateTime, dateTime), dateTime);
+        }
+    }
+
+    @Test
+    public void parse_generatedDateTimes_sameResultsAndErrors() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy MM dd HHmm");
+        Random random = new Random(2103);
+        for (int i = 0; i < 20000; i++) {
+            String commandDateTime = mutate(String.format("%04d %02d %02d %02d%02d", random.nextInt(10000),
+                    random.nextInt(14), random.nextInt(33), random.nextInt(25), random.nextInt(61)), random);
+            assertEquals(parse((text) -> LocalDateTime.parse(text, formatter), commandDateTime),
+                    parse(DateTimeParser::parseCommandDateTime, commandDateTime), commandDateTime);
+
+            String storageDateTime = mutate(String.format("%04d-%02d-%02dT%02d:%02d:%02d", random.nextInt(10000),
+                    random.nextInt(14), random.nextInt(33), random.nextInt(25), random.nextInt(61),
+                    random.nextInt(61)).substring(0, random.nextBoolean() ? 16 : 19), random);
+            assertEquals(parse(LocalDateTime::parse, storageDateTime),
+                    parse(DateTimeParser::parseStorageDateTime, storageDateTime), storageDateTime);
+        }
+    }
+
+    // Replaces a character of the given date and time now and then, so that malformed layouts are covered too.
+    private static String mutate(String dateTime, Random random) {
+        if (random.nextInt(4) != 0) {
+            return dateTime;
+        }
+        char[] chars = dateTime.toCharArray();
+        chars[random.nextInt(chars.length)] = DATE_TIME_CHARS.charAt(random.nextInt(DATE_TIME_CHARS.length()));
+        return new String(chars);
+    }
+
+    // Returns the parsed date and time, or the class and message of the exception thrown instead.
+    private static String parse(Function<String, LocalDateTime> parser, String dateTime) {
+        try {
+            return parser.apply(dateTime).toString();
+        } catch (RuntimeException ex) {
+            return ex.getClass().getName() + ": " + ex.getMessage();
+        }
+    }
+}
@@ -6,11 +6,35 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
+import poseidon.command.AddDeadline;
+import poseidon.command.AddEvent;
+import poseidon.command.AddTodo;
+import poseidon.command.At;
+import poseidon.command.Between;
+import poseidon.command.Bye;
 import poseidon.command.Command;
+import poseidon.command.Delete;
+import poseidon.command.Done;
+import poseidon.command.Find;
+import poseidon.command.Help;
+import poseidon.command.List;
+import poseidon.command.ListDone;
+import poseidon.command.ListPending;
+import poseidon.command.ListPeriod;
+import poseidon.command.Next;
+import poseidon.command.Pipeline;
+import poseidon.command.Sort;
 import poseidon.exception.PoseidonDateTimeParseException;
+import poseidon.exception.PoseidonNonExistentTaskException;
+import poseidon.task.Task;
+import poseidon.task.Todo;
+import poseidon.tasklist.TaskList;
 
 class ParserTest {
 
@@ -26,6 +50,14 @@ class ParserTest {
     private static final String CMD_10 = "list -s";
     private static final String CMD_11 = "gibberish";
 
+    // Fragments that generated commands are pieced together from, including near misses of every keyword.
+    private static final String[] CMD_FRAGMENTS = {
+        "deadline", "DeadLine", "delete", "done", "DONE", "event", "todo", "at", "AT", "between", "bye", "Bye",
+        "find", "help", "list", "LIST", "next", "-d", "-P", "-s", "-x", "/from", "/FROM", "/to", " ", "  ", "\t",
+        "\n", "\r", "\u000B", "\u0085", "\u2028", "\u00a0", "2021 09 30 2359", "1", "#2", "x", "s",
+        "l\u0131st", "\u212Aey", "f\u0131nd", "-", "|", " | first 2", "|find", " |", "|\tlist", "first"
+    };
+
     @Test
     void parse_allCommands_correctCommandInstance() {
         Command command1 = Parser.parse(CMD_1);
@@ -95,6 +127,30 @@ class ParserTest {
         assertEquals(-10, Parser.parseIndex("-10"));
     }
 
+    @Test
+    public void parseTaskIndexes_listsRangesAndFind_ascendingWithoutRepeats() throws PoseidonNonExistentTaskException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            tasks.add(new Todo(i % 5 == 0 ? "team meeting " + i : "write report " + i));
+        }
+        TaskList taskList = new TaskList(tasks);
+
+        assertEquals("[4]", Arrays.toString(Parser.parseTaskIndexes(" 4 ", taskList)));
+        assertEquals("[3, 7, 9, 10, 11, 12]", Arrays.toString(Parser.parseTaskIndexes("3,7,9-12", taskList)));
+        assertEquals("[2, 3, 4, 6]", Arrays.toString(Parser.parseTaskIndexes("4 - 2, #6 ,3", taskList)));
+        assertEquals("[5, 10, 15, 20]", Arrays.toString(Parser.parseTaskIndexes("/FIND meeting", taskList)));
+        assertEquals(20, Parser.parseTaskIndexes("1-20", taskList).length);
+
+        for (String targets : new String[] {"0", "21", "1-21", "3,#99", "99999999999", "2-4294967297", "/find gym"}) {
+            try {
+                Parser.parseTaskIndexes(targets, taskList);
+                fail(targets);
+            } catch (PoseidonNonExistentTaskException ex) {
+                assertEquals("That task doesn't exist.\nPlease Try again.", ex.getMessage());
+            }
+        }
+    }
+
     @Test
     public void isParsedBye_byeCommand() {
         String byeCommand1 = "bye";
@@ -107,4 +163,59 @@ class ParserTest {
         assertTrue(Parser.isParsedBye(byeCommand3));
         assertFalse(Parser.isParsedBye(byeCommand4));
     }
+
+    @Test
+    public void parse_generatedCommands_sameCommandAsFormatChecks() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder newCommand = new StringBuilder();
+            int fragmentCount = random.nextInt(4) + 1;
+            for (int j = 0; j < fragmentCount; j++) {
+                newCommand.append(CMD_FRAGMENTS[random.nextInt(CMD_FRAGMENTS.length)]);
+            }
+            String cmd = newCommand.toString();
+
+            assertEquals(checkFormatsInOrder(cmd), Parser.parse(cmd).getClass().getSimpleName(), cmd);
+        }
+    }
+
+    private static String checkFormatsInOrder(String cmd) {
+        if (AddDeadline.isThisCmd(cmd)) {
+            return "AddDeadline";
+        } else if (AddEvent.isThisCmd(cmd)) {
+            return "AddEvent";
+        } else if (AddTodo.isThisCmd(cmd)) {
+            return "AddTodo";
+        } else if (At.isThisCmd(cmd)) {
+            return "At";
+        } else if (Between.isThisCmd(cmd)) {
+            return "Between";
+        } else if (Bye.isThisCmd(cmd)) {
+            return "Bye";
+        } else if (Delete.isThisCmd(cmd)) {
+            return "Delete";
+        } else if (Done.isThisCmd(cmd)) {
+            return "Done";
+        } else if (Pipeline.isThisCmd(cmd)) {
+            return "Pipeline";
+        } else if (Find.isThisCmd(cmd)) {
+            return "Find";
+        } else if (Help.isThisCmd(cmd)) {
+            return "Help";
+        } else if (List.isThisCmd(cmd)) {
+            return "List";
+        } else if (ListDone.isThisCmd(cmd)) {
+            return "ListDone";
+        } else if (ListPending.isThisCmd(cmd)) {
+            return "ListPending";
+        } else if (ListPeriod.isThisCmd(cmd)) {
+            return "ListPeriod";
+        } else if (Next.isThisCmd(cmd)) {
+            return "Next";
+        } else if (Sort.isThisCmd(cmd)) {
+            return "Sort";
+        } else {
+            return "Fail";
+        }
+    }
 }
@@ -0,0 +1,190 @@
+package poseidon.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import poseidon.exception.PoseidonException;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.task.Task;
+
+/**
+ * Represents a testing class for {@code BinaryStorage}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class BinaryStorageTest {
+
+    private static final String SAMPLE_TASK_DATA = "T\tfalse\tfinish work\n"
+            + "D\ttrue\tcomplete work\t2021-09-30T23:59\n"
+            + "E\tfalse\tfinish dinner\t2021-09-30T20:00\t2021-09-30T22:00\n";
+
+    private Path taskDataPath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        taskDataPath = Files.createTempDirectory("poseidon").resolve("taskData.txt");
+    }
+
+    @Test
+    public void convertFromText_existingStorageDocument_sameTasks() throws PoseidonException, IOException {
+        Files.createDirectories(taskDataPath.getParent());
+        Files.writeString(taskDataPath, SAMPLE_TASK_DATA);
+
+        ArrayList<Task> tasks = new BinaryStorage(taskDataPath).load();
+        StringBuilder storedTasks = new StringBuilder();
+        tasks.forEach((task) -> storedTasks.append(task.toStorage()));
+        assertEquals(SAMPLE_TASK_DATA, storedTasks.toString());
+        assertFalse(Files.exists(taskDataPath.resolveSibling("taskData.bin.tmp")));
+    }
+
+    @Test
+    public void convertFromText_longerBinaryFileExists_replacedWhole() throws PoseidonException, IOException {
+        Files.writeString(taskDataPath, SAMPLE_TASK_DATA);
+        Path binaryPath = taskDataPath.resolveSibling("taskData.bin");
+        Files.write(binaryPath, new byte[4096]);
+
+        BinaryStorage.convertFromText(taskDataPath, binaryPath);
+        ArrayList<Task> tasks = new BinaryStorage(taskDataPath).load();
+        assertEquals(3, tasks.size());
+        assertEquals("T\tfalse\tfinish work\n", tasks.get(0).toStorage());
+    }
+
+    @Test
+    public void load_addModifyDelete_correctTasks() throws PoseidonException {
+        BinaryStorage storage = new BinaryStorage(taskDataPath);
+        storage.load();
+        storage.storeAdd(SAMPLE_TASK_DATA);
+        storage.storeModify(1, "T\ttrue\tfinish work\n");
+        storage.storeModify(3, "E\tfalse\tfinish supper\t2021-09-30T20:00\t2021-09-30T22:00\n");
+        storage.storeDelete(2);
+        storage.storeAdd("T\tfalse\tcomplete dinner\n");
+
+        ArrayList<Task> tasks = new BinaryStorage(taskDataPath).load();
+        assertEquals(3, tasks.size());
+        assertEquals("T\ttrue\tfinish work\n", tasks.get(0).toStorage());
+        assertEquals("E\tfalse\tfinish supper\t2021-09-30T20:00\t2021-09-30T22:00\n", tasks.get(1).toStorage());
+        assertEquals("T\tfalse\tcomplete dinner\n", tasks.get(2).toStorage());
+    }
+
+    @Test
+    public void load_badDescriptionLength_correctExceptionMsg() throws PoseidonException, IOException {
+        BinaryStorage storage = new BinaryStorage(taskDataPath);
+        storage.load();
+        storage.storeAdd("T\tfalse\tfinish work\n");
+        Path binaryPath = taskDataPath.resolveSibling("taskData.bin");
+        int descriptionLengthOffset = 10 + 2 + Integer.BYTES;
+
+        try (FileChannel binaryChannel = FileChannel.open(binaryPath, StandardOpenOption.WRITE)) {
+            binaryChannel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, -1), descriptionLengthOffset);
+        }
+        PoseidonStorageReadWriteException ex = assertThrows(PoseidonStorageReadWriteException.class, () ->
+                new BinaryStorage(taskDataPath).load());
+        assertTrue(ex.getMessage().contains(
+                "Following errors found during loading:\n\nCorrupted record at byte 10.\n"));
+
+        try (FileChannel binaryChannel = FileChannel.open(binaryPath, StandardOpenOption.WRITE)) {
+            binaryChannel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, Integer.MAX_VALUE),
+                    descriptionLengthOffset);
+        }
+        ex = assertThrows(PoseidonStorageReadWriteException.class, () -> new BinaryStorage(taskDataPath).load());
+        assertTrue(ex.getMessage().contains(
+                "Following errors found during loading:\n\nTruncated record at byte 10.\n"));
+    }
+
+    @Test
+    public void storeDelete_thenStoreAdd_fileReplacedAndStillWritable() throws PoseidonException {
+        BinaryStorage storage = new BinaryStorage(taskDataPath);
+        storage.load();
+        storage.storeAdd(SAMPLE_TASK_DATA);
+        storage.storeDelete(1);
+        storage.storeModify(1, "D\tfalse\tcomplete work\t2021-09-30T23:59\n");
+        storage.storeAdd("T\tfalse\tcomplete dinner\n");
+        storage.storeDelete(2);
+
+        ArrayList<Task> tasks = new BinaryStorage(taskDataPath).load();
+        assertEquals(2, tasks.size());
+        assertEquals("D\tfalse\tcomplete work\t2021-09-30T23:59\n", tasks.get(0).toStorage());
+        assertEquals("T\tfalse\tcomplete dinner\n", tasks.get(1).toStorage());
+        assertFalse(Files.exists(taskDataPath.resolveSibling("taskData.bin.tmp")));
+    }
+
+    @Test
+    public void storeBatch_thenStoreAdd_fileReplacedAndStillWritable() throws PoseidonException {
+        BinaryStorage storage = new BinaryStorage(taskDataPath);
+        storage.load();
+        storage.storeAdd(SAMPLE_TASK_DATA);
+        storage.storeBatch(List.of(StorageMutation.delete(1),
+                StorageMutation.modify(1, "D\tfalse\tcomplete work\t2021-09-30T23:59\n")));
+        storage.storeAdd("T\tfalse\tcomplete dinner\n");
+        storage.storeDelete(2);
+
+        ArrayList<Task> tasks = new BinaryStorage(taskDataPath).load();
+        assertEquals(2, tasks.size());
+        assertEquals("D\tfalse\tcomplete work\t2021-09-30T23:59\n", tasks.get(0).toStorage());
+        assertEquals("T\tfalse\tcomplete dinner\n", tasks.get(1).toStorage());
+        assertFalse(Files.exists(taskDataPath.resolveSibling("taskData.bin.tmp")));
+    }
+
+    @Test
+    public void load_idFields_sameIds() throws PoseidonException {
+        BinaryStorage storage = new BinaryStorage(taskDataPath);
+        storage.load();
+        storage.storeAdd("T\tfalse\tfinish work\t@12\n");
+        storage.storeAdd("D\ttrue\tcomplete work\t2021-09-30T23:59\t@3\n");
+        storage.storeModify(1, "T\ttrue\tfinish work\t@12\n");
+
+        ArrayList<Task> tasks = new BinaryStorage(taskDataPath).load();
+        assertEquals("T\ttrue\tfinish work\t@12\n", tasks.get(0).toStorage());
+        assertEquals("D\ttrue\tcomplete work\t2021-09-30T23:59\t@3\n", tasks.get(1).toStorage());
+    }
+
+    @Test
+    public void load_deletedIds_idHighWaterMarkKept() throws PoseidonException {
+        BinaryStorage storage = new BinaryStorage(taskDataPath);
+        storage.load();
+        storage.storeAdd("T\tfalse\ta\t@1\nT\tfalse\tb\t@2\nT\tfalse\tc\t@3\n");
+        storage.storeDelete(3);
+        BinaryStorage restartedStorage = new BinaryStorage(taskDataPath);
+        assertEquals(2, restartedStorage.load().size());
+        assertEquals(3, restartedStorage.getIdHighWaterMark());
+
+        restartedStorage.storeAdd("T\tfalse\td\t@5\n");
+        restartedStorage.storeBatch(List.of(StorageMutation.delete(3), StorageMutation.delete(1)));
+        ArrayList<Task> tasks = new BinaryStorage(taskDataPath).load();
+        assertEquals(1, tasks.size());
+        assertEquals("T\tfalse\tb\t@2\n", tasks.get(0).toStorage());
+        assertEquals(5, restartedStorage.getIdHighWaterMark());
+    }
+
+    @Test
+    public void constructor_versionWithoutIds_upgradedWithSameTasks() throws PoseidonException, IOException {
+        byte[] description = "finish work".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer oldFile = ByteBuffer.allocate(6 + 2 + Long.BYTES + Integer.BYTES + description.length)
+                .putInt(BinaryStorage.MAGIC).putShort((short) 1)
+                .put((byte) 'D').put((byte) 1).putLong(27217439).putInt(description.length).put(description);
+        Files.createDirectories(taskDataPath.getParent());
+        Files.write(taskDataPath.resolveSibling("taskData.bin"), oldFile.array());
+
+        ArrayList<Task> tasks = new BinaryStorage(taskDataPath).load();
+        assertEquals(1, tasks.size());
+        assertEquals("D\ttrue\tfinish work\t2021-09-30T23:59\n", tasks.get(0).toStorage());
+        assertEquals(BinaryStorage.VERSION,
+                ByteBuffer.wrap(Files.readAllBytes(taskDataPath.resolveSibling("taskData.bin"))).getShort(4));
+    }
+}
@@ -0,0 +1,153 @@
+package poseidon.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import poseidon.exception.PoseidonException;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.task.Task;
+
+/**
+ * Represents a testing class for {@code FixedWidthStorage}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class FixedWidthStorageTest {
+
+    private Path taskDataPath;
+    private Path slotPath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        taskDataPath = Files.createTempDirectory("poseidon").resolve("taskData.txt");
+        slotPath = taskDataPath.resolveSibling("taskData.slots");
+    }
+
+    @Test
+    public void load_addModifyDelete_correctTasks() throws PoseidonException {
+        FixedWidthStorage storage = new FixedWidthStorage(taskDataPath);
+        storage.load();
+        storage.storeAdd("T\tfalse\tfinish work\n"
+                + "D\tfalse\tcomplete work\t2021-09-30T23:59\n"
+                + "E\tfalse\tfinish dinner\t2021-09-30T20:00\t2021-09-30T22:00\n");
+        storage.storeModify(2, "D\ttrue\tcomplete work\t2021-09-30T23:59\n");
+        storage.storeDelete(1);
+
+        ArrayList<Task> tasks = new FixedWidthStorage(taskDataPath).load();
+        assertEquals(2, tasks.size());
+        assertEquals("D\ttrue\tcomplete work\t2021-09-30T23:59\n", tasks.get(0).toStorage());
+        assertEquals("E\tfalse\tfinish dinner\t2021-09-30T20:00\t2021-09-30T22:00\n", tasks.get(1).toStorage());
+    }
+
+    @Test
+    public void load_badPayloadLengthOrTruncatedRecord_correctExceptionMsg() throws PoseidonException, IOException {
+        FixedWidthStorage storage = new FixedWidthStorage(taskDataPath);
+        storage.load();
+        storage.storeAdd("T\tfalse\tfinish work\nT\tfalse\tcomplete work\n");
+
+        try (FileChannel slotChannel = FileChannel.open(slotPath, StandardOpenOption.WRITE)) {
+            slotChannel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, -1), FixedWidthStorage.SLOT_SIZE + 12);
+        }
+        PoseidonStorageReadWriteException ex = assertThrows(PoseidonStorageReadWriteException.class, () ->
+                new FixedWidthStorage(taskDataPath).load());
+        assertTrue(ex.getMessage().contains("Following errors found during loading:\n\nCorrupted record at slot 2.\n"));
+
+        try (FileChannel slotChannel = FileChannel.open(slotPath, StandardOpenOption.WRITE)) {
+            slotChannel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 13), FixedWidthStorage.SLOT_SIZE + 12);
+            slotChannel.truncate(FixedWidthStorage.SLOT_SIZE + 32);
+        }
+        ex = assertThrows(PoseidonStorageReadWriteException.class, () -> new FixedWidthStorage(taskDataPath).load());
+        assertTrue(ex.getMessage().contains("Following errors found during loading:\n\nTruncated record at slot 2.\n"));
+    }
+
+    @Test
+    public void storeModify_markDone_fileSizeUnchanged() throws PoseidonException, IOException {
+        FixedWidthStorage storage = new FixedWidthStorage(taskDataPath);
+        storage.load();
+        storage.storeAdd("T\tfalse\tfinish work\n");
+        long fileSize = Files.size(slotPath);
+
+        storage.storeModify(1, "T\ttrue\tfinish work\n");
+
+        assertEquals(fileSize, Files.size(slotPath));
+        assertEquals("T\ttrue\tfinish work\n", new FixedWidthStorage(taskDataPath).load().get(0).toStorage());
+    }
+
+    @Test
+    public void storeAdd_afterDelete_reusesSlotsAndKeepsOrder() throws PoseidonException, IOException {
+        FixedWidthStorage storage = new FixedWidthStorage(taskDataPath);
+        storage.load();
+        storage.storeAdd("T\tfalse\tfirst\nT\tfalse\tsecond\nT\tfalse\tthird\n");
+        long fileSize = Files.size(slotPath);
+
+        storage.storeDelete(1);
+        storage.storeAdd("T\tfalse\tfourth\n");
+
+        assertEquals(fileSize, Files.size(slotPath));
+        ArrayList<Task> tasks = new FixedWidthStorage(taskDataPath).load();
+        assertEquals(3, tasks.size());
+        assertEquals("T\tfalse\tsecond\n", tasks.get(0).toStorage());
+        assertEquals("T\tfalse\tthird\n", tasks.get(1).toStorage());
+        assertEquals("T\tfalse\tfourth\n", tasks.get(2).toStorage());
+    }
+
+    @Test
+    public void storeBatch_failedThenRetried_appliedOnce() throws PoseidonException, IOException {
+        FixedWidthStorage storage = new FixedWidthStorage(taskDataPath);
+        storage.load();
+        storage.storeAdd("T\tfalse\tfirst\nT\tfalse\tsecond\nT\tfalse\tthird\n");
+        long fileSize = Files.size(slotPath);
+
+        List<StorageMutation> batch = List.of(StorageMutation.delete(1), StorageMutation.add("T\tfalse\tfourth\n"));
+        ArrayList<StorageMutation> badBatch = new ArrayList<>(batch);
+        badBatch.add(StorageMutation.delete(9));
+        assertThrows(PoseidonStorageReadWriteException.class, () -> storage.storeBatch(badBatch));
+        storage.storeBatch(batch);
+
+        assertEquals(fileSize, Files.size(slotPath));
+        ArrayList<Task> tasks = new FixedWidthStorage(taskDataPath).load();
+        assertEquals(3, tasks.size());
+        assertEquals("T\tfalse\tsecond\n", tasks.get(0).toStorage());
+        assertEquals("T\tfalse\tthird\n", tasks.get(1).toStorage());
+        assertEquals("T\tfalse\tfourth\n", tasks.get(2).toStorage());
+    }
+
+    @Test
+    public void load_deletedIds_idHighWaterMarkKept() throws PoseidonException {
+        FixedWidthStorage storage = new FixedWidthStorage(taskDataPath);
+        storage.load();
+        storage.storeAdd("T\tfalse\ta\t@1\nT\tfalse\tb\t@2\nT\tfalse\tc\t@3\n");
+        storage.storeDelete(3);
+        storage.storeDelete(1);
+
+        FixedWidthStorage restartedStorage = new FixedWidthStorage(taskDataPath);
+        ArrayList<Task> tasks = restartedStorage.load();
+        assertEquals(1, tasks.size());
+        assertEquals("T\tfalse\tb\t@2\n", tasks.get(0).toStorage());
+        assertEquals(3, restartedStorage.getIdHighWaterMark());
+    }
+
+    @Test
+    public void constructor_existingStorageDocument_seedsSlots() throws PoseidonException, IOException {
+        Files.createDirectories(taskDataPath.getParent());
+        Files.writeString(taskDataPath, "T\ttrue\tfinish work\nD\tfalse\tcomplete work\t2021-09-30T23:59\n");
+
+        ArrayList<Task> tasks = new FixedWidthStorage(taskDataPath).load();
+        assertEquals(2, tasks.size());
+        assertEquals("T\ttrue\tfinish work\n", tasks.get(0).toStorage());
+    }
+}
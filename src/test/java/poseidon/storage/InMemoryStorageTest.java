@@ -0,0 +1,62 @@
+package poseidon.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import poseidon.exception.PoseidonException;
+import poseidon.exception.PoseidonStorageException;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.task.Task;
+
+/**
+ * Represents a testing class for {@code InMemoryStorage} and the engines of {@code StorageFactory}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class InMemoryStorageTest {
+
+    @Test
+    public void load_addModifyDeleteBatch_sameAsTextStorage() throws PoseidonException {
+        StorageBackend storage = new InMemoryStorage();
+        storage.storeAdd("T\tfalse\tfinish work\n"
+                + "D\tfalse\tcomplete work\t2021-09-30T23:59");
+        storage.storeModify(2, "D\ttrue\tcomplete work\t2021-09-30T23:59\n");
+        storage.storeBatch(List.of(StorageMutation.add("T\tfalse\tfinish dinner\n"),
+                StorageMutation.delete(1)));
+
+        ArrayList<Task> tasks = storage.load();
+        assertEquals(2, tasks.size());
+        assertEquals("D\ttrue\tcomplete work\t2021-09-30T23:59\n", tasks.get(0).toStorage());
+        assertEquals("T\tfalse\tfinish dinner\n", tasks.get(1).toStorage());
+    }
+
+    @Test
+    public void storeBatch_badIndex_nothingApplied() throws PoseidonException {
+        StorageBackend storage = new InMemoryStorage();
+        storage.storeAdd("T\tfalse\tfinish work\n");
+
+        assertThrows(PoseidonStorageReadWriteException.class, () -> storage.storeBatch(
+                List.of(StorageMutation.add("T\tfalse\tfinish dinner\n"), StorageMutation.delete(3))));
+        ArrayList<Task> tasks = storage.load();
+        assertEquals(1, tasks.size());
+        assertEquals("T\tfalse\tfinish work\n", tasks.get(0).toStorage());
+    }
+
+    @Test
+    public void create_memoryEngine_inMemoryStorage() throws PoseidonException {
+        assertTrue(StorageFactory.create(" Memory ") instanceof InMemoryStorage);
+        assertTrue(StorageFactory.create(StorageFactory.ENGINE_MEMORY, "on-exit") instanceof WriteBehindStorage);
+    }
+
+    @Test
+    public void create_unknownEngine_exceptionThrown() {
+        assertThrows(PoseidonStorageException.class, () -> StorageFactory.create("cloud"));
+    }
+}
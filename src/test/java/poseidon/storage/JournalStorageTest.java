@@ -0,0 +1,132 @@
+package poseidon.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import poseidon.exception.PoseidonException;
+import poseidon.task.Task;
+
+/**
+ * Represents a testing class for {@code JournalStorage}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class JournalStorageTest {
+
+    private Path taskDataPath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        taskDataPath = Files.createTempDirectory("poseidon").resolve("taskData.txt");
+    }
+
+    @Test
+    public void load_addModifyDelete_replaysJournal() throws PoseidonException {
+        JournalStorage storage = new JournalStorage(taskDataPath, JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        storage.storeAdd("T\tfalse\tfinish work\n");
+        storage.storeAdd("D\tfalse\tcomplete work\t2021-09-30T23:59\n"
+                + "E\tfalse\tfinish dinner\t2021-09-30T20:00\t2021-09-30T22:00\n");
+        storage.storeModify(2, "D\ttrue\tcomplete work\t2021-09-30T23:59\n");
+        storage.storeDelete(1);
+
+        ArrayList<Task> tasks = new JournalStorage(taskDataPath, JournalStorage.DEFAULT_COMPACTION_THRESHOLD).load();
+        assertEquals(2, tasks.size());
+        assertEquals("D\ttrue\tcomplete work\t2021-09-30T23:59\n", tasks.get(0).toStorage());
+        assertEquals("E\tfalse\tfinish dinner\t2021-09-30T20:00\t2021-09-30T22:00\n", tasks.get(1).toStorage());
+    }
+
+    @Test
+    public void constructor_existingStorageDocument_seedsSnapshot() throws PoseidonException, IOException {
+        Files.createDirectories(taskDataPath.getParent());
+        Files.writeString(taskDataPath, "T\ttrue\tfinish work\nT\tfalse\tcomplete dinner\n");
+
+        JournalStorage storage = new JournalStorage(taskDataPath, JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        storage.storeDelete(1);
+
+        ArrayList<Task> tasks = storage.load();
+        assertEquals(1, tasks.size());
+        assertEquals("T\tfalse\tcomplete dinner\n", tasks.get(0).toStorage());
+    }
+
+    @Test
+    public void load_deletedIds_idHighWaterMarkKeptAcrossCompaction() throws PoseidonException {
+        JournalStorage storage = new JournalStorage(taskDataPath, JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        storage.storeAdd("T\tfalse\ta\t@1\nT\tfalse\tb\t@2\nT\tfalse\tc\t@3\n");
+        storage.storeDelete(3);
+        storage.storeDelete(1);
+        storage.load();
+        assertEquals(3, storage.getIdHighWaterMark());
+
+        storage.compact();
+        JournalStorage restartedStorage = new JournalStorage(taskDataPath,
+                JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        assertEquals(1, restartedStorage.load().size());
+        assertEquals(3, restartedStorage.getIdHighWaterMark());
+    }
+
+    @Test
+    public void compact_journalRecords_sameTasksAndEmptyJournal() throws PoseidonException, IOException {
+        JournalStorage storage = new JournalStorage(taskDataPath, JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        for (int i = 0; i < 10; i++) {
+            storage.storeAdd("T\tfalse\ttask " + i + "\n");
+        }
+        storage.storeModify(3, "T\ttrue\ttask 2\n");
+        storage.storeDelete(5);
+        ArrayList<Task> beforeCompaction = storage.load();
+
+        storage.compact();
+        storage.storeAdd("T\tfalse\ttask 10\n");
+
+        ArrayList<Task> afterCompaction = new JournalStorage(taskDataPath,
+                JournalStorage.DEFAULT_COMPACTION_THRESHOLD).load();
+        assertEquals(beforeCompaction.size() + 1, afterCompaction.size());
+        for (int i = 0; i < beforeCompaction.size(); i++) {
+            assertEquals(beforeCompaction.get(i).toStorage(), afterCompaction.get(i).toStorage());
+        }
+        assertTrue(Files.size(taskDataPath.resolveSibling("taskData.journal")) < 40);
+    }
+
+    @Test
+    public void load_tornJournalRecord_skippedAndLaterRecordsKept() throws PoseidonException, IOException {
+        JournalStorage storage = new JournalStorage(taskDataPath, JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        storage.storeAdd("T\tfalse\tfinish work\n");
+        storage.storeAdd("T\tfalse\tfinish dinner\n");
+        Path journalPath = taskDataPath.resolveSibling("taskData.journal");
+        Files.writeString(journalPath, Files.readString(journalPath) + "3\tADD\tT\tfalse\tfinish lu");
+
+        storage = new JournalStorage(taskDataPath, JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        assertEquals(2, storage.load().size());
+        assertEquals("Warning: 1 record(s) in taskData.journal were cut short or failed their checksum.\n"
+                + "They were left out and removed from the file.", storage.takeLoadWarning());
+        assertEquals("", storage.takeLoadWarning());
+        storage.storeAdd("T\tfalse\tfinish supper\n");
+
+        ArrayList<Task> tasks = new JournalStorage(taskDataPath, JournalStorage.DEFAULT_COMPACTION_THRESHOLD).load();
+        assertEquals(3, tasks.size());
+        assertEquals("T\tfalse\tfinish supper\n", tasks.get(2).toStorage());
+    }
+
+    @Test
+    public void storeAdd_afterTornAppend_tornBytesCutOff() throws PoseidonException, IOException {
+        JournalStorage storage = new JournalStorage(taskDataPath, JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        storage.storeAdd("T\tfalse\tfinish work\n");
+        Path journalPath = taskDataPath.resolveSibling("taskData.journal");
+        Files.writeString(journalPath, Files.readString(journalPath) + "2\tADD\tT\tfalse\tfinish lu");
+        storage.storeAdd("T\tfalse\tfinish dinner\n");
+
+        assertTrue(Files.readString(journalPath).startsWith("1\tADD\t"));
+        assertTrue(Files.readString(journalPath).contains("\n2\tADD\tT\tfalse\tfinish dinner\t#"));
+        ArrayList<Task> tasks = new JournalStorage(taskDataPath, JournalStorage.DEFAULT_COMPACTION_THRESHOLD).load();
+        assertEquals(2, tasks.size());
+        assertEquals("T\tfalse\tfinish dinner\n", tasks.get(1).toStorage());
+    }
+}
@@ -0,0 +1,118 @@
+package poseidon.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import poseidon.exception.PoseidonException;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.task.Task;
+import poseidon.task.Todo;
+import poseidon.tasklist.TaskList;
+
+/**
+ * Represents a testing class for {@code PagedTaskList}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class PagedTaskListTest {
+
+    private Path taskDataPath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        taskDataPath = Files.createTempDirectory("poseidon").resolve("taskData.txt");
+    }
+
+    @Test
+    public void get_largeDocument_sameTasksAsEagerLoadWithBoundedLiveTasks() throws PoseidonException {
+        Storage storage = new Storage(taskDataPath);
+        StorageBatch batch = new StorageBatch();
+        for (int i = 1; i <= 5000; i++) {
+            batch.add(i % 3 == 0
+                    ? "D\tfalse\tdeadline " + i + "\t2021-09-30T23:59\n"
+                    : "T\tfalse\ttodo " + i + "\n");
+        }
+        storage.storeBatch(batch);
+
+        ArrayList<Task> eagerTasks = storage.load();
+        PagedTaskList pagedTasks = PagedTaskList.open(taskDataPath.toFile(), 64);
+        assertEquals(eagerTasks.size(), pagedTasks.size());
+        for (int i = 0; i < eagerTasks.size(); i++) {
+            assertEquals(eagerTasks.get(i).toStorage(), pagedTasks.get(i).toStorage());
+        }
+        assertEquals(64, pagedTasks.countLiveTasks());
+        assertEquals(eagerTasks.get(0).toStorage(), pagedTasks.get(0).toStorage());
+    }
+
+    @Test
+    public void taskList_doneAddDelete_changesKeptAfterEviction() throws PoseidonException {
+        Storage storage = new Storage(taskDataPath);
+        storage.storeAdd("T\tfalse\tfirst\nT\tfalse\tsecond\nT\tfalse\tthird\n");
+
+        List<Task> tasks = storage.loadPaged(1);
+        TaskList taskList = new TaskList(tasks);
+        taskList.markTaskDone(2);
+        taskList.deleteTask(1);
+        taskList.addTask(new Todo("fourth"));
+        taskList.findTasks("nothing");
+
+        assertEquals(3, tasks.size());
+        assertEquals("T\ttrue\tsecond\n", tasks.get(0).toStorage());
+        assertEquals("T\tfalse\tthird\n", tasks.get(1).toStorage());
+        assertEquals("T\tfalse\tfourth\t@1\n", tasks.get(2).toStorage());
+        assertEquals(2, taskList.findTasks("th").size());
+    }
+
+    @Test
+    public void get_documentReplacedAfterOpen_tasksAsOpened() throws PoseidonException, IOException {
+        Storage storage = new Storage(taskDataPath);
+        storage.storeAdd("T\tfalse\tfirst\nT\tfalse\tsecond\nT\tfalse\tthird\n");
+        PagedTaskList pagedTasks = PagedTaskList.open(taskDataPath.toFile(), 1);
+
+        storage.storeDelete(1);
+        Files.delete(taskDataPath);
+
+        assertEquals("T\tfalse\tsecond\n", pagedTasks.get(1).toStorage());
+        assertEquals("T\tfalse\tthird\n", pagedTasks.get(2).toStorage());
+        assertEquals("T\tfalse\tfirst\n", pagedTasks.get(0).toStorage());
+    }
+
+    @Test
+    public void open_tornRecord_null() throws PoseidonException, IOException {
+        Storage storage = new Storage(taskDataPath);
+        storage.storeAdd("T\tfalse\tfinish work\n");
+        Files.writeString(taskDataPath, Files.readString(taskDataPath) + "T\tfalse\tfinish lu");
+
+        assertNull(PagedTaskList.open(taskDataPath.toFile(), 16));
+        List<Task> tasks = storage.loadPaged(16);
+        assertEquals(1, tasks.size());
+        assertTrue(tasks instanceof ArrayList);
+    }
+
+    @Test
+    public void open_unparsableDateTime_nullAndErrorOnLoad() throws PoseidonException, IOException {
+        Storage storage = new Storage(taskDataPath);
+        storage.storeAdd("T\tfalse\tfinish work\n");
+        Files.writeString(taskDataPath, Files.readString(taskDataPath) + "D\tfalse\treport\t2021-13-01T09:00\n");
+
+        assertNull(PagedTaskList.open(taskDataPath.toFile(), 16));
+        try {
+            storage.loadPaged(16);
+            fail();
+        } catch (PoseidonStorageReadWriteException ex) {
+            assertTrue(ex.getMessage().contains("Following errors found during loading"), ex.getMessage());
+        }
+    }
+}
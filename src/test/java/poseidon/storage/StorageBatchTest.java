@@ -0,0 +1,91 @@
+package poseidon.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import poseidon.exception.PoseidonException;
+import poseidon.task.Task;
+
+/**
+ * Represents a testing class for {@code StorageBatch}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class StorageBatchTest {
+
+    private Path taskDataPath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        taskDataPath = Files.createTempDirectory("poseidon").resolve("taskData.txt");
+    }
+
+    @Test
+    public void toMutations_indexesBeforeBatch_modificationsThenDescendingDeletionsThenAdditions() {
+        List<StorageMutation> mutations = new StorageBatch()
+                .delete(2)
+                .add("T\tfalse\tfinish supper")
+                .modify(4, "T\ttrue\tfourth\n")
+                .delete(5)
+                .modify(2, "T\ttrue\tsecond\n")
+                .delete(2)
+                .toMutations();
+
+        assertEquals(4, mutations.size());
+        assertEquals(StorageMutation.Type.MODIFY, mutations.get(0).getType());
+        assertEquals(4, mutations.get(0).getIndex());
+        assertEquals(StorageMutation.Type.DELETE, mutations.get(1).getType());
+        assertEquals(5, mutations.get(1).getIndex());
+        assertEquals(2, mutations.get(2).getIndex());
+        assertEquals(StorageMutation.Type.ADD, mutations.get(3).getType());
+        assertEquals("T\tfalse\tfinish supper\n", mutations.get(3).getTaskStorage());
+    }
+
+    @Test
+    public void storeBatch_everyEngine_sameTasks() throws PoseidonException {
+        List<StorageBackend> engines = List.of(new Storage(taskDataPath),
+                new JournalStorage(taskDataPath.resolveSibling("journal.txt"),
+                        JournalStorage.DEFAULT_COMPACTION_THRESHOLD),
+                new FixedWidthStorage(taskDataPath.resolveSibling("fixed.txt")),
+                new BinaryStorage(taskDataPath.resolveSibling("binary.txt")),
+                new InMemoryStorage());
+
+        for (StorageBackend engine : engines) {
+            StorageBatch seedBatch = new StorageBatch();
+            for (int i = 1; i <= 200; i++) {
+                seedBatch.add("T\tfalse\ttask number " + i + "\n");
+            }
+            engine.storeBatch(seedBatch);
+
+            StorageBatch batch = new StorageBatch();
+            for (int i = 1; i <= 200; i += 2) {
+                batch.modify(i, "T\ttrue\ttask number " + i + "\n");
+            }
+            for (int i = 10; i <= 200; i += 10) {
+                batch.delete(i);
+            }
+            batch.modify(3, "E\tfalse\tfinish dinner\t2021-09-30T20:00\t2021-09-30T22:00\n");
+            batch.add("D\tfalse\tcomplete work\t2021-09-30T23:59\n");
+            engine.storeBatch(batch);
+            engine.storeModify(181, "D\ttrue\tcomplete work\t2021-09-30T23:59\n");
+
+            ArrayList<Task> tasks = engine.load();
+            assertEquals(181, tasks.size());
+            assertEquals("T\ttrue\ttask number 1\n", tasks.get(0).toStorage());
+            assertEquals("T\tfalse\ttask number 2\n", tasks.get(1).toStorage());
+            assertEquals("E\tfalse\tfinish dinner\t2021-09-30T20:00\t2021-09-30T22:00\n", tasks.get(2).toStorage());
+            assertEquals("T\ttrue\ttask number 11\n", tasks.get(9).toStorage());
+            assertEquals("T\ttrue\ttask number 199\n", tasks.get(179).toStorage());
+            assertEquals("D\ttrue\tcomplete work\t2021-09-30T23:59\n", tasks.get(180).toStorage());
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package poseidon.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import poseidon.exception.PoseidonException;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.task.Task;
+import poseidon.task.Todo;
+import poseidon.tasklist.TaskList;
+
+/**
+ * Represents a testing class for {@code Storage}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class StorageTest {
+
+    private Path taskDataPath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        taskDataPath = Files.createTempDirectory("poseidon").resolve("taskData.txt");
+    }
+
+    @Test
+    public void load_windowsLineEndingsAndNoTrailingNewline_allTasks() throws PoseidonException, IOException {
+        Files.createDirectories(taskDataPath.getParent());
+        Files.writeString(taskDataPath, "T\tTRUE\tfinish work\r\n"
+                + "\r\n"
+                + "D\tfalse\tcomplete work\t2021-09-30T23:59\r\n"
+                + "E\tfalse\tfinish dinner\t2021-09-30T20:00\t2021-09-30T22:00");
+
+        ArrayList<Task> tasks = new Storage(taskDataPath).load();
+        assertEquals(3, tasks.size());
+        assertEquals("T\ttrue\tfinish work\n", tasks.get(0).toStorage());
+        assertEquals("D\tfalse\tcomplete work\t2021-09-30T23:59\n", tasks.get(1).toStorage());
+        assertEquals("E\tfalse\tfinish dinner\t2021-09-30T20:00\t2021-09-30T22:00\n", tasks.get(2).toStorage());
+    }
+
+    @Test
+    public void load_invalidDateTimes_errorsWithLineNumbers() throws PoseidonException, IOException {
+        Files.createDirectories(taskDataPath.getParent());
+        Files.writeString(taskDataPath, "T\tfalse\tfinish work\n"
+                + "D\tfalse\tcomplete work\t2021-09-31T23:59\n"
+                + "T\tfalse\tfinish dinner\n"
+                + "E\tfalse\tfinish dinner\tyesterday\t2021-09-30T22:00\n");
+
+        try {
+            new Storage(taskDataPath).load();
+            fail();
+        } catch (PoseidonStorageReadWriteException ex) {
+            assertTrue(ex.getMessage().contains("'2021-09-31T23:59' could not be parsed"));
+            assertTrue(ex.getMessage().contains(" at line 2.\n"));
+            assertTrue(ex.getMessage().contains("'yesterday' could not be parsed"));
+            assertTrue(ex.getMessage().contains(" at line 4.\n"));
+        }
+    }
+
+    @Test
+    public void load_largeDocument_tasksInOrderAndGlobalLineNumbers() throws PoseidonException, IOException {
+        int lineCount = 60000;
+        StringBuilder taskData = new StringBuilder();
+        for (int i = 1; i <= lineCount; i++) {
+            if (i == 7 || i == 45678) {
+                taskData.append("D\tfalse\tbroken " + i + "\t2021-13-01T10:00\n");
+            } else {
+                taskData.append("T\tfalse\ttask number " + i + "\n");
+            }
+        }
+        Files.createDirectories(taskDataPath.getParent());
+        Files.writeString(taskDataPath, taskData);
+
+        try {
+            new Storage(taskDataPath).load();
+            fail();
+        } catch (PoseidonStorageReadWriteException ex) {
+            assertTrue(ex.getMessage().contains(" at line 7.\n"));
+            assertTrue(ex.getMessage().contains(" at line 45678.\n"));
+        }
+
+        Files.writeString(taskDataPath, taskData.toString().replace("2021-13-01", "2021-12-01"));
+        ArrayList<Task> tasks = new Storage(taskDataPath).load();
+        assertEquals(lineCount, tasks.size());
+        String[] expectedLines = taskData.toString().replace("2021-13-01", "2021-12-01").split("\n");
+        for (int i = 0; i < lineCount; i++) {
+            assertEquals(expectedLines[i] + "\n", tasks.get(i).toStorage());
+        }
+    }
+
+    @Test
+    public void load_tornRecords_skippedAndDropped() throws PoseidonException, IOException {
+        Storage storage = new Storage(taskDataPath);
+        storage.storeAdd("T\tfalse\tfinish work\n");
+        storage.storeAdd("D\tfalse\tcomplete work\t2021-09-30T23:59\n");
+        storage.storeAdd("T\tfalse\tfinish dinner\n");
+        String taskData = Files.readString(taskDataPath);
+        Files.writeString(taskDataPath, taskData.replace("complete work", "complete wurk") + "T\tfalse\tfinish lun");
+
+        Storage reloadedStorage = new Storage(taskDataPath);
+        ArrayList<Task> tasks = reloadedStorage.load();
+        assertEquals(2, tasks.size());
+        assertEquals("T\tfalse\tfinish work\n", tasks.get(0).toStorage());
+        assertEquals("T\tfalse\tfinish dinner\n", tasks.get(1).toStorage());
+        assertEquals("Warning: 2 record(s) in taskData.txt were cut short or failed their checksum.\n"
+                + "They were left out and removed from the file.", reloadedStorage.takeLoadWarning());
+        assertEquals("", reloadedStorage.takeLoadWarning());
+
+        storage.storeModify(2, "T\ttrue\tfinish dinner\n");
+        tasks = new Storage(taskDataPath).load();
+        assertEquals(2, tasks.size());
+        assertEquals("T\ttrue\tfinish dinner\n", tasks.get(1).toStorage());
+        assertFalse(Files.exists(taskDataPath.resolveSibling("taskData.txt.tmp")));
+    }
+
+    @Test
+    public void load_idFields_validIdsKept() throws PoseidonException, IOException {
+        Files.createDirectories(taskDataPath.getParent());
+        Files.writeString(taskDataPath, "T\tfalse\tfinish work\t@7\n"
+                + "E\ttrue\tfinish dinner\t2021-09-30T20:00\t2021-09-30T22:00\t@42\n"
+                + "T\tfalse\tcomplete work\n"
+                + "T\tfalse\tcomplete dinner\t@x1\n");
+
+        ArrayList<Task> tasks = new Storage(taskDataPath).load();
+        assertEquals(4, tasks.size());
+        assertEquals(7, tasks.get(0).getId());
+        assertEquals(42, tasks.get(1).getId());
+        assertEquals(0, tasks.get(2).getId());
+        assertEquals(0, tasks.get(3).getId());
+        assertEquals("E\ttrue\tfinish dinner\t2021-09-30T20:00\t2021-09-30T22:00\t@42\n", tasks.get(1).toStorage());
+    }
+
+    @Test
+    public void load_afterHighestIdDeleted_deletedIdNotGivenOutAgain() throws PoseidonException, IOException {
+        Storage storage = new Storage(taskDataPath);
+        TaskList taskList = new TaskList(storage.load(), storage.getIdHighWaterMark());
+        for (String description : List.of("a", "b", "c")) {
+            taskList.addTask(new Todo(description));
+            storage.storeAdd(taskList.getTaskStorage(taskList.getList().size()));
+        }
+        taskList.deleteTask(3);
+        storage.storeDelete(3);
+
+        Storage restartedStorage = new Storage(taskDataPath);
+        TaskList restartedTaskList = new TaskList(restartedStorage.load(), restartedStorage.getIdHighWaterMark());
+        Todo todo = new Todo("d");
+        restartedTaskList.addTask(todo);
+        assertEquals(4, todo.getId());
+        assertTrue(Files.readString(taskDataPath).startsWith("N\t@3\n"));
+
+        Storage pagedStorage = new Storage(taskDataPath);
+        assertEquals(2, pagedStorage.loadPaged(1).size());
+        assertEquals(3, pagedStorage.getIdHighWaterMark());
+    }
+
+    @Test
+    public void storeAdd_legacyDocumentWithoutTrailingNewline_allTasksKept() throws PoseidonException, IOException {
+        Files.createDirectories(taskDataPath.getParent());
+        Files.writeString(taskDataPath, "T\tfalse\tfinish work\nT\tfalse\t#0badcafe");
+
+        Storage storage = new Storage(taskDataPath);
+        storage.storeAdd("T\tfalse\tfinish dinner\n");
+
+        ArrayList<Task> tasks = storage.load();
+        assertEquals(3, tasks.size());
+        assertEquals("T\tfalse\t#0badcafe\n", tasks.get(1).toStorage());
+        assertEquals("T\tfalse\tfinish dinner\n", tasks.get(2).toStorage());
+    }
+}
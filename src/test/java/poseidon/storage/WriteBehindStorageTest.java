@@ -0,0 +1,119 @@
+package poseidon.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import poseidon.exception.PoseidonException;
+import poseidon.exception.PoseidonStorageException;
+import poseidon.exception.PoseidonStorageReadWriteException;
+import poseidon.task.Task;
+
+/**
+ * Represents a testing class for {@code WriteBehindStorage}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class WriteBehindStorageTest {
+
+    private Path taskDataPath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        taskDataPath = Files.createTempDirectory("poseidon").resolve("taskData.txt");
+    }
+
+    @Test
+    public void withDurability_sync_sameStorage() throws PoseidonException {
+        StorageBackend storage = new Storage(taskDataPath);
+        assertSame(storage, WriteBehindStorage.withDurability(storage, "sync"));
+    }
+
+    @Test
+    public void withDurability_unknownDurability_exceptionThrown() throws PoseidonException {
+        StorageBackend storage = new InMemoryStorage();
+        assertThrows(PoseidonStorageException.class, () -> WriteBehindStorage.withDurability(storage, "sometimes"));
+    }
+
+    @Test
+    public void flush_onExit_writtenOnlyOnFlush() throws PoseidonException, IOException {
+        StorageBackend storage = WriteBehindStorage.withDurability(new Storage(taskDataPath), "on-exit");
+        storage.storeAdd("T\tfalse\tfinish work\n");
+        storage.storeAdd("D\tfalse\tcomplete work\t2021-09-30T23:59\n");
+        storage.storeModify(1, "T\ttrue\tfinish work\n");
+        storage.storeAdd("T\tfalse\tfinish dinner\n");
+        storage.storeDelete(2);
+        assertEquals("", Files.readString(taskDataPath));
+
+        storage.flush();
+        ArrayList<Task> tasks = new Storage(taskDataPath).load();
+        assertEquals(2, tasks.size());
+        assertEquals("T\ttrue\tfinish work\n", tasks.get(0).toStorage());
+        assertEquals("T\tfalse\tfinish dinner\n", tasks.get(1).toStorage());
+    }
+
+    @Test
+    public void storeAdd_batched_writtenAfterCommitWindow() throws PoseidonException, IOException,
+            InterruptedException {
+        StorageBackend storage = WriteBehindStorage.withDurability(new Storage(taskDataPath), "batched-10-ms");
+        for (int i = 1; i <= 100; i++) {
+            storage.storeAdd("T\tfalse\ttask number " + i + "\n");
+        }
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (Files.readAllLines(taskDataPath).size() < 100 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(100, Files.readAllLines(taskDataPath).size());
+        assertTrue(Files.readString(taskDataPath).contains("T\tfalse\ttask number 100\t"));
+    }
+
+    @Test
+    public void storeDelete_afterFailedFlush_queuedAndWrittenByNextFlush() throws PoseidonException {
+        FailingStorage failingStorage = new FailingStorage();
+        StorageBackend storage = WriteBehindStorage.withDurability(failingStorage, "on-exit");
+        storage.storeAdd("T\tfalse\tfirst\n");
+        storage.storeAdd("T\tfalse\tsecond\n");
+        storage.storeAdd("T\tfalse\tthird\n");
+
+        failingStorage.isFailing = true;
+        assertThrows(PoseidonStorageReadWriteException.class, storage::flush);
+        assertThrows(PoseidonStorageReadWriteException.class, () -> storage.storeDelete(1));
+        assertThrows(PoseidonStorageReadWriteException.class, storage::flush);
+
+        failingStorage.isFailing = false;
+        storage.flush();
+        storage.storeModify(2, "T\ttrue\tthird\n");
+        storage.flush();
+        ArrayList<Task> tasks = failingStorage.load();
+        assertEquals(2, tasks.size());
+        assertEquals("T\tfalse\tsecond\n", tasks.get(0).toStorage());
+        assertEquals("T\ttrue\tthird\n", tasks.get(1).toStorage());
+    }
+
+    // In-memory storage whose batch writes fail while it is set to.
+    private static class FailingStorage extends InMemoryStorage {
+
+        private volatile boolean isFailing;
+
+        @Override
+        public synchronized void storeBatch(List<StorageMutation> mutations)
+                throws PoseidonStorageReadWriteException {
+            if (isFailing) {
+                throw new PoseidonStorageReadWriteException("disk full");
+            }
+            super.storeBatch(mutations);
+        }
+    }
+}
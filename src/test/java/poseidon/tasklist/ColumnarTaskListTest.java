@@ -0,0 +1,123 @@
+package poseidon.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import poseidon.task.Deadline;
+import poseidon.task.Event;
+import poseidon.task.Task;
+import poseidon.task.Todo;
+
+/**
+ * Represents a testing class for {@code ColumnarTaskList}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class ColumnarTaskListTest {
+
+    private static final LocalDateTime START_DATE_TIME = LocalDateTime.of(2021, 9, 30, 20, 0);
+
+    @Test
+    public void get_allTaskTypes_sameStorageAsOriginals() {
+        ArrayList<Task> tasks = createTasks(5);
+        tasks.get(1).setDone();
+        tasks.get(2).setId(42);
+
+        assertEquals(toStorage(tasks), toStorage(new ColumnarTaskList(tasks)));
+    }
+
+    @Test
+    public void addAndRemove_acrossDoneWords_sameAsArrayList() {
+        ArrayList<Task> expected = createTasks(300);
+        ColumnarTaskList columnarTasks = new ColumnarTaskList(expected);
+        for (int i = 0; i < 40; i++) {
+            int index = i * 37 % expected.size();
+            assertEquals(expected.remove(index).toStorage(), columnarTasks.remove(index).toStorage());
+            Task newTask = new Todo("inserted todo " + i, i % 3 == 0);
+            expected.add(i * 61 % expected.size(), newTask);
+            columnarTasks.add(i * 61 % columnarTasks.size(), newTask);
+        }
+
+        assertEquals(toStorage(expected), toStorage(columnarTasks));
+    }
+
+    @Test
+    public void add_afterTailRemovedAndArenaCompacted_taskAppended() {
+        ArrayList<Task> expected = createTasks(8);
+        ColumnarTaskList columnarTasks = new ColumnarTaskList(expected);
+        expected.remove(7);
+        columnarTasks.remove(7);
+        for (int i = 0; i < 4; i++) {
+            expected.remove(0);
+            columnarTasks.remove(0);
+        }
+        Task newTask = new Todo("x");
+        expected.add(newTask);
+        columnarTasks.add(newTask);
+
+        assertEquals(toStorage(expected), toStorage(columnarTasks));
+    }
+
+    @Test
+    public void set_doneAndNewDescriptions_changesKeptAndArenaCompacted() {
+        ArrayList<Task> tasks = createTasks(64);
+        ColumnarTaskList columnarTasks = new ColumnarTaskList(tasks);
+        long initialBytes = columnarTasks.estimateBytes();
+        TaskList taskList = new TaskList(columnarTasks);
+        taskList.markTaskDone(64);
+        assertTrue(columnarTasks.get(63).isDone());
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < tasks.size(); i++) {
+                Task task = new Todo("renamed todo " + round + " " + i);
+                tasks.set(i, task);
+                columnarTasks.set(i, task);
+            }
+        }
+
+        assertEquals(toStorage(tasks), toStorage(columnarTasks));
+        assertTrue(columnarTasks.estimateBytes() < initialBytes * 4);
+    }
+
+    @Test
+    public void findTasks_variousContents_sameAsHasContent() {
+        ArrayList<Task> tasks = createTasks(100);
+        ColumnarTaskList columnarTasks = new ColumnarTaskList(tasks);
+        for (String content : new String[] {"", "todo", "\u00e9t\u00e9 4", "t 9", "event 99", "missing"}) {
+            List<Task> expected = tasks.stream()
+                    .filter((task) -> task.hasContent(content))
+                    .collect(Collectors.toList());
+            assertEquals(toStorage(expected), toStorage(columnarTasks.findTasks(content)));
+        }
+    }
+
+    private static ArrayList<Task> createTasks(int count) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            switch (i % 3) {
+            case 0:
+                tasks.add(new Todo("todo \u00e9t\u00e9 " + i, i % 4 == 0));
+                break;
+            case 1:
+                tasks.add(new Deadline("deadline " + i, i % 5 == 0, START_DATE_TIME.plusMinutes(i)));
+                break;
+            default:
+                tasks.add(new Event("event " + i, i % 7 == 0, START_DATE_TIME.minusDays(i),
+                        START_DATE_TIME.plusHours(i)));
+                break;
+            }
+        }
+        return tasks;
+    }
+
+    private static List<String> toStorage(List<Task> tasks) {
+        return tasks.stream().map(Task::toStorage).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,226 @@
+package poseidon.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import poseidon.task.Deadline;
+import poseidon.task.Event;
+import poseidon.task.Task;
+import poseidon.task.Todo;
+
+/**
+ * Represents a testing class for {@code ConcurrentTaskList}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class ConcurrentTaskListTest {
+
+    private static final int ADDER_COUNT = 3;
+    private static final int READER_COUNT = 4;
+    private static final int ADDS_PER_ADDER = 2000;
+
+    @Test
+    public void getList_taskAddedLater_snapshotUnchanged() {
+        ConcurrentTaskList taskList = new ConcurrentTaskList();
+        taskList.addTask(new Todo("first"));
+        List<Task> snapshot = taskList.getList();
+
+        assertEquals(snapshot, taskList.getList());
+        taskList.addTask(new Todo("second"));
+
+        assertEquals(1, snapshot.size());
+        assertEquals(2, taskList.getList().size());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(new Todo("third")));
+    }
+
+    @Test
+    public void getList_taskMarkedDoneLater_sharedTaskSeenAsDone() {
+        ConcurrentTaskList taskList = new ConcurrentTaskList();
+        taskList.addTask(new Todo("first"));
+        List<Task> snapshot = taskList.getList();
+        taskList.markTaskDone(1);
+
+        assertTrue(snapshot.get(0).isDone());
+        assertEquals(taskList.getList().get(0), snapshot.get(0));
+    }
+
+    @Test
+    public void read_changeInProgress_answeredWithoutWaiting() throws InterruptedException {
+        ConcurrentTaskList taskList = new ConcurrentTaskList();
+        taskList.addTask(new Todo("first"));
+        CountDownLatch isAdding = new CountDownLatch(1);
+        CountDownLatch isReadDone = new CountDownLatch(1);
+        Thread writer = new Thread(() -> taskList.addTask(new Todo("second") {
+            @Override
+            public String getDescription() {
+                isAdding.countDown();
+                try {
+                    isReadDone.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getDescription();
+            }
+        }));
+        writer.start();
+        isAdding.await();
+
+        assertEquals(1, taskList.countTasksByStatus(false));
+        assertEquals(1, taskList.findTasks("first").size());
+        isReadDone.countDown();
+        writer.join();
+        assertEquals(2, taskList.countTasksByStatus(false));
+    }
+
+    @Test
+    public void getList_onDemandList_viewFailsAfterChange() {
+        ConcurrentTaskList taskList = new ConcurrentTaskList(new ColumnarTaskList(List.of(new Todo("first"))));
+        List<Task> view = taskList.getList();
+        assertEquals("first", view.get(0).getDescription());
+        assertEquals(1, taskList.streamTasks().count());
+
+        taskList.addTask(new Todo("second"));
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+        assertEquals(2, taskList.getList().size());
+        assertEquals(1, taskList.streamFoundTasks("second").count());
+        assertEquals("first", taskList.streamSortedTasks().findFirst().get().getDescription());
+        assertThrows(UnsupportedOperationException.class, () -> taskList.getList().add(new Todo("third")));
+    }
+
+    @Test
+    public void parallelReadsAndWrites_readsStayConsistent() throws InterruptedException {
+        ConcurrentTaskList taskList = new ConcurrentTaskList();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ArrayList<Thread> writers = new ArrayList<>();
+        ArrayList<Thread> readers = new ArrayList<>();
+
+        for (int i = 0; i < ADDER_COUNT; i++) {
+            int adder = i;
+            writers.add(new Thread(() -> runAdder(taskList, adder, start, failures)));
+        }
+        writers.add(new Thread(() -> runChanger(taskList, start, failures)));
+        for (int i = 0; i < READER_COUNT; i++) {
+            readers.add(new Thread(() -> runReader(taskList, isWriting, start, failures)));
+        }
+        writers.forEach(Thread::start);
+        readers.forEach(Thread::start);
+        start.countDown();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        isWriting.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertTrue(failures.isEmpty(), () -> "Reads or writes failed: " + failures);
+        List<Task> tasks = taskList.getList();
+        assertIdsAscending(tasks);
+        assertEquals(tasks.stream().filter(Task::isDone).count(), taskList.countTasksByStatus(true));
+        assertEquals(tasks.stream().filter((task) -> !task.isDone()).count(), taskList.countTasksByStatus(false));
+        assertEquals(tasks.stream().filter((task) -> task.hasContent("alpha")).collect(Collectors.toList()),
+                taskList.findTasks("alpha"));
+        assertEquals(tasks.stream().sorted().collect(Collectors.toList()), taskList.sortTasks());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(i + 1, taskList.findIndexById(tasks.get(i).getId()));
+        }
+    }
+
+    private static void runAdder(ConcurrentTaskList taskList, int adder, CountDownLatch start,
+            ConcurrentLinkedQueue<Throwable> failures) {
+        try {
+            start.await();
+            LocalDateTime base = LocalDateTime.of(2021, 9, 1, 0, 0);
+            for (int i = 0; i < ADDS_PER_ADDER; i++) {
+                String description = (i % 2 == 0 ? "alpha " : "beta ") + adder + " " + i;
+                switch (i % 3) {
+                case 0:
+                    taskList.addTask(new Todo(description));
+                    break;
+                case 1:
+                    taskList.addTask(new Deadline(description, base.plusMinutes(i * 7 % 1000)));
+                    break;
+                default:
+                    taskList.addTask(new Event(description, base.plusMinutes(i * 11 % 1000),
+                            base.plusMinutes(i * 11 % 1000 + 60)));
+                    break;
+                }
+            }
+        } catch (Throwable ex) {
+            failures.add(ex);
+        }
+    }
+
+    private static void runChanger(ConcurrentTaskList taskList, CountDownLatch start,
+            ConcurrentLinkedQueue<Throwable> failures) {
+        try {
+            start.await();
+            Random random = new Random(2103);
+            for (int i = 0; i < ADDS_PER_ADDER; i++) {
+                // Adders only append, so an index checked here stays valid for this thread.
+                int size = taskList.getList().size();
+                if (size == 0) {
+                    continue;
+                }
+                int taskIndex = random.nextInt(size) + 1;
+                if (i % 2 == 0) {
+                    taskList.markTaskDone(taskIndex);
+                } else {
+                    taskList.deleteTask(taskIndex);
+                }
+            }
+        } catch (Throwable ex) {
+            failures.add(ex);
+        }
+    }
+
+    private static void runReader(ConcurrentTaskList taskList, AtomicBoolean isWriting, CountDownLatch start,
+            ConcurrentLinkedQueue<Throwable> failures) {
+        try {
+            start.await();
+            LocalDateTime from = LocalDateTime.of(2021, 9, 1, 2, 0);
+            while (isWriting.get()) {
+                assertIdsAscending(taskList.getList());
+                for (Task task : taskList.findTasks("alpha")) {
+                    assertTrue(task.hasContent("alpha"));
+                }
+                List<Task> sortedTasks = new ArrayList<>(taskList.sortTasks());
+                for (int i = 1; i < sortedTasks.size(); i++) {
+                    assertTrue(sortedTasks.get(i - 1).compareTo(sortedTasks.get(i)) <= 0);
+                }
+                for (Task task : taskList.listTasksByStatus(true)) {
+                    assertTrue(task.isDone());
+                }
+                for (Task task : taskList.listTasksBetween(from, from.plusHours(1))) {
+                    assertTrue(!task.getDateTime().isBefore(from) && !task.getDateTime().isAfter(from.plusHours(1)));
+                }
+                assertTrue(taskList.countTasksByStatus(true) >= 0);
+            }
+        } catch (Throwable ex) {
+            failures.add(ex);
+        }
+    }
+
+    private static void assertIdsAscending(List<Task> tasks) {
+        for (int i = 1; i < tasks.size(); i++) {
+            assertTrue(tasks.get(i - 1).getId() < tasks.get(i).getId(), "IDs are supposed to ascend in a snapshot");
+        }
+    }
+}
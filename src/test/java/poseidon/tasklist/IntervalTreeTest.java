@@ -0,0 +1,85 @@
+package poseidon.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import poseidon.task.Deadline;
+import poseidon.task.Event;
+import poseidon.task.Task;
+import poseidon.task.Todo;
+
+/**
+ * Represents a testing class for {@code IntervalTree}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class IntervalTreeTest {
+
+    private static final LocalDateTime START_DATE_TIME = LocalDateTime.of(2021, 10, 5, 14, 0);
+
+    @Test
+    public void findEventsBetween_afterAddsAndDeletes_sameAsScan() {
+        Random random = new Random(2103);
+        ArrayList<Task> arrayList = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            arrayList.add(randomTask(random, i));
+        }
+        TaskList taskList = new TaskList(arrayList);
+        for (int i = 0; i < 200; i++) {
+            taskList.deleteTask(1 + random.nextInt(taskList.getList().size()));
+            taskList.addTask(randomTask(random, 300 + i));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime from = START_DATE_TIME.plusMinutes(random.nextInt(3000));
+            LocalDateTime to = from.plusMinutes(random.nextInt(3) == 0 ? 0 : random.nextInt(300));
+            List<Task> expected = taskList.getList().stream()
+                    .filter((task) -> task instanceof Event)
+                    .filter((task) -> !task.getDateTime().isAfter(to) && !((Event) task).getToDateTime().isBefore(from))
+                    .sorted()
+                    .collect(Collectors.toList());
+            assertEquals(expected, taskList.findEventsBetween(from, to));
+        }
+    }
+
+    @Test
+    public void remove_everyEvent_emptyTree() {
+        IntervalTree intervalTree = new IntervalTree();
+        ArrayList<Event> events = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            events.add(new Event("event " + i, START_DATE_TIME.plusHours(i % 7),
+                    START_DATE_TIME.plusHours(i % 7 + i % 3)));
+            intervalTree.add(i, events.get(i));
+        }
+        for (int i = 49; i >= 0; i -= 2) {
+            intervalTree.remove(i, events.get(i));
+        }
+        for (int i = 0; i < 50; i += 2) {
+            intervalTree.remove(i, events.get(i));
+        }
+        ArrayList<Task> overlappingEvents = new ArrayList<>();
+        intervalTree.collectOverlapping(LocalDateTime.MIN, LocalDateTime.MAX, overlappingEvents);
+        assertEquals(0, intervalTree.size());
+        assertEquals(0, overlappingEvents.size());
+    }
+
+    private static Task randomTask(Random random, int taskNumber) {
+        LocalDateTime from = START_DATE_TIME.plusMinutes(random.nextInt(3000));
+        switch (random.nextInt(4)) {
+        case 0:
+            return new Todo("todo " + taskNumber);
+        case 1:
+            return new Deadline("deadline " + taskNumber, from);
+        default:
+            return new Event("event " + taskNumber, from, from.plusMinutes(random.nextInt(500)));
+        }
+    }
+}
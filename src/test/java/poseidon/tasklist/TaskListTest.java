@@ -1,11 +1,21 @@
 package poseidon.tasklist;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import poseidon.task.Deadline;
+import poseidon.task.Event;
 import poseidon.task.Task;
 import poseidon.task.Todo;
 
@@ -34,12 +44,169 @@ public class TaskListTest {
         assertEquals(size, taskList.getList().size());
     }
 
+    @Test
+    public void taskListConstructor_listsHeldInMemory_indexed() {
+        List<Task> arrayList = new ArrayList<>(List.of(new Todo("todo 1"), new Todo("todo 2")));
+        List<List<Task>> heldLists = List.of(arrayList, new LinkedList<>(arrayList),
+                Arrays.asList(arrayList.get(0)), Collections.unmodifiableList(arrayList));
+        for (List<Task> tasks : heldLists) {
+            assertTrue(new TaskList(tasks).isHeldInMemory());
+        }
+        assertFalse(new TaskList(new ColumnarTaskList(arrayList)).isHeldInMemory());
+        assertFalse(new TaskList(arrayList, false).isHeldInMemory());
+    }
+
     @Test
     public void addTask_newTasks_addCorrectTask() {
         TaskList taskList = new TaskList();
-        ArrayList<Task> arrayListInsideTaskList = taskList.getList();
+        List<Task> arrayListInsideTaskList = taskList.getList();
         Todo todo = new Todo("sample todo object");
         taskList.addTask(todo);
         assertEquals(todo, arrayListInsideTaskList.get(arrayListInsideTaskList.size() - 1));
     }
+
+    @Test
+    public void sortTasks_afterAddsAndDeletes_sameAsStableSort() {
+        LocalDateTime startDateTime = LocalDateTime.of(2021, 10, 5, 14, 0);
+        ArrayList<Task> arrayList = new ArrayList<>();
+        arrayList.add(new Todo("first todo"));
+        arrayList.add(new Deadline("late deadline", startDateTime.plusDays(2)));
+        arrayList.add(new Event("early event", startDateTime, startDateTime.plusHours(1)));
+        arrayList.add(new Deadline("tied deadline", startDateTime));
+        TaskList taskList = new TaskList(arrayList);
+        taskList.addTask(new Todo("second todo"));
+        taskList.addTask(new Deadline("middle deadline", startDateTime.plusDays(1)));
+        taskList.deleteTask(2);
+        taskList.addTask(new Event("tied event", startDateTime, startDateTime.plusHours(2)));
+        taskList.markTaskDone(3);
+
+        List<Task> expected = taskList.getList().stream().sorted().collect(Collectors.toList());
+        assertEquals(expected, new ArrayList<>(taskList.sortTasks()));
+    }
+
+    @Test
+    public void listTasksBetween_afterAddsAndDeletes_sameAsFilteredStableSort() {
+        LocalDateTime startDateTime = LocalDateTime.of(2021, 10, 5, 14, 0);
+        ArrayList<Task> arrayList = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            arrayList.add(new Deadline("deadline " + i, startDateTime.plusHours(i % 7)));
+            arrayList.add(new Event("event " + i, startDateTime.plusHours(i % 5), startDateTime.plusDays(1)));
+            arrayList.add(new Todo("todo " + i));
+        }
+        TaskList taskList = new TaskList(arrayList);
+        taskList.deleteTask(4);
+        taskList.addTask(new Deadline("new deadline", startDateTime.plusHours(2)));
+
+        LocalDateTime from = startDateTime.plusHours(1);
+        LocalDateTime to = startDateTime.plusHours(3);
+        List<Task> expected = taskList.getList().stream()
+                .filter((task) -> !task.getDateTime().isBefore(from) && !task.getDateTime().isAfter(to))
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(expected, new ArrayList<>(taskList.listTasksBetween(from, to)));
+        assertEquals(0, taskList.listTasksBetween(to.plusDays(1), to.plusDays(2)).size());
+    }
+
+    @Test
+    public void findNextTasks_indexedAndScanned_earliestPendingTasks() {
+        LocalDateTime startDateTime = LocalDateTime.of(2021, 10, 5, 14, 0);
+        ArrayList<Task> arrayList = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            arrayList.add(new Deadline("deadline " + i, startDateTime.plusHours(i % 7 - 2)));
+            arrayList.add(new Event("event " + i, startDateTime.plusHours(i % 5 - 1), startDateTime.plusDays(1)));
+            arrayList.add(new Todo("todo " + i));
+            if (i % 4 == 0) {
+                arrayList.get(arrayList.size() - 2).setDone();
+            }
+        }
+        TaskList indexedTaskList = new TaskList(arrayList);
+        TaskList scannedTaskList = new TaskList(arrayList, false);
+
+        List<Task> expected = arrayList.stream()
+                .filter((task) -> !task.isDone() && task.getDateTime().isAfter(startDateTime))
+                .filter((task) -> !(task instanceof Todo))
+                .sorted()
+                .limit(12)
+                .collect(Collectors.toList());
+        assertEquals(expected, indexedTaskList.findNextTasks(startDateTime, 12));
+        assertEquals(expected, scannedTaskList.findNextTasks(startDateTime, 12));
+        assertEquals(0, indexedTaskList.findNextTasks(startDateTime.plusDays(1), 12).size());
+        assertEquals(0, scannedTaskList.findNextTasks(startDateTime, 0).size());
+    }
+
+    @Test
+    public void countTasksByStatus_afterAddsDonesAndDeletes_sameAsScan() {
+        ArrayList<Task> arrayList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            arrayList.add(new Todo("todo " + i));
+            if (i % 3 == 0) {
+                arrayList.get(i).setDone();
+            }
+        }
+        TaskList taskList = new TaskList(arrayList);
+        for (int i = 1; i <= 40; i++) {
+            taskList.markTaskDone(i * 2);
+            taskList.deleteTask(i);
+            taskList.addTask(new Todo("new todo " + i));
+        }
+
+        for (boolean isDone : new boolean[] {true, false}) {
+            List<Task> expected = taskList.getList().stream()
+                    .filter((task) -> task.isDone() == isDone)
+                    .collect(Collectors.toList());
+            assertEquals(expected, new ArrayList<>(taskList.listTasksByStatus(isDone)));
+            assertEquals(expected.size(), taskList.countTasksByStatus(isDone));
+            assertEquals(expected, new ArrayList<>(new TaskList(taskList.getList(), false)
+                    .listTasksByStatus(isDone)));
+        }
+    }
+
+    @Test
+    public void findIndexById_afterAddsAndDeletes_sameIdsNewIndexes() {
+        ArrayList<Task> arrayList = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            arrayList.add(new Todo("todo " + i));
+        }
+        arrayList.get(2).setId(7);
+        TaskList taskList = new TaskList(arrayList);
+        assertEquals(List.of(1, 2, 4), taskList.takeUnsavedIdIndexes());
+        assertEquals(0, taskList.takeUnsavedIdIndexes().size());
+
+        Todo todo = new Todo("new todo");
+        taskList.addTask(todo);
+        assertEquals(11, todo.getId());
+        taskList.deleteTask(1);
+        taskList.deleteTask(2);
+
+        assertEquals(0, taskList.findIndexById(8));
+        assertEquals(0, taskList.findIndexById(7));
+        assertEquals(1, taskList.findIndexById(9));
+        assertEquals(2, taskList.findIndexById(10));
+        assertEquals(3, taskList.findIndexById(11));
+        assertEquals("todo 3", taskList.getList().get(taskList.findIndexById(10) - 1).getDescription());
+    }
+
+    @Test
+    public void addTask_idHighWaterMark_newIdsAboveMark() {
+        ArrayList<Task> arrayList = new ArrayList<>(List.of(new Todo("todo 1"), new Todo("todo 2")));
+        arrayList.get(0).setId(1);
+        arrayList.get(1).setId(2);
+
+        Todo todo = new Todo("todo 4");
+        new TaskList(arrayList, 3).addTask(todo);
+        assertEquals(4, todo.getId());
+
+        Todo scannedTodo = new Todo("todo 10");
+        new TaskList(new OnDemandArrayList(arrayList), 9).addTask(scannedTodo);
+        assertEquals(10, scannedTodo.getId());
+    }
+
+    /**
+     * Represents an {@code ArrayList} marked as building its {@code Task}s on demand, so that it is scanned.
+     */
+    private static class OnDemandArrayList extends ArrayList<Task> implements OnDemandTaskList {
+        private OnDemandArrayList(List<Task> tasks) {
+            super(tasks);
+        }
+    }
 }
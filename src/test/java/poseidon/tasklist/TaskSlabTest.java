@@ -0,0 +1,72 @@
+package poseidon.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import poseidon.task.Task;
+import poseidon.task.Todo;
+
+/**
+ * Represents a testing class for {@code TaskSlab}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class TaskSlabTest {
+
+    @Test
+    public void constructor_missingAndDuplicateIds_newIdsAfterLargest() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tasks.add(new Todo("todo " + i));
+        }
+        tasks.get(0).setId(5);
+        tasks.get(2).setId(5);
+        TaskSlab taskSlab = new TaskSlab(tasks);
+
+        assertEquals(5, taskSlab.get(0).getId());
+        assertEquals(6, taskSlab.get(1).getId());
+        assertEquals(7, taskSlab.get(2).getId());
+        assertEquals(List.of(1, 2), taskSlab.takeSlotsWithNewIds());
+    }
+
+    @Test
+    public void remove_manyTasks_positionsMatchArrayList() {
+        TaskSlab taskSlab = new TaskSlab(new ArrayList<>());
+        ArrayList<Task> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Todo todo = new Todo("todo " + i);
+            taskSlab.add(todo);
+            expected.add(todo);
+            if (i % 3 == 2) {
+                assertEquals(expected.remove(i % 7 % expected.size()), taskSlab.remove(i % 7 % taskSlab.size()));
+            }
+        }
+
+        assertEquals(expected, taskSlab);
+        assertEquals(expected, new ArrayList<>(taskSlab));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, taskSlab.indexOfId(expected.get(i).getId()));
+            assertEquals(expected.get(i), taskSlab.getSlot(taskSlab.slotAt(i)));
+        }
+    }
+
+    @Test
+    public void indexOfId_removedTask_noIndexTombstoneLeft() {
+        TaskSlab taskSlab = new TaskSlab(new ArrayList<>());
+        for (int i = 0; i < 3; i++) {
+            taskSlab.add(new Todo("todo " + i));
+        }
+        taskSlab.remove(1);
+
+        assertEquals(-1, taskSlab.indexOfId(2));
+        assertEquals(1, taskSlab.indexOfId(3));
+        assertEquals(2, taskSlab.slotAt(1));
+        assertNull(taskSlab.getSlot(1));
+    }
+}
@@ -0,0 +1,74 @@
+package poseidon.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import poseidon.task.Task;
+import poseidon.task.Todo;
+
+/**
+ * Represents a testing class for {@code TokenIndex}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class TokenIndexTest {
+
+    private static final String[] DESCRIPTIONS = {
+        "read book", "return book to library", "project meeting", "bookkeeping", "team  meeting notes",
+        "read the notes", "call mum", "meet the team"
+    };
+
+    @Test
+    public void findCandidates_wholeAndSubWordTokens_ascendingSupersetOfMatches() {
+        TokenIndex tokenIndex = new TokenIndex();
+        for (int i = 0; i < DESCRIPTIONS.length; i++) {
+            tokenIndex.add(i, DESCRIPTIONS[i]);
+        }
+        assertArrayEquals(new long[] {0, 1, 3}, tokenIndex.findCandidates("book"));
+        assertArrayEquals(new long[] {2, 4, 7}, tokenIndex.findCandidates("mee"));
+        assertArrayEquals(new long[] {4, 7}, tokenIndex.findCandidates("team notes"));
+        assertArrayEquals(new long[] {5, 7}, tokenIndex.findCandidates("ead the no"));
+        assertArrayEquals(new long[0], tokenIndex.findCandidates("read holiday notes"));
+        assertArrayEquals(new long[0], tokenIndex.findCandidates("holiday"));
+        assertNull(tokenIndex.findCandidates("  "));
+    }
+
+    @Test
+    public void remove_lastTaskWithToken_dropToken() {
+        TokenIndex tokenIndex = new TokenIndex();
+        tokenIndex.add(0, "read book");
+        tokenIndex.add(1, "read notes");
+        tokenIndex.remove(0, "read book");
+        assertArrayEquals(new long[] {1}, tokenIndex.findCandidates("read"));
+        assertArrayEquals(new long[0], tokenIndex.findCandidates("book"));
+        assertEquals(2, tokenIndex.countTokens());
+    }
+
+    @Test
+    public void findTasks_indexedList_sameAsScan() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (String description : DESCRIPTIONS) {
+            tasks.add(new Todo(description));
+        }
+        TaskList taskList = new TaskList(tasks);
+        taskList.addTask(new Todo("book club meeting"));
+        taskList.deleteTask(2);
+        taskList.deleteTask(5);
+        taskList.addTask(new Todo("notes on the book"));
+
+        String[] queries = {"book", "oo", "meeting", "team  meeting", "k t", "the notes", "ok to", " ", "zzz", "e",
+            "ook to libr", "ead the no", "meet the tea", "read holiday notes"};
+        for (String query : queries) {
+            assertEquals(taskList.getList().stream()
+                    .filter((task) -> task.hasContent(query))
+                    .collect(Collectors.toList()), taskList.findTasks(query), query);
+        }
+    }
+}
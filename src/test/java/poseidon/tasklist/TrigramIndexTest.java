@@ -0,0 +1,86 @@
+package poseidon.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import poseidon.task.Task;
+import poseidon.task.Todo;
+
+/**
+ * Represents a testing class for {@code TrigramIndex}.
+ *
+ * @author Yeluri Ketan
+ * @version CS2103T AY21/22 Sem 1 iP
+ */
+public class TrigramIndexTest {
+
+    private static final String[] DESCRIPTIONS = {
+        "read book", "return book to library", "project meeting", "bookkeeping", "team  meeting notes",
+        "read the notes", "call mum", "meet the team"
+    };
+
+    @Test
+    public void findCandidates_contentAcrossTokens_holdAllTrigrams() {
+        TrigramIndex trigramIndex = new TrigramIndex(Long.MAX_VALUE);
+        for (int i = 0; i < DESCRIPTIONS.length; i++) {
+            trigramIndex.add(i, DESCRIPTIONS[i]);
+        }
+        assertArrayEquals(new long[] {0, 1, 3}, trigramIndex.findCandidates("book"));
+        assertArrayEquals(new long[] {5}, trigramIndex.findCandidates("ad th"));
+        assertArrayEquals(new long[0], trigramIndex.findCandidates("holiday"));
+        assertNull(trigramIndex.findCandidates("oo"));
+    }
+
+    @Test
+    public void add_overCap_dropPostings() {
+        TrigramIndex trigramIndex = new TrigramIndex(1024);
+        trigramIndex.add(0, "read book");
+        assertTrue(trigramIndex.estimateBytes() > 0);
+        for (int i = 1; !trigramIndex.isOverflowed(); i++) {
+            trigramIndex.add(i, "task number " + i);
+        }
+        assertEquals(0, trigramIndex.estimateBytes());
+        assertEquals(0, trigramIndex.countTrigrams());
+        assertNull(trigramIndex.findCandidates("book"));
+    }
+
+    @Test
+    public void remove_allTasks_releaseMemory() {
+        TrigramIndex trigramIndex = new TrigramIndex(Long.MAX_VALUE);
+        trigramIndex.add(0, "read book");
+        trigramIndex.add(1, "read notes");
+        trigramIndex.remove(0, "read book");
+        assertArrayEquals(new long[] {1}, trigramIndex.findCandidates("read"));
+        trigramIndex.remove(1, "read notes");
+        assertEquals(0, trigramIndex.estimateBytes());
+    }
+
+    @Test
+    public void findTasks_trigramIndexedList_sameAsScan() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (String description : DESCRIPTIONS) {
+            tasks.add(new Todo(description));
+        }
+        TaskList taskList = new TaskList(tasks);
+        taskList.enableTrigramIndex(Long.MAX_VALUE);
+        taskList.addTask(new Todo("book club meeting"));
+        taskList.deleteTask(2);
+        taskList.deleteTask(5);
+        taskList.addTask(new Todo("notes on the book"));
+
+        String[] queries = {"book", "oo", "meeting", "team  meeting", "k t", "the notes", "ok to", " ", "zzz", "e"};
+        for (String query : queries) {
+            assertEquals(taskList.getList().stream()
+                    .filter((task) -> task.hasContent(query))
+                    .collect(Collectors.toList()), taskList.findTasks(query), query);
+        }
+        assertTrue(taskList.describeFindIndex().contains("trigrams"));
+    }
+}